@@ -64,8 +64,8 @@ public class HTTPDownloader extends Validated implements AutoCloseable, Runnable
 
     private final URL url;
     private MutableStringValue downloadDir;
-    private final IntegerValue totalDownloadSize;
-    private final IntegerValue totalBytesDownloaded;
+    private final AtomicIntegerValue totalDownloadSize;
+    private final AtomicIntegerValue totalBytesDownloaded;
     private final EnumValue<DLStatus> status;
     private StringValue errorMessage;
     private final MutableStringValue filename;
@@ -119,8 +119,8 @@ public class HTTPDownloader extends Validated implements AutoCloseable, Runnable
 
         this.url = url;
         this.status = new EnumValue<>(DLStatus.IDLE);
-        this.totalDownloadSize = IntegerValue.of(-1);
-        this.totalBytesDownloaded = IntegerValue.of(0);
+        this.totalDownloadSize = AtomicIntegerValue.of(-1);
+        this.totalBytesDownloaded = AtomicIntegerValue.of(0);
         this.filename = MutableStringValue.EMPTY();
         this.filepath = MutableStringValue.EMPTY();
         this.errorMessage = StringValue.EMPTY;
@@ -139,9 +139,7 @@ public class HTTPDownloader extends Validated implements AutoCloseable, Runnable
      * @return the download's progress
      */
     public FloatValue getProgress() {
-        float progress = totalBytesDownloaded
-                        .divide(totalDownloadSize)
-                        .multiply(100).floatValue();
+        float progress = totalBytesDownloaded.floatValue() / totalDownloadSize.floatValue() * 100;
 
         progress = Float.isNaN(progress) ? 0 : progress;
 
@@ -297,9 +295,10 @@ public class HTTPDownloader extends Validated implements AutoCloseable, Runnable
             stream = connection.getInputStream();
             while (status.equals(DOWNLOADING)) {
                 // Size buffer according to how much of the file is left to download.
-                final byte[] buffer = totalDownloadSize.subtractAndGet(totalBytesDownloaded) > MAX_BUFFER_SIZE
+                final int remaining = totalDownloadSize.intValue() - totalBytesDownloaded.intValue();
+                final byte[] buffer = remaining > MAX_BUFFER_SIZE
                         ? new byte[MAX_BUFFER_SIZE]
-                        : new byte[totalDownloadSize.subtractAndGet(totalBytesDownloaded)];
+                        : new byte[remaining];
 
                 // Read from server into buffer.
                 final int read = stream.read(buffer);
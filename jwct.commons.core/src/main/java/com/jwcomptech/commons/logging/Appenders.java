@@ -24,21 +24,36 @@ package com.jwcomptech.commons.logging;
 
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.ConsoleAppender;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
+import com.jwcomptech.commons.functions.Lazy;
 import lombok.ToString;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
-@Getter
-@AllArgsConstructor
-@ToString
+/**
+ * The standard console appenders, each is created and started the first time it is used
+ * so appenders that are never used cost nothing. Each appender is named after its constant.
+ *
+ * @since 0.0.1
+ */
+@ToString(doNotUseGetters = true)
 public enum Appenders {
     /** A console extender that uses the {@link Encoders#LimitedEncoder}. */
-    LimitedConsoleAppender(LoggingManager.createNewConsoleAppender(Encoders.LimitedEncoder)),
+    LimitedConsoleAppender(Encoders.LimitedEncoder),
     /** A console extender that uses the {@link Encoders#BasicEncoder}. */
-    BasicConsoleAppender(LoggingManager.createNewConsoleAppender(Encoders.BasicEncoder)),
+    BasicConsoleAppender(Encoders.BasicEncoder),
     /** A console extender that uses the {@link Encoders#ExtendedEncoder}. */
-    ExtendedConsoleAppender(LoggingManager.createNewConsoleAppender(Encoders.ExtendedEncoder));
+    ExtendedConsoleAppender(Encoders.ExtendedEncoder);
+
+    private final Lazy<ConsoleAppender<ILoggingEvent>> appender;
+
+    Appenders(final Encoders encoder) {
+        appender = Lazy.of(() -> LoggingManager.createNewConsoleAppender(name(), encoder));
+    }
 
-    private final ConsoleAppender<ILoggingEvent> appender;
+    /**
+     * Returns the appender, it is created on the first call.
+     * @return the appender
+     */
+    public ConsoleAppender<ILoggingEvent> getAppender() {
+        return appender.get();
+    }
 }
@@ -0,0 +1,77 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ServiceLoader;
+
+/**
+ * A compression format for rolled log files, used by the {@link ArchivingRollingPolicy}.
+ * <p>
+ * Gzip is built in, other formats such as zstd can be added by a library that provides this
+ * interface through the {@link ServiceLoader}, e.g. {@code provides
+ * com.jwcomptech.commons.logging.ArchiveCompressor with com.example.ZstdArchiveCompressor;}
+ * in its module descriptor, and are then available through {@link #forName(String)}.
+ *
+ * @since 0.0.1
+ */
+public interface ArchiveCompressor {
+    /**
+     * Returns the name of the format used to look it up, e.g. "gzip".
+     * @return the name of the format
+     */
+    String getName();
+
+    /**
+     * Returns the file extension appended to compressed files without the dot, e.g. "gz".
+     * @return the file extension
+     */
+    String getExtension();
+
+    /**
+     * Compresses the input into the output, the streams are closed by the caller.
+     * @param input the uncompressed content
+     * @param output the stream to write the compressed content to
+     * @throws IOException if an I/O error occurs
+     */
+    void compress(InputStream input, OutputStream output) throws IOException;
+
+    /**
+     * Returns the compressor with the specified name, the built-in gzip compressor or
+     * one provided through the {@link ServiceLoader}.
+     * @param name the name of the format, case-insensitive
+     * @return the compressor
+     * @throws IllegalArgumentException if no compressor with the name is available
+     */
+    static @NotNull ArchiveCompressor forName(final @NotNull String name) {
+        if (GzipArchiveCompressor.NAME.equalsIgnoreCase(name)) return new GzipArchiveCompressor();
+        for (final ArchiveCompressor compressor : ServiceLoader.load(ArchiveCompressor.class)) {
+            if (compressor.getName().equalsIgnoreCase(name)) return compressor;
+        }
+        throw new IllegalArgumentException("No ArchiveCompressor available for: " + name);
+    }
+}
@@ -0,0 +1,261 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.core.rolling.helper.FileNamePattern;
+import ch.qos.logback.core.spi.ContextAwareBase;
+import ch.qos.logback.core.util.FileSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Compresses rolled log files and enforces the archive limits on a background thread
+ * for the archiving rolling policies.
+ * <p>
+ * Archives are tracked in memory in the order they were created. The directory is only listed
+ * once when started, after that every archived file is added to the tracked archives and the
+ * oldest archives are deleted while the total size is above the size cap or the number of
+ * archives is above the max archive count.
+ *
+ * @since 0.0.1
+ */
+final class ArchiveManager {
+    /** The maximum time to wait for pending archive jobs when stopped. */
+    private static final long STOP_TIMEOUT_SECONDS = 30;
+
+    private record Archive(Path path, long size) { }
+
+    private final ContextAwareBase owner;
+    private final Deque<Archive> archives = new ArrayDeque<>();
+    private long archivesSize;
+    private volatile ArchiveCompressor compressor;
+    private volatile long archiveSizeCap;
+    private volatile int maxArchiveCount;
+    private volatile ExecutorService executor;
+
+    ArchiveManager(final ContextAwareBase owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Starts the background thread and tracks the archives of previous runs.
+     * @param fileNamePattern the file name pattern of the rolling policy
+     * @param activeFileName the name of the file currently written
+     * @param cleanHistoryOnStart if the policy was set to clean history on start, which has no effect here
+     */
+    void start(final String fileNamePattern, final String activeFileName, final boolean cleanHistoryOnStart) {
+        if (cleanHistoryOnStart) {
+            owner.addWarn("cleanHistoryOnStart has no effect, archives of previous runs are always pruned when started");
+        }
+        executor = Executors.newSingleThreadExecutor(runnable -> Thread.ofPlatform()
+                .name("log-archiver")
+                .daemon()
+                .unstarted(runnable));
+        executor.execute(() -> loadExistingArchives(fileNamePattern, activeFileName));
+    }
+
+    /** Waits for the pending archive jobs and stops the background thread. */
+    void stop() {
+        final ExecutorService current = executor;
+        if (current == null) return;
+        executor = null;
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                owner.addWarn("Timed out waiting for log archive jobs to finish");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Compresses and tracks the specified rolled file on the background thread,
+     * files rolled while stopped are left as they are.
+     * @param rolledFileName the name of the rolled file
+     */
+    void archive(final String rolledFileName) {
+        final ExecutorService current = executor;
+        if (current == null) {
+            owner.addWarn(rolledFileName + " was rolled while the policy is stopped, it is not archived");
+            return;
+        }
+        final Path rolled = Path.of(rolledFileName);
+        try {
+            current.execute(() -> archiveNow(rolled));
+        } catch (final RejectedExecutionException e) {
+            owner.addWarn(rolledFileName + " was rolled while the policy is stopped, it is not archived");
+        }
+    }
+
+    private void archiveNow(final Path rolled) {
+        try {
+            if (!Files.exists(rolled)) return;
+            final Path archive = compressor == null ? rolled : compress(rolled, compressor);
+            synchronized (archives) {
+                final long size = Files.size(archive);
+                archives.addLast(new Archive(archive, size));
+                archivesSize += size;
+                enforceLimits();
+            }
+        } catch (final IOException | RuntimeException e) {
+            owner.addError("Failed to archive " + rolled, e);
+        }
+    }
+
+    private static Path compress(final Path rolled, final ArchiveCompressor compressor) throws IOException {
+        Path target = rolled.resolveSibling(rolled.getFileName() + "." + compressor.getExtension());
+        if (Files.exists(target)) {
+            target = rolled.resolveSibling(rolled.getFileName() + "." + System.currentTimeMillis()
+                    + "." + compressor.getExtension());
+        }
+        try (InputStream input = Files.newInputStream(rolled);
+             OutputStream output = Files.newOutputStream(target)) {
+            compressor.compress(input, output);
+        } catch (final IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+        Files.delete(rolled);
+        return target;
+    }
+
+    /** Deletes the oldest archives until the limits are met, the caller holds the archives lock. */
+    private void enforceLimits() {
+        final long sizeCap = archiveSizeCap;
+        final int maxCount = maxArchiveCount;
+        while (!archives.isEmpty()
+                && ((sizeCap > 0 && archivesSize > sizeCap) || (maxCount > 0 && archives.size() > maxCount))) {
+            final Archive oldest = archives.removeFirst();
+            archivesSize -= oldest.size();
+            try {
+                Files.deleteIfExists(oldest.path());
+            } catch (final IOException e) {
+                owner.addWarn("Failed to delete archive " + oldest.path(), e);
+            }
+        }
+    }
+
+    /**
+     * Lists the archive directory once to track the archives of previous runs, archives in
+     * directories named after the date are not tracked.
+     */
+    private void loadExistingArchives(final String fileNamePattern, final String activeFileName) {
+        final String pattern = fileNamePattern.replace('\\', '/');
+        final int slash = pattern.lastIndexOf('/');
+        final String directoryPattern = slash < 0 ? "." : pattern.substring(0, slash);
+        if (directoryPattern.contains("%")) {
+            owner.addWarn("Archives of previous runs in " + directoryPattern
+                    + " are not tracked or pruned, the directory must not contain conversion words");
+            return;
+        }
+        final Path directory = Path.of(directoryPattern.isEmpty() ? "/" : directoryPattern);
+        if (!Files.isDirectory(directory)) return;
+
+        final ArchiveCompressor archiveCompressor = compressor;
+        final String suffix = archiveCompressor == null
+                ? "" : "(\\.\\d+)?\\." + Pattern.quote(archiveCompressor.getExtension());
+        final Pattern archiveName = Pattern.compile(
+                new FileNamePattern(pattern.substring(slash + 1), owner.getContext()).toRegex()
+                        + (suffix.isEmpty() ? "" : "(" + suffix + ")?"));
+        final Path active = activeFileName == null ? null : Path.of(activeFileName).toAbsolutePath();
+
+        final List<Archive> existing = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> archiveName.matcher(file.getFileName().toString()).matches())
+                    .filter(file -> !file.toAbsolutePath().equals(active))
+                    .sorted(Comparator.comparingLong(ArchiveManager::lastModified))
+                    .forEach(file -> existing.add(new Archive(file, file.toFile().length())));
+        } catch (final IOException e) {
+            owner.addWarn("Failed to list archives in " + directory, e);
+            return;
+        }
+        synchronized (archives) {
+            for (final Archive archive : existing.reversed()) {
+                archives.addFirst(archive);
+                archivesSize += archive.size();
+            }
+            enforceLimits();
+        }
+    }
+
+    private static long lastModified(final Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class).lastModifiedTime().toMillis();
+        } catch (final IOException e) {
+            return 0;
+        }
+    }
+
+    long getArchivesSize() {
+        synchronized (archives) {
+            return archivesSize;
+        }
+    }
+
+    int getArchiveCount() {
+        synchronized (archives) {
+            return archives.size();
+        }
+    }
+
+    ArchiveCompressor getCompressor() {
+        return compressor;
+    }
+
+    void setCompressor(final ArchiveCompressor compressor) {
+        this.compressor = compressor;
+    }
+
+    long getArchiveSizeCap() {
+        return archiveSizeCap;
+    }
+
+    void setArchiveSizeCap(final FileSize archiveSizeCap) {
+        this.archiveSizeCap = archiveSizeCap == null ? 0 : archiveSizeCap.getSize();
+    }
+
+    int getMaxArchiveCount() {
+        return maxArchiveCount;
+    }
+
+    void setMaxArchiveCount(final int maxArchiveCount) {
+        this.maxArchiveCount = Math.max(0, maxArchiveCount);
+    }
+}
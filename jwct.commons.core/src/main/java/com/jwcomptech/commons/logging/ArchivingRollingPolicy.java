@@ -0,0 +1,137 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.rolling.RolloverFailure;
+import ch.qos.logback.core.rolling.TimeBasedRollingPolicy;
+import ch.qos.logback.core.util.FileSize;
+
+/**
+ * A {@link TimeBasedRollingPolicy} that compresses rolled files and enforces the archive limits in the background.
+ * <p>
+ * A rollover only renames the active file, compressing it with an {@link ArchiveCompressor} and
+ * deleting the oldest archives above the size cap or max archive count happens on a background
+ * thread so the logging threads never wait for it. The archive directory is only listed once
+ * when the policy starts.
+ *
+ * @apiNote Built by {@link LoggingManager.TimeBasedRollingPolicyBuilder} when a compressor or total size cap is set.
+ * The file name pattern must not end with a compression suffix such as ".gz".
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public final class ArchivingRollingPolicy extends TimeBasedRollingPolicy<ILoggingEvent> {
+    private final ArchiveManager archiveManager = new ArchiveManager(this);
+
+    @Override
+    public void start() {
+        super.start();
+        if (isStarted()) archiveManager.start(getFileNamePattern(), getParentsRawFileProperty(), isCleanHistoryOnStart());
+    }
+
+    @Override
+    public void stop() {
+        archiveManager.stop();
+        super.stop();
+    }
+
+    @Override
+    public void rollover() throws RolloverFailure {
+        final String rolledFileName = getTimeBasedFileNamingAndTriggeringPolicy().getElapsedPeriodsFileName();
+        super.rollover();
+        archiveManager.archive(rolledFileName);
+    }
+
+    /**
+     * Returns the total size in bytes of the tracked archives.
+     * @return the total size of the archives
+     */
+    public long getArchivesSize() {
+        return archiveManager.getArchivesSize();
+    }
+
+    /**
+     * Returns the number of tracked archives.
+     * @return the number of archives
+     */
+    public int getArchiveCount() {
+        return archiveManager.getArchiveCount();
+    }
+
+    /**
+     * Returns the compressor used for rolled files.
+     * @return the compressor or null if rolled files are not compressed
+     */
+    public ArchiveCompressor getCompressor() {
+        return archiveManager.getCompressor();
+    }
+
+    /**
+     * Sets the compressor used for rolled files.
+     * @param compressor the compressor to set or null to keep rolled files uncompressed
+     */
+    public void setCompressor(final ArchiveCompressor compressor) {
+        archiveManager.setCompressor(compressor);
+    }
+
+    /**
+     * Sets the compressor used for rolled files by name, for use in logback configuration files.
+     * @param compression the name of the compressor, e.g. "gzip"
+     */
+    public void setCompression(final String compression) {
+        archiveManager.setCompressor(ArchiveCompressor.forName(compression));
+    }
+
+    /**
+     * Returns the maximum total size in bytes of the archives.
+     * @return the size cap or 0 if unlimited
+     */
+    public long getArchiveSizeCap() {
+        return archiveManager.getArchiveSizeCap();
+    }
+
+    /**
+     * Sets the maximum total size of the archives, the oldest archives are deleted first.
+     * @param archiveSizeCap the value to set or null for unlimited
+     */
+    public void setArchiveSizeCap(final FileSize archiveSizeCap) {
+        archiveManager.setArchiveSizeCap(archiveSizeCap);
+    }
+
+    /**
+     * Returns the maximum number of archives to keep.
+     * @return the max archive count or 0 if unlimited
+     */
+    public int getMaxArchiveCount() {
+        return archiveManager.getMaxArchiveCount();
+    }
+
+    /**
+     * Sets the maximum number of archives to keep, the oldest archives are deleted first.
+     * @param maxArchiveCount the value to set, 0 or less for unlimited
+     */
+    public void setMaxArchiveCount(final int maxArchiveCount) {
+        archiveManager.setMaxArchiveCount(maxArchiveCount);
+    }
+}
@@ -0,0 +1,304 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * An appender that hands events to a delegate appender on a single background thread
+ * through a bounded, lock-free ring buffer so that logging threads never wait on I/O.
+ * <p>
+ * When the free space in the buffer drops below the discarding threshold, events at or
+ * below the discard level are dropped. When the buffer is full the remaining events either
+ * wait for space or, if never block is enabled, are dropped. The number of queued and
+ * discarded events can be read at any time, and stopping the appender flushes the buffer
+ * to the delegate for up to the max flush time.
+ *
+ * @apiNote Use {@link LoggingManager#getAsyncAppenderBuilder()} to create a new instance.
+ * The delegate appender is stopped when this appender is stopped.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public final class AsyncRingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+    /** The default capacity of the ring buffer. */
+    public static final int DEFAULT_CAPACITY = 8192;
+    /** The default time to wait for the buffer to be flushed when stopping. */
+    public static final Duration DEFAULT_MAX_FLUSH_TIME = Duration.ofSeconds(1);
+    // Time the drain thread parks for while the buffer is empty, producers unpark it on every offer.
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+    // Number of times a producer spins on a full buffer before it starts to park.
+    private static final int FULL_SPIN_TRIES = 64;
+    // Bounds of the backoff a producer parks for while the buffer stays full.
+    private static final long MIN_FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long MAX_FULL_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Appender<ILoggingEvent> appender;
+    private final MpscRingBuffer<ILoggingEvent> buffer;
+    private final int discardingThreshold;
+    private final Level discardLevel;
+    private final boolean neverBlock;
+    private final boolean includeCallerData;
+    private final Duration maxFlushTime;
+    private final boolean flushOnShutdown;
+    private final LongAdder discardedCount = new LongAdder();
+    private final LongAdder appendedCount = new LongAdder();
+
+    private volatile Thread worker;
+    private volatile boolean workerParked;
+    private Thread shutdownHook;
+
+    AsyncRingBufferAppender(final @NotNull Appender<ILoggingEvent> appender,
+                            final int capacity,
+                            final int discardingThreshold,
+                            final Level discardLevel,
+                            final boolean neverBlock,
+                            final boolean includeCallerData,
+                            final Duration maxFlushTime,
+                            final boolean flushOnShutdown) {
+        checkArgumentNotNull(appender, cannotBeNull("appender"));
+        this.appender = appender;
+        this.buffer = new MpscRingBuffer<>(capacity);
+        this.discardingThreshold = discardingThreshold;
+        this.discardLevel = discardLevel;
+        this.neverBlock = neverBlock;
+        this.includeCallerData = includeCallerData;
+        this.maxFlushTime = maxFlushTime;
+        this.flushOnShutdown = flushOnShutdown;
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) return;
+        if (!appender.isStarted()) appender.start();
+
+        super.start();
+        final Thread thread = new Thread(this::drain, "AsyncRingBufferAppender-Worker-" + getName());
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+
+        if (flushOnShutdown) {
+            shutdownHook = new Thread(this::stop, "AsyncRingBufferAppender-Shutdown-" + getName());
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) return;
+        super.stop();
+
+        final Thread thread = worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(maxFlushTime.toMillis());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (thread.isAlive()) {
+                addWarn("Max flush time of " + maxFlushTime + " exceeded, " + buffer.size() + " events were not flushed.");
+            }
+        }
+
+        if (shutdownHook != null && Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (final IllegalStateException ignored) {
+                //The JVM is already shutting down
+            }
+        }
+        appender.stop();
+    }
+
+    @Override
+    protected void append(final ILoggingEvent event) {
+        if (isDiscardable(event)) {
+            discardedCount.increment();
+            return;
+        }
+
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) event.getCallerData();
+
+        int tries = 0;
+        long parkNanos = MIN_FULL_PARK_NANOS;
+        while (!buffer.offer(event)) {
+            if (neverBlock || !isStarted()) {
+                discardedCount.increment();
+                return;
+            }
+            wakeWorker();
+            if (tries < FULL_SPIN_TRIES) {
+                tries++;
+                Thread.onSpinWait();
+            } else {
+                //Park instead of spinning so a slow delegate does not starve the drain thread
+                LockSupport.parkNanos(this, parkNanos);
+                parkNanos = Math.min(parkNanos << 1, MAX_FULL_PARK_NANOS);
+            }
+        }
+        appendedCount.increment();
+        wakeWorker();
+    }
+
+    private boolean isDiscardable(final @NotNull ILoggingEvent event) {
+        return discardingThreshold > 0
+                && buffer.capacity() - buffer.size() < discardingThreshold
+                && event.getLevel().toInt() <= discardLevel.toInt();
+    }
+
+    private void wakeWorker() {
+        if (workerParked) LockSupport.unpark(worker);
+    }
+
+    private void drain() {
+        while (true) {
+            final ILoggingEvent event = buffer.poll();
+            if (event != null) {
+                try {
+                    appender.doAppend(event);
+                } catch (final RuntimeException e) {
+                    addError("Delegate appender failed.", e);
+                }
+                continue;
+            }
+            if (!isStarted()) return;
+
+            //The flag is set before the buffer is checked again and producers read it after
+            //offering, so an offer always either is seen here or unparks the worker
+            workerParked = true;
+            if (buffer.isEmpty() && isStarted()) LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            workerParked = false;
+        }
+    }
+
+    /**
+     * Returns the delegate appender.
+     * @return the delegate appender
+     */
+    public Appender<ILoggingEvent> getAppender() {
+        return appender;
+    }
+
+    /**
+     * Returns the number of events waiting to be written.
+     * @return the current queue depth
+     */
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    /**
+     * Returns the capacity of the ring buffer.
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Returns the number of events that can be queued before the buffer is full.
+     * @return the remaining capacity
+     */
+    public int getRemainingCapacity() {
+        return buffer.capacity() - buffer.size();
+    }
+
+    /**
+     * Returns the number of events that were discarded.
+     * @return the number of discarded events
+     */
+    public long getDiscardedCount() {
+        return discardedCount.sum();
+    }
+
+    /**
+     * Returns the number of events that were queued.
+     * @return the number of queued events
+     */
+    public long getAppendedCount() {
+        return appendedCount.sum();
+    }
+
+    /**
+     * Returns the free space below which events at or below the discard level are dropped.
+     * @return the discarding threshold
+     */
+    public int getDiscardingThreshold() {
+        return discardingThreshold;
+    }
+
+    /**
+     * Returns the highest level that is dropped when the buffer is nearly full.
+     * @return the discard level
+     */
+    public Level getDiscardLevel() {
+        return discardLevel;
+    }
+
+    /**
+     * Checks if events are dropped instead of waiting when the buffer is full.
+     * @return true if events are dropped when the buffer is full
+     */
+    public boolean isNeverBlock() {
+        return neverBlock;
+    }
+
+    /**
+     * Checks if the caller data is extracted before queueing each event.
+     * @return true if the caller data is included
+     */
+    public boolean isIncludeCallerData() {
+        return includeCallerData;
+    }
+
+    /**
+     * Returns the time to wait for the buffer to be flushed when stopping.
+     * @return the max flush time
+     */
+    public Duration getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    /**
+     * Checks if a shutdown hook stops and flushes this appender.
+     * @return true if flushed on shutdown
+     */
+    public boolean isFlushOnShutdown() {
+        return flushOnShutdown;
+    }
+}
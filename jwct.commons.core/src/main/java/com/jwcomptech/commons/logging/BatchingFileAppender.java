@@ -0,0 +1,276 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * A file appender that collects encoded events in a reusable direct buffer and writes
+ * them to a {@link FileChannel} in large batches.
+ * <p>
+ * The buffer is written when it is full and on every flush interval, so the number of
+ * system calls is independent of the number of events. How often the file is forced to
+ * the storage device is controlled by the {@link Durability}.
+ *
+ * @apiNote Use {@link LoggingManager#getBatchingFileAppenderBuilder()} to create a new instance.
+ * Events still in the buffer are lost if the JVM exits before {@link #stop()} is called,
+ * which happens when the logger context is stopped.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public final class BatchingFileAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+    /** The default size in bytes of the write buffer. */
+    public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+    /** The default interval at which the buffer is written to the file. */
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+    /** Controls how often the file is forced to the storage device. */
+    public enum Durability {
+        /** The file is never forced, the operating system decides when to write it to the device. */
+        BUFFERED,
+        /** The file is forced on every flush interval. */
+        FSYNC_PERIODIC,
+        /** The file is forced after every batch is written. */
+        FSYNC_EVERY_BATCH
+    }
+
+    private final Path file;
+    private final boolean append;
+    private final Encoder<ILoggingEvent> encoder;
+    private final ByteBuffer buffer;
+    private final Duration flushInterval;
+    private final Durability durability;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private FileChannel channel;
+    private ScheduledExecutorService flusher;
+    private ScheduledFuture<?> flushTask;
+    private boolean dirty;
+
+    BatchingFileAppender(final @NotNull Path file,
+                         final boolean append,
+                         final @NotNull Encoder<ILoggingEvent> encoder,
+                         final int bufferSize,
+                         final @NotNull Duration flushInterval,
+                         final @NotNull Durability durability) {
+        checkArgumentNotNull(file, cannotBeNull("file"));
+        checkArgumentNotNull(encoder, cannotBeNull("encoder"));
+        this.file = file;
+        this.append = append;
+        this.encoder = encoder;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.flushInterval = flushInterval;
+        this.durability = durability;
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) return;
+        try {
+            final Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            channel = append
+                    ? FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)
+                    : FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (final IOException e) {
+            addError("Failed to open file " + file, e);
+            return;
+        }
+
+        if (!encoder.isStarted()) encoder.start();
+        write(encoder.headerBytes());
+
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "BatchingFileAppender-Flusher-" + getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long intervalNanos = flushInterval.toNanos();
+        flushTask = flusher.scheduleWithFixedDelay(this::flush, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) return;
+        super.stop();
+        flushTask.cancel(false);
+        flusher.shutdown();
+
+        lock.lock();
+        try {
+            try {
+                write(encoder.footerBytes());
+                writeBuffer();
+                channel.force(false);
+            } finally {
+                channel.close();
+            }
+        } catch (final IOException e) {
+            addError("Failed to close file " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected void append(final ILoggingEvent event) {
+        write(encoder.encode(event));
+    }
+
+    /**
+     * Writes the buffered events to the file and forces them to the device
+     * unless the durability is {@link Durability#BUFFERED}.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            if (channel == null || !channel.isOpen()) return;
+            writeBuffer();
+            if (dirty && durability != Durability.BUFFERED) {
+                channel.force(false);
+                dirty = false;
+            }
+        } catch (final IOException e) {
+            addError("Failed to flush file " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(final byte[] bytes) {
+        if (bytes == null || bytes.length == 0) return;
+
+        lock.lock();
+        try {
+            if (channel == null || !channel.isOpen()) {
+                addWarn("Dropped " + bytes.length + " bytes written after file " + file + " was closed");
+                return;
+            }
+            if (bytes.length > buffer.remaining()) {
+                writeBuffer();
+                if (bytes.length > buffer.capacity()) {
+                    writeFully(ByteBuffer.wrap(bytes));
+                    return;
+                }
+            }
+            buffer.put(bytes);
+        } catch (final IOException e) {
+            addError("Failed to write to file " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Must be called while holding the lock.
+    private void writeBuffer() throws IOException {
+        if (buffer.position() == 0) return;
+        buffer.flip();
+        try {
+            writeFully(buffer);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    // Must be called while holding the lock.
+    private void writeFully(final ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+        dirty = true;
+        if (durability == Durability.FSYNC_EVERY_BATCH) {
+            channel.force(false);
+            dirty = false;
+        }
+    }
+
+    /**
+     * Returns the path of the log file.
+     * @return the path of the log file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the encoder used to encode the events.
+     * @return the encoder
+     */
+    public Encoder<ILoggingEvent> getEncoder() {
+        return encoder;
+    }
+
+    /**
+     * Returns the size in bytes of the write buffer.
+     * @return the buffer size
+     */
+    public int getBufferSize() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Returns the interval at which the buffer is written to the file.
+     * @return the flush interval
+     */
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * Returns how often the file is forced to the storage device.
+     * @return the durability
+     */
+    public Durability getDurability() {
+        return durability;
+    }
+
+    /**
+     * Checks if events are appended to an existing file instead of truncating it.
+     * @return true if appending
+     */
+    public boolean isAppend() {
+        return append;
+    }
+}
@@ -0,0 +1,153 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * A growable byte buffer reused by a single thread, used by the encoders to build
+ * an event without intermediate strings.
+ * <p>
+ * Every sink returned by {@link #get()} must be given back with {@link #release()}.
+ * Encoding can run user code, such as the {@code toString()} of a message argument, that logs
+ * on the same thread, so while the thread's sink is in use a nested call gets a new sink
+ * instead of overwriting the outer event.
+ *
+ * @since 0.0.1
+ */
+final class ByteSink {
+    /** The buffer size each thread starts with, larger buffers are released after use. */
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<ByteSink> SINK = ThreadLocal.withInitial(ByteSink::new);
+
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int length;
+    private boolean inUse;
+
+    private ByteSink() { }
+
+    /**
+     * Returns the empty sink of the current thread, or a new sink if it is already in use.
+     * @return an empty sink that must be released after use
+     */
+    static @NotNull ByteSink get() {
+        final ByteSink sink = SINK.get();
+        if (sink.inUse) return new ByteSink();
+        sink.inUse = true;
+        sink.length = 0;
+        return sink;
+    }
+
+    /** Gives this sink back so the next call to {@link #get()} on this thread can reuse it. */
+    void release() {
+        inUse = false;
+    }
+
+    private void ensureCapacity(final int additional) {
+        if (length + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, length + additional));
+        }
+    }
+
+    void put(final byte value) {
+        ensureCapacity(1);
+        buffer[length++] = value;
+    }
+
+    void put(final byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    /**
+     * Writes the digits of the specified value padded with zeros to the specified width.
+     * @param value the non-negative value to write
+     * @param width the minimum number of digits
+     */
+    void putDigits(final long value, final int width) {
+        int digits = 1;
+        for (long remaining = value / 10; remaining > 0; remaining /= 10) digits++;
+        final int count = Math.max(digits, width);
+        ensureCapacity(count);
+        long remaining = value;
+        for (int i = length + count - 1; i >= length; i--) {
+            buffer[i] = (byte) ('0' + (remaining % 10));
+            remaining /= 10;
+        }
+        length += count;
+    }
+
+    void putUtf8(final String value) {
+        putUtf8(value, 0, value.length());
+    }
+
+    /**
+     * Writes the UTF-8 bytes of the specified range of chars, unpaired surrogates are written as '?'.
+     * @param value the string to write
+     * @param from the index of the first char, inclusive
+     * @param to the index of the last char, exclusive
+     */
+    void putUtf8(final String value, final int from, final int to) {
+        ensureCapacity((to - from) * 3);
+        final byte[] buf = buffer;
+        int pos = length;
+        for (int i = from; i < to; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                buf[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < to
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, value.charAt(++i));
+                buf[pos++] = (byte) (0xF0 | (cp >> 18));
+                buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buf[pos++] = (byte) '?';
+            } else {
+                buf[pos++] = (byte) (0xE0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        length = pos;
+    }
+
+    /**
+     * Copies the content into a new array and releases the buffer if it grew too large.
+     * @return the content of this sink
+     */
+    byte[] toByteArray() {
+        final byte[] bytes = Arrays.copyOf(buffer, length);
+        if (buffer.length > MAX_RETAINED_BUFFER_SIZE) buffer = new byte[INITIAL_BUFFER_SIZE];
+        return bytes;
+    }
+}
@@ -0,0 +1,188 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+
+/**
+ * A turbo filter that drops repeated events with the same message format within a time window
+ * and logs a summary with the number of dropped events once the window ends.
+ * <p>
+ * Recent formats are tracked in a fixed-size table indexed by the hash of the format, each slot
+ * counts its repetitions with an {@link AtomicLong}, so dropping a duplicate neither locks nor
+ * allocates. Formats sharing a slot evict each other, which only lets a duplicate through early.
+ *
+ * @apiNote Attach it with {@link LoggerConfig#addTurboFilter(LoggerScopedTurboFilter)}.
+ * The summary is logged by the next event that reuses the slot, so it is delayed until
+ * the format is logged again or another format takes its slot.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public final class DuplicateSuppressingTurboFilter extends LoggerScopedTurboFilter {
+    /** The default time window in milliseconds in which repeated events are dropped. */
+    public static final long DEFAULT_WINDOW_MILLIS = 10_000;
+    /** The default number of tracked message formats. */
+    public static final int DEFAULT_CACHE_SIZE = 256;
+    /** The message format of the summary logged when a window ends. */
+    public static final String SUMMARY_FORMAT = "Suppressed {} duplicate(s) of: {}";
+
+    private static final String FQCN = DuplicateSuppressingTurboFilter.class.getName();
+
+    private static final class Slot {
+        private final String format;
+        private final Logger logger;
+        private final Level level;
+        private final long windowStart;
+        private final AtomicLong count = new AtomicLong(1);
+
+        private Slot(final String format, final Logger logger, final Level level, final long windowStart) {
+            this.format = format;
+            this.logger = logger;
+            this.level = level;
+            this.windowStart = windowStart;
+        }
+    }
+
+    private final LongAdder suppressedCount = new LongAdder();
+    private AtomicReferenceArray<Slot> slots = new AtomicReferenceArray<>(DEFAULT_CACHE_SIZE);
+    private volatile long windowNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_WINDOW_MILLIS);
+    private volatile int allowedRepetitions;
+    private int cacheSize = DEFAULT_CACHE_SIZE;
+
+    /** Creates a new filter with the default window that drops every repetition. */
+    public DuplicateSuppressingTurboFilter() { }
+
+    /**
+     * Creates a new filter with the specified window and allowed repetitions.
+     * @param windowMillis the time window in milliseconds
+     * @param allowedRepetitions the number of repetitions logged before events are dropped
+     */
+    public DuplicateSuppressingTurboFilter(final long windowMillis, final int allowedRepetitions) {
+        setWindowMillis(windowMillis);
+        setAllowedRepetitions(allowedRepetitions);
+    }
+
+    @Override
+    public void start() {
+        slots = new AtomicReferenceArray<>(Integer.highestOneBit(Math.max(1, cacheSize - 1)) << 1);
+        super.start();
+    }
+
+    @Override
+    protected FilterReply decideInScope(final Logger logger, final Level level, final String format,
+                                        final Object[] params, final Throwable t) {
+        if (SUMMARY_FORMAT.equals(format)) return FilterReply.NEUTRAL;
+        final AtomicReferenceArray<Slot> table = slots;
+        final int index = format.hashCode() & (table.length() - 1);
+        final long now = System.nanoTime();
+        final Slot slot = table.get(index);
+        if (slot != null && now - slot.windowStart < windowNanos && slot.format.equals(format)) {
+            if (slot.count.incrementAndGet() > allowedRepetitions + 1L) {
+                suppressedCount.increment();
+                return FilterReply.DENY;
+            }
+            return FilterReply.NEUTRAL;
+        }
+
+        if (table.compareAndSet(index, slot, new Slot(format, logger, level, now)) && slot != null) {
+            final long suppressed = slot.count.get() - (allowedRepetitions + 1L);
+            if (suppressed > 0) {
+                slot.logger.log(null, FQCN, Level.toLocationAwareLoggerInteger(slot.level),
+                        SUMMARY_FORMAT, new Object[] {suppressed, slot.format}, null);
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    /**
+     * Returns the number of events dropped by this filter.
+     * @return the number of dropped events
+     */
+    public long getSuppressedCount() {
+        return suppressedCount.sum();
+    }
+
+    /**
+     * Returns the time window in milliseconds in which repeated events are dropped.
+     * @return the time window in milliseconds
+     */
+    public long getWindowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(windowNanos);
+    }
+
+    /**
+     * Sets the time window in milliseconds in which repeated events are dropped.
+     * @apiNote The default is {@link #DEFAULT_WINDOW_MILLIS}.
+     * @param windowMillis the value to set
+     */
+    public void setWindowMillis(final long windowMillis) {
+        checkArgument(windowMillis > 0, "WindowMillis Must Be Greater Than 0!");
+        windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+    }
+
+    /**
+     * Returns the number of repetitions logged in a window before events are dropped.
+     * @return the number of allowed repetitions
+     */
+    public int getAllowedRepetitions() {
+        return allowedRepetitions;
+    }
+
+    /**
+     * Sets the number of repetitions logged in a window before events are dropped.
+     * @apiNote The default is 0 which only logs the first event.
+     * @param allowedRepetitions the value to set
+     */
+    public void setAllowedRepetitions(final int allowedRepetitions) {
+        checkArgument(allowedRepetitions >= 0, "AllowedRepetitions Must Not Be Negative!");
+        this.allowedRepetitions = allowedRepetitions;
+    }
+
+    /**
+     * Returns the number of tracked message formats.
+     * @return the cache size
+     */
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Sets the number of tracked message formats, rounded up to a power of two when started.
+     * @apiNote The default is {@link #DEFAULT_CACHE_SIZE}.
+     * @param cacheSize the value to set
+     */
+    public void setCacheSize(final int cacheSize) {
+        checkArgument(cacheSize > 0, "CacheSize Must Be Greater Than 0!");
+        this.cacheSize = cacheSize;
+    }
+}
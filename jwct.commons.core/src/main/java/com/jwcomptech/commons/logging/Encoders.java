@@ -23,34 +23,60 @@ package com.jwcomptech.commons.logging;
  */
 
 import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
+import com.jwcomptech.commons.functions.Lazy;
 import lombok.ToString;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
-@Getter
-@AllArgsConstructor
-@ToString
+/**
+ * The standard encoders, each is created and started the first time it is used
+ * so encoders that are never used cost nothing.
+ *
+ * @since 0.0.1
+ */
+@ToString(doNotUseGetters = true)
 public enum Encoders {
     /**
      * A {@link PatternLayoutEncoder} with the pattern "%msg%n".
-     * @apiNote This encoder is automatically started after initialization.
+     * @apiNote This encoder is automatically started when it is first used.
      */
-    LimitedEncoder(LoggingManager.createNewLogEncoder("%msg%n")),
+    LimitedEncoder("%msg%n", PrecompiledEncoder.Format.LIMITED),
     /**
      * A {@link PatternLayoutEncoder} with the pattern
      * "%-12d{YYYY-MM-dd HH:mm:ss} %level %logger{0} - %msg%n".
-     * @apiNote This encoder is automatically started after initialization.
+     * @apiNote This encoder is automatically started when it is first used.
      */
-    BasicEncoder(LoggingManager.createNewLogEncoder("%-12d{YYYY-MM-dd HH:mm:ss} %level %logger{0} - %msg%n")),
+    BasicEncoder("%-12d{YYYY-MM-dd HH:mm:ss} %level %logger{0} - %msg%n", PrecompiledEncoder.Format.BASIC),
     /**
      * A {@link PatternLayoutEncoder} with the pattern
      * "%-12d{YYYY-MM-dd HH:mm:ss.SSS} [%thread] %level %logger{100} - %msg%n".
-     * @apiNote This encoder is automatically started after initialization.
+     * @apiNote This encoder is automatically started when it is first used.
      */
-    ExtendedEncoder(LoggingManager.createNewLogEncoder(
-            "%-12d{YYYY-MM-dd HH:mm:ss.SSS} [%thread] %level %logger{100} - %msg%n"))
+    ExtendedEncoder("%-12d{YYYY-MM-dd HH:mm:ss.SSS} [%thread] %level %logger{100} - %msg%n",
+            PrecompiledEncoder.Format.EXTENDED)
     ;
 
-    private final PatternLayoutEncoder encoder;
+    private final Lazy<PatternLayoutEncoder> encoder;
+    private final Lazy<PrecompiledEncoder> precompiledEncoder;
+
+    Encoders(final String pattern, final PrecompiledEncoder.Format format) {
+        encoder = Lazy.of(() -> LoggingManager.createNewLogEncoder(pattern));
+        precompiledEncoder = Lazy.of(() -> LoggingManager.createNewPrecompiledEncoder(format));
+    }
+
+    /**
+     * Returns the pattern based encoder, it is created on the first call.
+     * @return the pattern based encoder
+     */
+    public PatternLayoutEncoder getEncoder() {
+        return encoder.get();
+    }
+
+    /**
+     * Returns a {@link PrecompiledEncoder} with the same output as the pattern based encoder
+     * that allocates far less per event, it is created on the first call.
+     * @return the precompiled encoder
+     */
+    public PrecompiledEncoder getPrecompiledEncoder() {
+        return precompiledEncoder.get();
+    }
 }
@@ -0,0 +1,57 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The built-in gzip {@link ArchiveCompressor}.
+ *
+ * @since 0.0.1
+ */
+public final class GzipArchiveCompressor implements ArchiveCompressor {
+    /** The name of this format. */
+    public static final String NAME = "gzip";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getExtension() {
+        return "gz";
+    }
+
+    @Override
+    public void compress(final InputStream input, final OutputStream output) throws IOException {
+        final GZIPOutputStream gzip = new GZIPOutputStream(output, BUFFER_SIZE);
+        input.transferTo(gzip);
+        gzip.finish();
+    }
+}
@@ -0,0 +1,294 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.encoder.EncoderBase;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.event.KeyValuePair;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An encoder that writes every event as a single line JSON object, for log collectors
+ * that ingest JSON lines.
+ * <p>
+ * The object contains the fields {@code timestamp} (ISO-8601 in UTC), {@code level},
+ * {@code logger}, {@code thread} and {@code message}, followed by the {@code mdc} and
+ * {@code kv} objects when the event has MDC properties or key-value pairs and the
+ * {@code exception} field when the event has a throwable. The JSON is written and escaped
+ * straight into a reusable per-thread buffer without building an intermediate tree.
+ * The output is always UTF-8.
+ *
+ * @apiNote Use {@link LoggingManager#createNewJsonEncoder()} to get a started instance.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public final class JsonEncoder extends EncoderBase<ILoggingEvent> {
+    private static final byte[] TIMESTAMP = ascii("{\"timestamp\":\"");
+    private static final byte[] LEVEL = ascii("Z\",\"level\":\"");
+    private static final byte[] LOGGER = ascii("\",\"logger\":");
+    private static final byte[] THREAD = ascii(",\"thread\":");
+    private static final byte[] MESSAGE = ascii(",\"message\":");
+    private static final byte[] MDC = ascii(",\"mdc\":{");
+    private static final byte[] KEY_VALUES = ascii(",\"kv\":{");
+    private static final byte[] EXCEPTION = ascii(",\"exception\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] END = ascii("}" + CoreConstants.LINE_SEPARATOR);
+    private static final byte[] HEX = ascii("0123456789abcdef");
+
+    private static final DateTimeFormatter DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.").withZone(ZoneOffset.UTC);
+
+    private static final class CachedSecond {
+        private final long second;
+        private final byte[] bytes;
+
+        private CachedSecond(final long second, final byte[] bytes) {
+            this.second = second;
+            this.bytes = bytes;
+        }
+    }
+
+    private final Map<String, byte[]> loggerNames = new ConcurrentHashMap<>();
+    private volatile CachedSecond cachedSecond = new CachedSecond(Long.MIN_VALUE, new byte[0]);
+    private boolean includeMdc = true;
+    private boolean includeKeyValues = true;
+    private boolean includeStackTrace = true;
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(final @NotNull ILoggingEvent event) {
+        // Resolved first so a cache miss can reuse the per-thread sink
+        final byte[] loggerName = loggerName(event.getLoggerName());
+        final ByteSink sink = ByteSink.get();
+        try {
+            encode(sink, event, loggerName);
+            return sink.toByteArray();
+        } finally {
+            sink.release();
+        }
+    }
+
+    private void encode(final ByteSink sink, final ILoggingEvent event, final byte[] loggerName) {
+        final long timestamp = event.getTimeStamp();
+        sink.put(TIMESTAMP);
+        sink.put(timestamp(timestamp));
+        sink.putDigits(Math.floorMod(timestamp, 1000L), 3);
+        sink.put(LEVEL);
+        sink.putUtf8(event.getLevel().levelStr);
+        sink.put(LOGGER);
+        sink.put(loggerName);
+        sink.put(THREAD);
+        putString(sink, event.getThreadName());
+        sink.put(MESSAGE);
+        putString(sink, event.getFormattedMessage());
+
+        if (includeMdc) {
+            final Map<String, String> mdc = event.getMDCPropertyMap();
+            if (mdc != null && !mdc.isEmpty()) {
+                sink.put(MDC);
+                boolean first = true;
+                for (final Map.Entry<String, String> entry : mdc.entrySet()) {
+                    if (!first) sink.put((byte) ',');
+                    first = false;
+                    putString(sink, entry.getKey());
+                    sink.put((byte) ':');
+                    putString(sink, entry.getValue());
+                }
+                sink.put((byte) '}');
+            }
+        }
+
+        if (includeKeyValues) {
+            final List<KeyValuePair> pairs = event.getKeyValuePairs();
+            if (pairs != null && !pairs.isEmpty()) {
+                sink.put(KEY_VALUES);
+                for (int i = 0; i < pairs.size(); i++) {
+                    if (i > 0) sink.put((byte) ',');
+                    final KeyValuePair pair = pairs.get(i);
+                    putString(sink, pair.key);
+                    sink.put((byte) ':');
+                    putValue(sink, pair.value);
+                }
+                sink.put((byte) '}');
+            }
+        }
+
+        if (includeStackTrace) {
+            final IThrowableProxy throwable = event.getThrowableProxy();
+            if (throwable != null) {
+                sink.put(EXCEPTION);
+                putString(sink, ThrowableProxyUtil.asString(throwable));
+            }
+        }
+
+        sink.put(END);
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    /**
+     * Sets if the MDC properties are written as the "mdc" object.
+     * @apiNote The default is true.
+     * @param includeMdc the value to set
+     */
+    public void setIncludeMdc(final boolean includeMdc) {
+        this.includeMdc = includeMdc;
+    }
+
+    /**
+     * Returns true if the MDC properties are written.
+     * @return true if the MDC properties are written
+     */
+    public boolean isIncludeMdc() {
+        return includeMdc;
+    }
+
+    /**
+     * Sets if the key-value pairs of the event are written as the "kv" object.
+     * @apiNote The default is true.
+     * @param includeKeyValues the value to set
+     */
+    public void setIncludeKeyValues(final boolean includeKeyValues) {
+        this.includeKeyValues = includeKeyValues;
+    }
+
+    /**
+     * Returns true if the key-value pairs are written.
+     * @return true if the key-value pairs are written
+     */
+    public boolean isIncludeKeyValues() {
+        return includeKeyValues;
+    }
+
+    /**
+     * Sets if the stack trace of the throwable is written as the "exception" field.
+     * @apiNote The default is true.
+     * @param includeStackTrace the value to set
+     */
+    public void setIncludeStackTrace(final boolean includeStackTrace) {
+        this.includeStackTrace = includeStackTrace;
+    }
+
+    /**
+     * Returns true if the stack trace of the throwable is written.
+     * @return true if the stack trace of the throwable is written
+     */
+    public boolean isIncludeStackTrace() {
+        return includeStackTrace;
+    }
+
+    private byte[] timestamp(final long timestamp) {
+        final long second = Math.floorDiv(timestamp, 1000L);
+        final CachedSecond cached = cachedSecond;
+        if (cached.second == second) return cached.bytes;
+        final byte[] bytes = ascii(DATE_FORMATTER.format(Instant.ofEpochSecond(second)));
+        cachedSecond = new CachedSecond(second, bytes);
+        return bytes;
+    }
+
+    private byte[] loggerName(final String name) {
+        if (name == null) return NULL;
+        return loggerNames.computeIfAbsent(name, key -> {
+            final ByteSink sink = ByteSink.get();
+            try {
+                putString(sink, key);
+                return sink.toByteArray();
+            } finally {
+                sink.release();
+            }
+        });
+    }
+
+    private static void putValue(final ByteSink sink, final Object value) {
+        switch (value) {
+            case null -> sink.put(NULL);
+            case Boolean bool -> sink.put(bool ? TRUE : FALSE);
+            case Integer number -> sink.putUtf8(number.toString());
+            case Long number -> sink.putUtf8(number.toString());
+            case Double number when Double.isFinite(number) -> sink.putUtf8(number.toString());
+            case Float number when Float.isFinite(number) -> sink.putUtf8(number.toString());
+            default -> putString(sink, String.valueOf(value));
+        }
+    }
+
+    /** Writes the specified string as a quoted and escaped JSON string. */
+    private static void putString(final ByteSink sink, final String value) {
+        if (value == null) {
+            sink.put(NULL);
+            return;
+        }
+        sink.put((byte) '"');
+        final int length = value.length();
+        int run = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') continue;
+            sink.putUtf8(value, run, i);
+            run = i + 1;
+            sink.put((byte) '\\');
+            switch (c) {
+                case '"' -> sink.put((byte) '"');
+                case '\\' -> sink.put((byte) '\\');
+                case '\n' -> sink.put((byte) 'n');
+                case '\r' -> sink.put((byte) 'r');
+                case '\t' -> sink.put((byte) 't');
+                case '\b' -> sink.put((byte) 'b');
+                case '\f' -> sink.put((byte) 'f');
+                default -> {
+                    sink.put((byte) 'u');
+                    sink.put((byte) '0');
+                    sink.put((byte) '0');
+                    sink.put(HEX[c >> 4]);
+                    sink.put(HEX[c & 0xF]);
+                }
+            }
+        }
+        sink.putUtf8(value, run, length);
+        sink.put((byte) '"');
+    }
+
+    private static byte[] ascii(final String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -24,6 +24,7 @@ package com.jwcomptech.commons.logging;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
 import ch.qos.logback.core.ConsoleAppender;
@@ -289,4 +290,33 @@ public class LoggerConfig {
     public Appender<ILoggingEvent> getAppender(final String name) {
         return logger.getAppender(name);
     }
+
+    /**
+     * Adds the specified turbo filter to the logging context and limits it to this logger
+     * and its descendants, e.g. a {@link RateLimitingTurboFilter}, {@link SamplingTurboFilter}
+     * or {@link DuplicateSuppressingTurboFilter}.
+     * @apiNote The start method of the filter is automatically called in this method.
+     * @param filter the filter to add
+     * @return this instance
+     */
+    public LoggerConfig addTurboFilter(final @NotNull LoggerScopedTurboFilter filter) {
+        final LoggerContext context = LoggingManager.getContext();
+        filter.setLoggerName(logger.getName());
+        if (filter.getContext() == null) filter.setContext(context);
+        if (!filter.isStarted()) filter.start();
+        if (!context.getTurboFilterList().contains(filter)) context.addTurboFilter(filter);
+        return this;
+    }
+
+    /**
+     * Removes and stops the specified turbo filter.
+     * @param filter the filter to remove
+     * @return true if the filter was attached
+     */
+    @SuppressWarnings("BooleanMethodNameMustStartWithQuestion")
+    public boolean removeTurboFilter(final @NotNull LoggerScopedTurboFilter filter) {
+        final boolean removed = LoggingManager.getContext().getTurboFilterList().remove(filter);
+        filter.stop();
+        return removed;
+    }
 }
@@ -0,0 +1,93 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+/**
+ * The base class of the turbo filters that only apply to one logger and its descendants.
+ * <p>
+ * Logback calls every turbo filter for every logging call of the context, this class skips
+ * the calls of loggers outside the scope, the calls of disabled levels and the
+ * {@code isXxxEnabled()} checks so subclasses only see the events that would be logged.
+ *
+ * @apiNote Use {@link LoggerConfig#addTurboFilter(LoggerScopedTurboFilter)} to attach a filter
+ * to a logger, if the logger name is never set the filter applies to all loggers.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public abstract class LoggerScopedTurboFilter extends TurboFilter {
+    private volatile String loggerName = Logger.ROOT_LOGGER_NAME;
+
+    @Override
+    public final FilterReply decide(final Marker marker, final Logger logger, final Level level,
+                                    final String format, final Object[] params, final Throwable t) {
+        if (!isStarted() || format == null || level == null || !isInScope(logger)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        return decideInScope(logger, level, format, params, t);
+    }
+
+    /**
+     * Decides what to do with an event of a logger in scope that would otherwise be logged.
+     * @param logger the logger of the event
+     * @param level the level of the event
+     * @param format the message format of the event
+     * @param params the message parameters of the event, may be null
+     * @param t the throwable of the event, may be null
+     * @return {@link FilterReply#DENY} to drop the event, otherwise {@link FilterReply#NEUTRAL}
+     */
+    protected abstract FilterReply decideInScope(Logger logger, Level level, String format,
+                                                 Object[] params, Throwable t);
+
+    private boolean isInScope(final Logger logger) {
+        final String scope = loggerName;
+        if (Logger.ROOT_LOGGER_NAME.equalsIgnoreCase(scope)) return true;
+        final String name = logger.getName();
+        return name.startsWith(scope)
+                && (name.length() == scope.length() || name.charAt(scope.length()) == '.');
+    }
+
+    /**
+     * Returns the name of the logger this filter applies to.
+     * @return the name of the logger
+     */
+    public String getLoggerName() {
+        return loggerName;
+    }
+
+    /**
+     * Sets the name of the logger this filter applies to, the filter also applies to its descendants.
+     * @apiNote The default is the root logger which applies the filter to all loggers.
+     * @param loggerName the name to set
+     */
+    public void setLoggerName(final String loggerName) {
+        this.loggerName = loggerName == null ? Logger.ROOT_LOGGER_NAME : loggerName;
+    }
+}
@@ -252,6 +252,27 @@ public enum Loggers {
         return config.getAppender(name);
     }
 
+    /**
+     * Adds the specified turbo filter to the logging context and limits it to this logger
+     * and its descendants.
+     * @apiNote The start method of the filter is automatically called in this method.
+     * @param filter the filter to add
+     * @return this instance
+     */
+    public Loggers addTurboFilter(final LoggerScopedTurboFilter filter) {
+        config.addTurboFilter(filter);
+        return this;
+    }
+
+    /**
+     * Removes and stops the specified turbo filter.
+     * @param filter the filter to remove
+     * @return true if the filter was attached
+     */
+    public boolean removeTurboFilter(final LoggerScopedTurboFilter filter) {
+        return config.removeTurboFilter(filter);
+    }
+
     /**
      * Returns the stored Logback logger instance.
      * @return the stored Logback logger instance
@@ -0,0 +1,547 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.encoder.Encoder;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.utils.StringUtils.isBlank;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * A declarative logging configuration in the properties format, an alternative to configuring
+ * the loggers in code with {@link Loggers} and {@link LoggerConfig}.
+ * <p>
+ * The configuration declares named encoders and appenders and configures the loggers with the
+ * keys of {@link LoggingControl}:
+ * <pre>{@code
+ * # Encoders, the Encoders constants can be used without being declared
+ * encoder.json.type=json
+ * encoder.short.type=pattern
+ * encoder.short.pattern=%d{HH:mm:ss} %msg%n
+ * # Appenders
+ * appender.console.type=console
+ * appender.console.encoder=short
+ * appender.file.type=rollingFile
+ * appender.file.file=logs/app.log
+ * appender.file.fileNamePattern=logs/app-%d{yyyy-MM-dd}.log
+ * appender.file.encoder=BasicEncoder
+ * appender.async.type=async
+ * appender.async.appender=file
+ * # Loggers
+ * level.root=INFO
+ * appenders.root=console,async
+ * }</pre>
+ * The appender types and their properties are:
+ * <ul>
+ *     <li>console: encoder</li>
+ *     <li>rollingFile: file, fileNamePattern (required), encoder (a pattern encoder), maxFileSize,
+ *     totalSizeCap, maxHistory, compression</li>
+ *     <li>batchingFile: file (required), encoder, bufferSize, flushInterval (ISO-8601), durability</li>
+ *     <li>mappedFile: file (required), encoder, segmentSize, rollingPeriod, maxHistory</li>
+ *     <li>async: appender (required), capacity, neverBlock, discardLevel</li>
+ *     <li>ringBuffer: encoder, capacity, dumpLevel, dumpFile</li>
+ * </ul>
+ * The encoder types are pattern (pattern required), precompiled (format required) and json
+ * (includeMdc, includeKeyValues, includeStackTrace).
+ * <p>
+ * The file is parsed and validated once, {@link #apply()} then creates only the appenders that
+ * loggers reference, directly or through an async appender, and only the encoders those appenders
+ * use. Declarations nothing references cost nothing.
+ *
+ * @apiNote Set the {@value #CONFIG_PROPERTY} system property and call
+ * {@link #configureFromSystemProperty()} at startup to configure logging from a file.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public final class LoggingConfiguration {
+    /** The system property with the path of the configuration file. */
+    public static final String CONFIG_PROPERTY = "jwct.logging.config";
+    /** The key prefix of the encoder declarations. */
+    public static final String ENCODER_PREFIX = "encoder.";
+    /** The key prefix of the appender declarations. */
+    public static final String APPENDER_PREFIX = "appender.";
+
+    private static final Pattern SEPARATOR = Pattern.compile("\\s*,\\s*");
+    private static final String TYPE = "type";
+    private static final String ENCODER = "encoder";
+    private static final String APPENDER = "appender";
+
+    private static final Map<String, Set<String>> ENCODER_PROPERTIES = Map.of(
+            "pattern", Set.of("pattern"),
+            "precompiled", Set.of("format"),
+            "json", Set.of("includeMdc", "includeKeyValues", "includeStackTrace"));
+    private static final Map<String, Set<String>> REQUIRED_ENCODER_PROPERTIES = Map.of(
+            "pattern", Set.of("pattern"),
+            "precompiled", Set.of("format"));
+    private static final Map<String, Set<String>> APPENDER_PROPERTIES = Map.of(
+            "console", Set.of(ENCODER),
+            "rollingFile", Set.of(ENCODER, "file", "fileNamePattern", "maxFileSize", "totalSizeCap",
+                    "maxHistory", "compression"),
+            "batchingFile", Set.of(ENCODER, "file", "bufferSize", "flushInterval", "durability"),
+            "mappedFile", Set.of(ENCODER, "file", "segmentSize", "rollingPeriod", "maxHistory"),
+            "async", Set.of(APPENDER, "capacity", "neverBlock", "discardLevel"),
+            "ringBuffer", Set.of(ENCODER, "capacity", "dumpLevel", "dumpFile"));
+    private static final Map<String, Set<String>> REQUIRED_APPENDER_PROPERTIES = Map.of(
+            "rollingFile", Set.of("fileNamePattern"),
+            "batchingFile", Set.of("file"),
+            "mappedFile", Set.of("file"),
+            "async", Set.of(APPENDER));
+
+    /** A declared encoder or appender. */
+    private record Declaration(String name, String type, Map<String, String> properties) {
+        boolean has(final String key) {
+            return properties.containsKey(key);
+        }
+
+        String get(final String key) {
+            return properties.get(key);
+        }
+    }
+
+    private final Map<String, Declaration> encoders;
+    private final Map<String, Declaration> appenders;
+    private final Properties loggers;
+    private final Set<String> referencedAppenders;
+
+    private LoggingConfiguration(final Map<String, Declaration> encoders,
+                                 final Map<String, Declaration> appenders,
+                                 final Properties loggers,
+                                 final Set<String> referencedAppenders) {
+        this.encoders = encoders;
+        this.appenders = appenders;
+        this.loggers = loggers;
+        this.referencedAppenders = referencedAppenders;
+    }
+
+    /**
+     * Parses and validates the specified configuration file.
+     * @param file the properties file to parse
+     * @return the parsed configuration
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the configuration contains an invalid entry
+     */
+    public static @NotNull LoggingConfiguration parse(final @NotNull Path file) throws IOException {
+        checkArgumentNotNull(file, cannotBeNull("file"));
+        final Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return parse(properties);
+    }
+
+    /**
+     * Parses and validates the specified configuration.
+     * @param properties the configuration to parse
+     * @return the parsed configuration
+     * @throws IllegalArgumentException if the configuration contains an invalid entry
+     */
+    public static @NotNull LoggingConfiguration parse(final @NotNull Properties properties) {
+        checkArgumentNotNull(properties, cannotBeNull("properties"));
+        final List<String> errors = new ArrayList<>();
+        final Map<String, Map<String, String>> encoderProperties = new TreeMap<>();
+        final Map<String, Map<String, String>> appenderProperties = new TreeMap<>();
+        final Properties loggers = new Properties();
+        for (final String key : new TreeSet<>(properties.stringPropertyNames())) {
+            final String value = properties.getProperty(key).trim();
+            if (key.startsWith(ENCODER_PREFIX)) {
+                collect(encoderProperties, key, ENCODER_PREFIX, value, errors);
+            } else if (key.startsWith(APPENDER_PREFIX)) {
+                collect(appenderProperties, key, APPENDER_PREFIX, value, errors);
+            } else if (key.startsWith(LoggingControl.LEVEL_PREFIX) || key.startsWith(LoggingControl.APPENDERS_PREFIX)) {
+                loggers.setProperty(key, value);
+            } else {
+                errors.add("Unknown key: " + key);
+            }
+        }
+
+        final Map<String, Declaration> encoders = declare(ENCODER, encoderProperties,
+                ENCODER_PROPERTIES, REQUIRED_ENCODER_PROPERTIES, errors);
+        final Map<String, Declaration> appenders = declare(APPENDER, appenderProperties,
+                APPENDER_PROPERTIES, REQUIRED_APPENDER_PROPERTIES, errors);
+        for (final Declaration appender : appenders.values()) {
+            if (appender.has(ENCODER)) validateEncoder(appender, encoders, errors);
+            if (appender.has(APPENDER) && !appenders.containsKey(appender.get(APPENDER))) {
+                errors.add("Unknown appender of appender " + appender.name() + ": " + appender.get(APPENDER));
+            }
+        }
+
+        final Set<String> referenced = new LinkedHashSet<>();
+        for (final String key : new TreeSet<>(loggers.stringPropertyNames())) {
+            if (!key.startsWith(LoggingControl.APPENDERS_PREFIX)) continue;
+            for (final String name : SEPARATOR.splitAsStream(loggers.getProperty(key)).toList()) {
+                reference(name, appenders, referenced, new HashSet<>(), errors);
+            }
+        }
+
+        if (!errors.isEmpty()) throw new IllegalArgumentException(String.join("; ", errors));
+        return new LoggingConfiguration(Collections.unmodifiableMap(encoders), Collections.unmodifiableMap(appenders),
+                loggers, Collections.unmodifiableSet(referenced));
+    }
+
+    /**
+     * Applies the configuration from the file in the {@value #CONFIG_PROPERTY} system property.
+     * @return true if the property is set and the configuration was applied
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the configuration contains an invalid entry
+     */
+    public static boolean configureFromSystemProperty() throws IOException {
+        final String file = System.getProperty(CONFIG_PROPERTY);
+        if (isBlank(file)) return false;
+        parse(Path.of(file.trim())).apply();
+        return true;
+    }
+
+    /**
+     * Returns the names of the declared encoders.
+     * @return the names of the declared encoders
+     */
+    public Set<String> getEncoderNames() {
+        return encoders.keySet();
+    }
+
+    /**
+     * Returns the names of the declared appenders.
+     * @return the names of the declared appenders
+     */
+    public Set<String> getAppenderNames() {
+        return appenders.keySet();
+    }
+
+    /**
+     * Returns the names of the declared appenders the loggers reference, these are the only
+     * appenders {@link #apply()} creates.
+     * @return the names of the referenced appenders
+     */
+    public Set<String> getReferencedAppenderNames() {
+        return referencedAppenders;
+    }
+
+    /**
+     * Creates the referenced appenders, registers them with {@link LoggingControl} and applies
+     * the logger levels and appenders, either every change is applied or none.
+     * @apiNote An appender already registered with {@link LoggingControl} under the same name is
+     * reused, so applying a configuration again only changes the loggers.
+     * @return the appenders that were created
+     * @throws IllegalArgumentException if an appender cannot be created or the loggers cannot be configured
+     */
+    public synchronized List<Appender<ILoggingEvent>> apply() {
+        final LoggingControl control = LoggingControl.getInstance();
+        final Map<String, Encoder<ILoggingEvent>> createdEncoders = new HashMap<>();
+        final Map<String, Appender<ILoggingEvent>> created = new LinkedHashMap<>();
+        try {
+            for (final String name : referencedAppenders) {
+                appender(name, control, created, createdEncoders);
+            }
+            created.values().forEach(control::registerAppender);
+            control.apply(loggers);
+        } catch (final RuntimeException e) {
+            for (final Appender<ILoggingEvent> appender : created.values()) {
+                if (control.getRegisteredAppender(appender.getName()) == appender) {
+                    control.unregisterAppender(appender.getName());
+                }
+                appender.stop();
+            }
+            throw e;
+        }
+        return List.copyOf(created.values());
+    }
+
+    private static void collect(final Map<String, Map<String, String>> declarations, final String key,
+                                final String prefix, final String value, final List<String> errors) {
+        final String rest = key.substring(prefix.length());
+        final int dot = rest.indexOf('.');
+        if (dot <= 0 || dot == rest.length() - 1) {
+            errors.add("Invalid key: " + key);
+            return;
+        }
+        declarations.computeIfAbsent(rest.substring(0, dot), name -> new TreeMap<>())
+                .put(rest.substring(dot + 1), value);
+    }
+
+    private static Map<String, Declaration> declare(final String kind,
+                                                    final Map<String, Map<String, String>> declarations,
+                                                    final Map<String, Set<String>> allowed,
+                                                    final Map<String, Set<String>> required,
+                                                    final List<String> errors) {
+        final Map<String, Declaration> result = new LinkedHashMap<>();
+        declarations.forEach((name, properties) -> {
+            final String type = properties.remove(TYPE);
+            if (type == null || !allowed.containsKey(type)) {
+                errors.add("Unknown type of " + kind + " " + name + ": " + type);
+                return;
+            }
+            for (final String property : properties.keySet()) {
+                if (!allowed.get(type).contains(property)) {
+                    errors.add("Unknown property of " + kind + " " + name + ": " + property);
+                }
+            }
+            for (final String property : required.getOrDefault(type, Set.of())) {
+                if (isBlank(properties.get(property))) {
+                    errors.add("Missing property of " + kind + " " + name + ": " + property);
+                }
+            }
+            final Declaration declaration = new Declaration(name, type, Map.copyOf(properties));
+            validateValues(declaration, errors);
+            result.put(name, declaration);
+        });
+        return result;
+    }
+
+    /** Checks that the typed properties can be converted, so {@link #apply()} does not fail on them. */
+    private static void validateValues(final Declaration declaration, final List<String> errors) {
+        for (final String key : declaration.properties().keySet()) {
+            try {
+                switch (key) {
+                    case "maxHistory", "bufferSize", "segmentSize", "capacity" -> intValue(declaration, key);
+                    case "neverBlock", "includeMdc", "includeKeyValues", "includeStackTrace" ->
+                            booleanValue(declaration, key);
+                    case "flushInterval" -> durationValue(declaration, key);
+                    case "discardLevel", "dumpLevel" -> levelValue(declaration, key);
+                    case "format" -> enumValue(declaration, key, PrecompiledEncoder.Format.class);
+                    case "durability" -> enumValue(declaration, key, BatchingFileAppender.Durability.class);
+                    case "rollingPeriod" -> enumValue(declaration, key, ChronoUnit.class);
+                    default -> { }
+                }
+            } catch (final IllegalArgumentException e) {
+                errors.add(e.getMessage());
+            }
+        }
+    }
+
+    private static void validateEncoder(final Declaration appender, final Map<String, Declaration> encoders,
+                                        final List<String> errors) {
+        final String name = appender.get(ENCODER);
+        final Declaration encoder = encoders.get(name);
+        if (encoder == null && findEncoders(name) == null) {
+            errors.add("Unknown encoder of appender " + appender.name() + ": " + name);
+        } else if ("rollingFile".equals(appender.type()) && encoder != null && !"pattern".equals(encoder.type())) {
+            errors.add("The encoder of appender " + appender.name() + " must be a pattern encoder: " + name);
+        }
+    }
+
+    /** Adds the specified appender and the appenders it wraps to the referenced appenders. */
+    private static void reference(final String name, final Map<String, Declaration> appenders,
+                                  final Set<String> referenced, final Set<String> path, final List<String> errors) {
+        final Declaration appender = appenders.get(name);
+        if (appender == null) return;
+        if (!path.add(name)) {
+            errors.add("Appender " + name + " wraps itself");
+            return;
+        }
+        if (appender.has(APPENDER)) reference(appender.get(APPENDER), appenders, referenced, path, errors);
+        referenced.add(name);
+    }
+
+    private static Encoders findEncoders(final String name) {
+        for (final Encoders encoder : Encoders.values()) {
+            if (encoder.name().equals(name)) return encoder;
+        }
+        return null;
+    }
+
+    private Appender<ILoggingEvent> appender(final String name, final LoggingControl control,
+                                             final Map<String, Appender<ILoggingEvent>> created,
+                                             final Map<String, Encoder<ILoggingEvent>> createdEncoders) {
+        final Appender<ILoggingEvent> registered = control.getRegisteredAppender(name);
+        if (registered != null) return registered;
+        final Appender<ILoggingEvent> existing = created.get(name);
+        if (existing != null) return existing;
+
+        final Declaration declaration = appenders.get(name);
+        final Encoder<ILoggingEvent> encoder = declaration.has(ENCODER)
+                ? encoder(declaration.get(ENCODER), createdEncoders)
+                : null;
+        final Appender<ILoggingEvent> appender = switch (declaration.type()) {
+            case "console" -> LoggingManager.createNewConsoleAppender(name, encoder);
+            case "rollingFile" -> rollingFile(declaration, (PatternLayoutEncoder) encoder);
+            case "batchingFile" -> batchingFile(declaration, encoder);
+            case "mappedFile" -> mappedFile(declaration, encoder);
+            case "async" -> async(declaration, appender(declaration.get(APPENDER), control, created, createdEncoders));
+            case "ringBuffer" -> ringBuffer(declaration, encoder);
+            default -> throw new IllegalStateException("Unknown appender type: " + declaration.type());
+        };
+        created.put(name, appender);
+        return appender;
+    }
+
+    private Encoder<ILoggingEvent> encoder(final String name, final Map<String, Encoder<ILoggingEvent>> created) {
+        final Declaration declaration = encoders.get(name);
+        if (declaration == null) return findEncoders(name).getEncoder();
+        return created.computeIfAbsent(name, key -> switch (declaration.type()) {
+            case "pattern" -> LoggingManager.createNewLogEncoder(declaration.get("pattern"));
+            case "precompiled" -> LoggingManager.createNewPrecompiledEncoder(
+                    enumValue(declaration, "format", PrecompiledEncoder.Format.class));
+            case "json" -> {
+                final JsonEncoder json = LoggingManager.createNewJsonEncoder();
+                if (declaration.has("includeMdc")) json.setIncludeMdc(booleanValue(declaration, "includeMdc"));
+                if (declaration.has("includeKeyValues")) {
+                    json.setIncludeKeyValues(booleanValue(declaration, "includeKeyValues"));
+                }
+                if (declaration.has("includeStackTrace")) {
+                    json.setIncludeStackTrace(booleanValue(declaration, "includeStackTrace"));
+                }
+                yield json;
+            }
+            default -> throw new IllegalStateException("Unknown encoder type: " + declaration.type());
+        });
+    }
+
+    private static Appender<ILoggingEvent> rollingFile(final Declaration declaration,
+                                                       final PatternLayoutEncoder encoder) {
+        final LoggingManager.TimeBasedRollingPolicyBuilder policy = LoggingManager.getTimeBasedRollingPolicyBuilder()
+                .setFileNamePattern(declaration.get("fileNamePattern"));
+        if (declaration.has("maxFileSize")) policy.setMaxFileSize(declaration.get("maxFileSize"));
+        if (declaration.has("totalSizeCap")) policy.setTotalSizeCap(declaration.get("totalSizeCap"));
+        if (declaration.has("maxHistory")) policy.setMaxFileHistory(intValue(declaration, "maxHistory"));
+        if (declaration.has("compression")) policy.setCompression(declaration.get("compression"));
+        return LoggingManager.getRollingFileAppenderBuilder()
+                .setName(declaration.name())
+                .setFileName(declaration.get("file"))
+                .setEncoder(encoder)
+                .setLogFilePolicy(policy.build())
+                .build();
+    }
+
+    private static Appender<ILoggingEvent> batchingFile(final Declaration declaration,
+                                                        final Encoder<ILoggingEvent> encoder) {
+        final LoggingManager.BatchingFileAppenderBuilder builder = LoggingManager.getBatchingFileAppenderBuilder()
+                .setName(declaration.name())
+                .setFileName(declaration.get("file"))
+                .setEncoder(encoder);
+        if (declaration.has("bufferSize")) builder.setBufferSize(intValue(declaration, "bufferSize"));
+        if (declaration.has("flushInterval")) builder.setFlushInterval(durationValue(declaration, "flushInterval"));
+        if (declaration.has("durability")) {
+            builder.setDurability(enumValue(declaration, "durability", BatchingFileAppender.Durability.class));
+        }
+        return builder.build();
+    }
+
+    private static Appender<ILoggingEvent> mappedFile(final Declaration declaration,
+                                                      final Encoder<ILoggingEvent> encoder) {
+        final LoggingManager.MappedFileAppenderBuilder builder = LoggingManager.getMappedFileAppenderBuilder()
+                .setName(declaration.name())
+                .setFileName(declaration.get("file"))
+                .setEncoder(encoder);
+        if (declaration.has("segmentSize")) builder.setSegmentSize(intValue(declaration, "segmentSize"));
+        if (declaration.has("rollingPeriod")) {
+            builder.setRollingPeriod(enumValue(declaration, "rollingPeriod", ChronoUnit.class));
+        }
+        if (declaration.has("maxHistory")) builder.setMaxHistory(intValue(declaration, "maxHistory"));
+        return builder.build();
+    }
+
+    private static Appender<ILoggingEvent> async(final Declaration declaration,
+                                                 final Appender<ILoggingEvent> appender) {
+        final LoggingManager.AsyncAppenderBuilder builder = LoggingManager.getAsyncAppenderBuilder()
+                .setName(declaration.name())
+                .setAppender(appender);
+        if (declaration.has("capacity")) builder.setCapacity(intValue(declaration, "capacity"));
+        if (declaration.has("neverBlock")) builder.setNeverBlock(booleanValue(declaration, "neverBlock"));
+        if (declaration.has("discardLevel")) builder.setDiscardLevel(levelValue(declaration, "discardLevel"));
+        return builder.build();
+    }
+
+    private static Appender<ILoggingEvent> ringBuffer(final Declaration declaration,
+                                                      final Encoder<ILoggingEvent> encoder) {
+        final LoggingManager.RingBufferAppenderBuilder builder = LoggingManager.getRingBufferAppenderBuilder()
+                .setName(declaration.name())
+                .setEncoder(encoder)
+                .setDumpFileName(declaration.get("dumpFile"));
+        if (declaration.has("capacity")) builder.setCapacity(intValue(declaration, "capacity"));
+        if (declaration.has("dumpLevel")) builder.setDumpLevel(levelValue(declaration, "dumpLevel"));
+        return builder.build();
+    }
+
+    private static int intValue(final Declaration declaration, final String key) {
+        try {
+            return Integer.parseInt(declaration.get(key));
+        } catch (final NumberFormatException e) {
+            throw invalidValue(declaration, key);
+        }
+    }
+
+    private static boolean booleanValue(final Declaration declaration, final String key) {
+        final String value = declaration.get(key);
+        if ("true".equalsIgnoreCase(value)) return true;
+        if ("false".equalsIgnoreCase(value)) return false;
+        throw invalidValue(declaration, key);
+    }
+
+    private static Duration durationValue(final Declaration declaration, final String key) {
+        try {
+            return Duration.parse(declaration.get(key));
+        } catch (final DateTimeParseException e) {
+            throw invalidValue(declaration, key);
+        }
+    }
+
+    private static Level levelValue(final Declaration declaration, final String key) {
+        final Level level = Level.toLevel(declaration.get(key), null);
+        if (level == null) throw invalidValue(declaration, key);
+        return level;
+    }
+
+    private static <E extends Enum<E>> E enumValue(final Declaration declaration, final String key,
+                                                   final Class<E> type) {
+        try {
+            return Enum.valueOf(type, declaration.get(key).toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            throw invalidValue(declaration, key);
+        }
+    }
+
+    private static IllegalArgumentException invalidValue(final Declaration declaration, final String key) {
+        return new IllegalArgumentException("Invalid " + key + " of " + declaration.name() + ": "
+                + declaration.get(key));
+    }
+}
@@ -0,0 +1,447 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.spi.ContextAwareBase;
+import com.jwcomptech.commons.utils.SingletonManager;
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNullOrEmpty;
+
+/**
+ * Changes logger levels and attaches or detaches appenders at runtime, through JMX or
+ * a watched properties file, so the verbosity of a running application can be changed
+ * without a restart.
+ * <p>
+ * The configuration uses the properties format with two kinds of keys:
+ * <pre>{@code
+ * # Sets the level of a logger, INHERITED clears the level
+ * level.root=WARN
+ * level.com.example.service=DEBUG
+ * # Replaces the appenders attached to a logger with the listed appender names
+ * appenders.com.example.service=BasicConsoleAppender,file
+ * }</pre>
+ * Appenders are looked up by name in the appenders registered with
+ * {@link #registerAppender(Appender)}, the {@link Appenders} constants and the appenders
+ * attached to any logger. A configuration is validated completely before it is applied, so
+ * either every change is applied or none, and changes never interleave with each other.
+ *
+ * @apiNote Use {@link #registerMBean()} to expose it with the object name {@value #OBJECT_NAME}
+ * and {@link #watchFile(Path)} to apply a properties file whenever it changes.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public final class LoggingControl extends ContextAwareBase implements LoggingControlMBean {
+    /** The JMX object name the MBean is registered with. */
+    public static final String OBJECT_NAME = "com.jwcomptech.commons:type=LoggingControl";
+    /** The key prefix of the logger levels in the configuration. */
+    public static final String LEVEL_PREFIX = "level.";
+    /** The key prefix of the attached appenders in the configuration. */
+    public static final String APPENDERS_PREFIX = "appenders.";
+
+    private static final String INHERITED = "INHERITED";
+
+    private final Map<String, Appender<ILoggingEvent>> appenders = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Path configFile;
+    private WatchService watchService;
+    private Thread watcher;
+
+    /** A validated change to a single logger. */
+    private record Change(Logger logger, boolean changesLevel, Level level,
+                          List<Appender<ILoggingEvent>> appenders) { }
+
+    private LoggingControl() {
+        setContext(LoggingManager.getContext());
+    }
+
+    /**
+     * Returns the shared instance.
+     * @return the shared instance
+     */
+    public static LoggingControl getInstance() {
+        return SingletonManager.getInstance(LoggingControl.class, LoggingControl::new);
+    }
+
+    /**
+     * Registers the specified appender so it can be attached by name.
+     * @param appender the appender to register
+     * @return this instance
+     */
+    public LoggingControl registerAppender(final @NotNull Appender<ILoggingEvent> appender) {
+        checkArgumentNotNull(appender, cannotBeNull("appender"));
+        checkArgumentNotNullOrEmpty(appender.getName(), "Appender Name Must Be Set!");
+        appenders.put(appender.getName(), appender);
+        return this;
+    }
+
+    /**
+     * Unregisters the appender with the specified name, it stays attached to its loggers.
+     * @param appenderName the name of the appender
+     * @return the unregistered appender or null if none was registered
+     */
+    public Appender<ILoggingEvent> unregisterAppender(final String appenderName) {
+        return appenders.remove(appenderName);
+    }
+
+    /**
+     * Returns the registered appender with the specified name.
+     * @param appenderName the name of the appender
+     * @return the registered appender or null if none is registered
+     */
+    public Appender<ILoggingEvent> getRegisteredAppender(final String appenderName) {
+        return appenderName == null ? null : appenders.get(appenderName);
+    }
+
+    @Override
+    public String getLoggerLevel(final String loggerName) {
+        final Level level = getLogger(loggerName).getLevel();
+        return level == null ? null : level.levelStr;
+    }
+
+    @Override
+    public String getEffectiveLoggerLevel(final String loggerName) {
+        return getLogger(loggerName).getEffectiveLevel().levelStr;
+    }
+
+    @Override
+    public void setLoggerLevel(final String loggerName, final String level) {
+        final Logger logger = getLogger(loggerName);
+        final List<String> errors = new ArrayList<>();
+        final Level newLevel = parseLevel(logger, level, errors);
+        throwIfInvalid(errors);
+        apply(List.of(new Change(logger, true, newLevel, null)));
+    }
+
+    @Override
+    public void attachAppender(final String loggerName, final String appenderName) {
+        final Logger logger = getLogger(loggerName);
+        final Appender<ILoggingEvent> appender = findAppender(appenderName);
+        if (appender == null) throw new IllegalArgumentException("Unknown appender: " + appenderName);
+        lock.lock();
+        try {
+            if (!logger.isAttached(appender)) logger.addAppender(appender);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean detachAppender(final String loggerName, final String appenderName) {
+        final Logger logger = getLogger(loggerName);
+        final Appender<ILoggingEvent> appender = findAppender(appenderName);
+        lock.lock();
+        try {
+            if (appender != null && logger.isAttached(appender)) return logger.detachAppender(appender);
+            return logger.detachAppender(appenderName);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String[] getAttachedAppenderNames(final String loggerName) {
+        final List<String> names = new ArrayList<>();
+        getLogger(loggerName).iteratorForAppenders().forEachRemaining(appender -> names.add(appender.getName()));
+        return names.toArray(String[]::new);
+    }
+
+    @Override
+    public String[] getAppenderNames() {
+        final Set<String> names = new TreeSet<>(appenders.keySet());
+        for (final Appenders appender : Appenders.values()) {
+            names.add(appender.name());
+        }
+        for (final Logger logger : LoggingManager.getContext().getLoggerList()) {
+            logger.iteratorForAppenders().forEachRemaining(appender -> {
+                if (appender.getName() != null) names.add(appender.getName());
+            });
+        }
+        return names.toArray(String[]::new);
+    }
+
+    @Override
+    public void applyProperties(final String properties) {
+        checkArgumentNotNull(properties, cannotBeNull("properties"));
+        try {
+            apply(new StringReader(properties));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Applies the specified configuration, either every change is applied or none.
+     * @param properties the configuration to apply
+     * @throws IllegalArgumentException if the configuration contains an invalid entry
+     */
+    public void apply(final @NotNull Properties properties) {
+        checkArgumentNotNull(properties, cannotBeNull("properties"));
+        final Map<String, Change> changes = new LinkedHashMap<>();
+        final List<String> errors = new ArrayList<>();
+        for (final String key : new TreeSet<>(properties.stringPropertyNames())) {
+            final String value = properties.getProperty(key).trim();
+            if (key.startsWith(LEVEL_PREFIX)) {
+                final Logger logger = getLogger(key.substring(LEVEL_PREFIX.length()));
+                final Level level = parseLevel(logger, value, errors);
+                changes.merge(logger.getName(), new Change(logger, true, level, null),
+                        (existing, change) -> new Change(logger, true, level, existing.appenders()));
+            } else if (key.startsWith(APPENDERS_PREFIX)) {
+                final Logger logger = getLogger(key.substring(APPENDERS_PREFIX.length()));
+                final List<Appender<ILoggingEvent>> attached = new ArrayList<>();
+                for (final String name : new LinkedHashSet<>(List.of(value.split("\\s*,\\s*")))) {
+                    if (name.isEmpty()) continue;
+                    final Appender<ILoggingEvent> appender = findAppender(name);
+                    if (appender == null) {
+                        errors.add("Unknown appender: " + name);
+                    } else {
+                        attached.add(appender);
+                    }
+                }
+                changes.merge(logger.getName(), new Change(logger, false, null, attached),
+                        (existing, change) -> new Change(logger, existing.changesLevel(), existing.level(), attached));
+            } else {
+                errors.add("Unknown key: " + key);
+            }
+        }
+        throwIfInvalid(errors);
+        apply(changes.values());
+    }
+
+    /**
+     * Watches the specified properties file and applies it now and whenever it changes.
+     * @apiNote Only one file is watched at a time, watching a new file stops watching the previous one.
+     * Invalid changes to the file are reported to the Logback status manager and ignored.
+     * @param file the properties file to watch
+     * @throws IOException if the file cannot be read or watched
+     */
+    public synchronized void watchFile(final @NotNull Path file) throws IOException {
+        checkArgumentNotNull(file, cannotBeNull("file"));
+        stopWatching();
+        final Path path = file.toAbsolutePath();
+        final WatchService service = path.getFileSystem().newWatchService();
+        try {
+            path.getParent().register(service,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            if (Files.exists(path)) applyFile(path);
+        } catch (final IOException | RuntimeException e) {
+            service.close();
+            throw e;
+        }
+        configFile = path;
+        watchService = service;
+        watcher = Thread.ofPlatform()
+                .name("logging-control-watcher")
+                .daemon()
+                .start(() -> watch(service, path));
+    }
+
+    /** Stops watching the configuration file, the applied configuration is kept. */
+    public synchronized void stopWatching() {
+        if (watchService == null) return;
+        try {
+            watchService.close();
+        } catch (final IOException e) {
+            addWarn("Failed to close the watch service", e);
+        }
+        watcher.interrupt();
+        watchService = null;
+        watcher = null;
+        configFile = null;
+    }
+
+    @Override
+    public String getConfigFile() {
+        final Path path = configFile;
+        return path == null ? null : path.toString();
+    }
+
+    @Override
+    public void reloadConfigFile() {
+        final Path path = configFile;
+        if (path == null) throw new IllegalStateException("No configuration file is watched!");
+        try {
+            applyFile(path);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Registers this instance with the platform MBean server.
+     * @throws JMException if the registration fails
+     */
+    public void registerMBean() throws JMException {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(OBJECT_NAME);
+        if (!server.isRegistered(name)) server.registerMBean(this, name);
+    }
+
+    /**
+     * Unregisters this instance from the platform MBean server.
+     * @throws JMException if the unregistration fails
+     */
+    public void unregisterMBean() throws JMException {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) server.unregisterMBean(name);
+    }
+
+    private void watch(final WatchService service, final Path path) {
+        try {
+            while (true) {
+                final WatchKey key = service.take();
+                boolean changed = false;
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                            || path.getFileName().equals(event.context())) {
+                        changed = true;
+                    }
+                }
+                key.reset();
+                if (changed && Files.exists(path)) {
+                    try {
+                        applyFile(path);
+                        addInfo("Applied logging configuration from " + path);
+                    } catch (final IOException | RuntimeException e) {
+                        addError("Failed to apply logging configuration from " + path, e);
+                    }
+                }
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException e) {
+            // Stopped by stopWatching
+        }
+    }
+
+    private void applyFile(final Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            apply(reader);
+        }
+    }
+
+    private void apply(final Reader reader) throws IOException {
+        final Properties properties = new Properties();
+        properties.load(reader);
+        apply(properties);
+    }
+
+    /**
+     * Applies validated changes under the lock, appenders are attached before levels are
+     * raised and detached after so no event is logged without its appenders.
+     */
+    private void apply(final Iterable<Change> changes) {
+        lock.lock();
+        try {
+            for (final Change change : changes) {
+                if (change.appenders() == null) continue;
+                for (final Appender<ILoggingEvent> appender : change.appenders()) {
+                    if (!change.logger().isAttached(appender)) change.logger().addAppender(appender);
+                }
+            }
+            for (final Change change : changes) {
+                if (change.changesLevel()) change.logger().setLevel(change.level());
+            }
+            for (final Change change : changes) {
+                if (change.appenders() == null) continue;
+                final Iterator<Appender<ILoggingEvent>> attached = change.logger().iteratorForAppenders();
+                final List<Appender<ILoggingEvent>> removed = new ArrayList<>();
+                attached.forEachRemaining(appender -> {
+                    if (!change.appenders().contains(appender)) removed.add(appender);
+                });
+                removed.forEach(change.logger()::detachAppender);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static @NotNull Logger getLogger(final String loggerName) {
+        checkArgumentNotNullOrEmpty(loggerName, "Logger Name Must Be Set!");
+        return LoggingManager.getContext().getLogger(loggerName.trim());
+    }
+
+    private static Level parseLevel(final Logger logger, final String level, final List<String> errors) {
+        if (level == null || level.isBlank() || INHERITED.equalsIgnoreCase(level.trim())) {
+            if (Logger.ROOT_LOGGER_NAME.equals(logger.getName())) {
+                errors.add("The root logger level cannot be inherited");
+            }
+            return null;
+        }
+        final Level parsed = Level.toLevel(level.trim(), null);
+        if (parsed == null) errors.add("Unknown level for " + logger.getName() + ": " + level);
+        return parsed;
+    }
+
+    private Appender<ILoggingEvent> findAppender(final String appenderName) {
+        if (appenderName == null) return null;
+        final Appender<ILoggingEvent> registered = appenders.get(appenderName);
+        if (registered != null) return registered;
+        for (final Appenders appender : Appenders.values()) {
+            if (appender.name().equals(appenderName)) return appender.getAppender();
+        }
+        for (final Logger logger : LoggingManager.getContext().getLoggerList()) {
+            final Appender<ILoggingEvent> attached = logger.getAppender(appenderName);
+            if (attached != null) return attached;
+        }
+        return null;
+    }
+
+    private static void throwIfInvalid(final List<String> errors) {
+        if (!errors.isEmpty()) throw new IllegalArgumentException(String.join("; ", errors));
+    }
+}
@@ -0,0 +1,96 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * The JMX management interface of {@link LoggingControl}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public interface LoggingControlMBean {
+    /**
+     * Returns the level set on the specified logger.
+     * @param loggerName the name of the logger, "root" for the root logger
+     * @return the level or null if the level is inherited
+     */
+    String getLoggerLevel(String loggerName);
+
+    /**
+     * Returns the level the specified logger uses, including an inherited level.
+     * @param loggerName the name of the logger, "root" for the root logger
+     * @return the effective level
+     */
+    String getEffectiveLoggerLevel(String loggerName);
+
+    /**
+     * Sets the level of the specified logger.
+     * @param loggerName the name of the logger, "root" for the root logger
+     * @param level the level to set, null or "INHERITED" to inherit the level of the parent
+     */
+    void setLoggerLevel(String loggerName, String level);
+
+    /**
+     * Attaches the specified appender to the specified logger.
+     * @param loggerName the name of the logger, "root" for the root logger
+     * @param appenderName the name of a registered or attached appender
+     */
+    void attachAppender(String loggerName, String appenderName);
+
+    /**
+     * Detaches the specified appender from the specified logger.
+     * @param loggerName the name of the logger, "root" for the root logger
+     * @param appenderName the name of the appender
+     * @return true if the appender was attached
+     */
+    boolean detachAppender(String loggerName, String appenderName);
+
+    /**
+     * Returns the names of the appenders attached to the specified logger.
+     * @param loggerName the name of the logger, "root" for the root logger
+     * @return the appender names
+     */
+    String[] getAttachedAppenderNames(String loggerName);
+
+    /**
+     * Returns the names of all appenders that can be attached.
+     * @return the appender names
+     */
+    String[] getAppenderNames();
+
+    /**
+     * Applies the specified configuration in the properties format of {@link LoggingControl},
+     * either every change is applied or none.
+     * @param properties the configuration to apply
+     */
+    void applyProperties(String properties);
+
+    /**
+     * Returns the path of the watched configuration file.
+     * @return the path or null if no file is watched
+     */
+    String getConfigFile();
+
+    /** Reads and applies the watched configuration file again. */
+    void reloadConfigFile();
+}
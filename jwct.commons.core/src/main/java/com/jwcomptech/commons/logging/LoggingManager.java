@@ -32,6 +32,7 @@ import ch.qos.logback.core.ConsoleAppender;
 import ch.qos.logback.core.FileAppender;
 import ch.qos.logback.core.encoder.Encoder;
 import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy;
 import ch.qos.logback.core.rolling.TimeBasedFileNamingAndTriggeringPolicy;
 import ch.qos.logback.core.rolling.TimeBasedRollingPolicy;
 import ch.qos.logback.core.util.FileSize;
@@ -44,6 +45,11 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
 import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
 import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNullOrEmpty;
 import static com.jwcomptech.commons.utils.StringUtils.isBlank;
@@ -124,6 +130,31 @@ public final class LoggingManager {
         return logEncoder;
     }
 
+    /**
+     * Creates a new {@link PrecompiledEncoder} with the specified format.
+     * @apiNote The start method is automatically called at the end of this method.
+     * @param format the output format
+     * @return a new PrecompiledEncoder instance
+     */
+    public static @NotNull PrecompiledEncoder createNewPrecompiledEncoder(final PrecompiledEncoder.Format format) {
+        final PrecompiledEncoder logEncoder = new PrecompiledEncoder(format);
+        logEncoder.setContext(logCtx);
+        logEncoder.start();
+        return logEncoder;
+    }
+
+    /**
+     * Creates a new {@link JsonEncoder} that writes every event as a single line JSON object.
+     * @apiNote The start method is automatically called at the end of this method.
+     * @return a new JsonEncoder instance
+     */
+    public static @NotNull JsonEncoder createNewJsonEncoder() {
+        final JsonEncoder logEncoder = new JsonEncoder();
+        logEncoder.setContext(logCtx);
+        logEncoder.start();
+        return logEncoder;
+    }
+
     /**
      * Creates a new {@link ConsoleAppender} with the
      * {@link Encoders#BasicEncoder} and sets the name to "console".
@@ -284,6 +315,7 @@ public final class LoggingManager {
 
             logFilePolicy.setParent(logFileAppender);
             logFileAppender.setRollingPolicy(logFilePolicy);
+            if (!logFilePolicy.isStarted()) logFilePolicy.start();
             logFileAppender.start();
             return logFileAppender;
         }
@@ -343,6 +375,8 @@ public final class LoggingManager {
         private boolean cleanHistoryOnStart;
         private TimeBasedFileNamingAndTriggeringPolicy<ILoggingEvent> timeBasedFileNamingAndTriggeringPolicy;
         private FileAppender<ILoggingEvent> parent;
+        private FileSize maxFileSize;
+        private ArchiveCompressor compressor;
 
         private TimeBasedRollingPolicyBuilder() {
             fileNamePattern = "logfile-%d{yyyy-MM-dd_HH}.log";
@@ -360,6 +394,8 @@ public final class LoggingManager {
 
         /**
          * Sets the total size cap parsed from a string.
+         * @apiNote The cap is enforced by logback's policy, or when a compressor is set
+         * by an {@link ArchivingRollingPolicy} on a background thread.
          * @param totalSizeCap the total size cap to set
          * @return this instance
          */
@@ -370,6 +406,8 @@ public final class LoggingManager {
 
         /**
          * Sets the total size cap parsed from a {@link FileSize} object.
+         * @apiNote The cap is enforced by logback's policy, or when a compressor is set
+         * by an {@link ArchivingRollingPolicy} on a background thread.
          * @param totalSizeCap the total size cap to set
          * @return this instance
          */
@@ -380,7 +418,9 @@ public final class LoggingManager {
 
         /**
          * Sets the maximum number of archive files to keep.
-         * @apiNote if this value is less than 0 then this setting is ignored.
+         * @apiNote if this value is less than 0 then this setting is ignored. Without a compressor this is
+         * logback's max history, the number of periods kept. With a compressor it is the number of archive
+         * files kept by the {@link ArchivingRollingPolicy}.
          * @param maxFileHistory the value to set
          * @return this instance
          */
@@ -391,6 +431,8 @@ public final class LoggingManager {
 
         /**
          * Sets if archive removal should be attempted on application start up.
+         * @apiNote This has no effect when a compressor is set, the {@link ArchivingRollingPolicy} always
+         * tracks and prunes the archives of earlier runs when it is started.
          * @param cleanHistoryOnStart the value to set
          * @return this instance
          */
@@ -399,6 +441,52 @@ public final class LoggingManager {
             return this;
         }
 
+        /**
+         * Sets the maximum size of the active file parsed from a string, the file is also
+         * rolled when it grows above this size.
+         * @apiNote The file name pattern must contain the "%i" index token.
+         * @param maxFileSize the max file size to set
+         * @return this instance
+         */
+        public TimeBasedRollingPolicyBuilder setMaxFileSize(final String maxFileSize) {
+            this.maxFileSize = FileSize.valueOf(maxFileSize);
+            return this;
+        }
+
+        /**
+         * Sets the maximum size of the active file, the file is also rolled when it grows above this size.
+         * @apiNote The file name pattern must contain the "%i" index token.
+         * @param maxFileSize the max file size to set
+         * @return this instance
+         */
+        public TimeBasedRollingPolicyBuilder setMaxFileSize(final FileSize maxFileSize) {
+            this.maxFileSize = maxFileSize;
+            return this;
+        }
+
+        /**
+         * Sets the compressor used to compress rolled files on a background thread.
+         * @apiNote When set an {@link ArchivingRollingPolicy} is built and the file name pattern
+         * must not end with a compression suffix.
+         * @param compressor the compressor to set
+         * @return this instance
+         */
+        public TimeBasedRollingPolicyBuilder setCompressor(final ArchiveCompressor compressor) {
+            this.compressor = compressor;
+            return this;
+        }
+
+        /**
+         * Sets the compressor used to compress rolled files on a background thread by name.
+         * @apiNote See {@link ArchiveCompressor#forName(String)}, "gzip" is always available.
+         * @param compression the name of the compressor to set
+         * @return this instance
+         */
+        public TimeBasedRollingPolicyBuilder setCompression(final String compression) {
+            this.compressor = ArchiveCompressor.forName(compression);
+            return this;
+        }
+
         /**
          * Sets the TimeBasedFileNamingAndTriggeringPolicy.
          * @param timeBasedTriggering the policy to set
@@ -426,17 +514,52 @@ public final class LoggingManager {
         /**
          * Builds a new TimeBasedRollingPolicy instance.
          * @apiNote The start method is not called automatically to allow adding the
-         * policy to a RollingFileAppender first.
+         * policy to a RollingFileAppender first. If a compressor is set an
+         * {@link ArchivingRollingPolicy} or {@link SizeAndTimeArchivingRollingPolicy} is built,
+         * which keeps at most max file history archives within the total size cap.
          * @return a new TimeBasedRollingPolicy instance
          */
         @SuppressWarnings("MethodWithMoreThanThreeNegations")
         @Override
         public @NotNull TimeBasedRollingPolicy<ILoggingEvent> build() {
-            final TimeBasedRollingPolicy<ILoggingEvent> logFilePolicy = new TimeBasedRollingPolicy<>();
+            checkArgument(maxFileSize == null || timeBasedFileNamingAndTriggeringPolicy == null,
+                    "MaxFileSize And TimeBasedFileNamingAndTriggeringPolicy Cannot Both Be Set!");
+            if (maxFileSize != null) {
+                checkArgument(fileNamePattern.contains("%i"), "FileNamePattern Must Contain %i When MaxFileSize Is Set!");
+            }
+            final boolean archiving = compressor != null;
+            if (archiving) {
+                checkArgument(!fileNamePattern.endsWith(".gz") && !fileNamePattern.endsWith(".zip")
+                        && !fileNamePattern.endsWith(".xz"), "FileNamePattern Must Not Have A Compression Suffix!");
+            }
+
+            final TimeBasedRollingPolicy<ILoggingEvent> logFilePolicy;
+            if (archiving && maxFileSize != null) {
+                final SizeAndTimeArchivingRollingPolicy archivingPolicy = new SizeAndTimeArchivingRollingPolicy();
+                archivingPolicy.setMaxFileSize(maxFileSize);
+                archivingPolicy.setCompressor(compressor);
+                archivingPolicy.setArchiveSizeCap(totalSizeCap);
+                archivingPolicy.setMaxArchiveCount(maxFileHistory);
+                logFilePolicy = archivingPolicy;
+            } else if (archiving) {
+                final ArchivingRollingPolicy archivingPolicy = new ArchivingRollingPolicy();
+                archivingPolicy.setCompressor(compressor);
+                archivingPolicy.setArchiveSizeCap(totalSizeCap);
+                archivingPolicy.setMaxArchiveCount(maxFileHistory);
+                logFilePolicy = archivingPolicy;
+            } else if (maxFileSize != null) {
+                final SizeAndTimeBasedRollingPolicy<ILoggingEvent> sizeAndTimePolicy = new SizeAndTimeBasedRollingPolicy<>();
+                sizeAndTimePolicy.setMaxFileSize(maxFileSize);
+                logFilePolicy = sizeAndTimePolicy;
+            } else {
+                logFilePolicy = new TimeBasedRollingPolicy<>();
+            }
+            if (!archiving) {
+                if(totalSizeCap != null) logFilePolicy.setTotalSizeCap(totalSizeCap);
+                if(maxFileHistory != -1) logFilePolicy.setMaxHistory(maxFileHistory);
+            }
             logFilePolicy.setContext(logCtx);
             logFilePolicy.setFileNamePattern(fileNamePattern);
-            if(totalSizeCap != null) logFilePolicy.setTotalSizeCap(totalSizeCap);
-            if(maxFileHistory != -1) logFilePolicy.setMaxHistory(maxFileHistory);
             logFilePolicy.setCleanHistoryOnStart(cleanHistoryOnStart);
             if(timeBasedFileNamingAndTriggeringPolicy != null) {
                 logFilePolicy.setTimeBasedFileNamingAndTriggeringPolicy(timeBasedFileNamingAndTriggeringPolicy);
@@ -458,6 +581,8 @@ public final class LoggingManager {
                     .append(totalSizeCap, builder.totalSizeCap)
                     .append(timeBasedFileNamingAndTriggeringPolicy, builder.timeBasedFileNamingAndTriggeringPolicy)
                     .append(parent, builder.parent)
+                    .append(maxFileSize, builder.maxFileSize)
+                    .append(compressor, builder.compressor)
                     .isEquals();
         }
 
@@ -470,6 +595,8 @@ public final class LoggingManager {
                     .append(cleanHistoryOnStart)
                     .append(timeBasedFileNamingAndTriggeringPolicy)
                     .append(parent)
+                    .append(maxFileSize)
+                    .append(compressor)
                     .toHashCode();
         }
 
@@ -482,6 +609,703 @@ public final class LoggingManager {
                     .append("cleanHistoryOnStart", cleanHistoryOnStart)
                     .append("timeBasedFileNamingAndTriggeringPolicy", timeBasedFileNamingAndTriggeringPolicy)
                     .append("parent", parent)
+                    .append("maxFileSize", maxFileSize)
+                    .append("compressor", compressor)
+                    .toString();
+        }
+    }
+
+    /**
+     * Gets a new AsyncAppenderBuilder instance.
+     * @return a new AsyncAppenderBuilder instance
+     */
+    @Contract(value = " -> new", pure = true)
+    public static @NotNull AsyncAppenderBuilder getAsyncAppenderBuilder() {
+        return new AsyncAppenderBuilder();
+    }
+
+    /**
+     * This class contains methods to build an {@link AsyncRingBufferAppender}
+     * that wraps another appender so logging threads do not block on its I/O.
+     */
+    @SuppressWarnings("FieldHasSetterButNoGetter")
+    public static final class AsyncAppenderBuilder implements Buildable<AsyncRingBufferAppender> {
+        private String name;
+        private Appender<ILoggingEvent> appender;
+        private int capacity = AsyncRingBufferAppender.DEFAULT_CAPACITY;
+        private int discardingThreshold = -1;
+        private Level discardLevel = Level.INFO;
+        private boolean neverBlock;
+        private boolean includeCallerData;
+        private Duration maxFlushTime = AsyncRingBufferAppender.DEFAULT_MAX_FLUSH_TIME;
+        private boolean flushOnShutdown = true;
+
+        private AsyncAppenderBuilder() { }
+
+        /**
+         * Sets the name of the appender.
+         * @param name the name to set
+         * @return this instance
+         */
+        public AsyncAppenderBuilder setName(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the appender that events are handed to on the background thread.
+         * @apiNote This must be set or the build method will throw an IllegalArgumentException.
+         * @param appender the appender to wrap
+         * @return this instance
+         */
+        public AsyncAppenderBuilder setAppender(final Appender<ILoggingEvent> appender) {
+            this.appender = appender;
+            return this;
+        }
+
+        /**
+         * Sets the capacity of the ring buffer.
+         * @apiNote The value is rounded up to the next power of two, the default is
+         * {@link AsyncRingBufferAppender#DEFAULT_CAPACITY}.
+         * @param capacity the capacity to set
+         * @return this instance
+         */
+        public AsyncAppenderBuilder setCapacity(final int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Sets the free space below which events at or below the discard level are dropped.
+         * @apiNote If this value is less than 0 then a fifth of the capacity is used,
+         * if it is 0 then no events are dropped until the buffer is full.
+         * @param discardingThreshold the value to set
+         * @return this instance
+         */
+        public AsyncAppenderBuilder setDiscardingThreshold(final int discardingThreshold) {
+            this.discardingThreshold = discardingThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the highest level that is dropped when the buffer is nearly full.
+         * @apiNote The default is {@link Level#INFO}.
+         * @param discardLevel the level to set
+         * @return this instance
+         */
+        public AsyncAppenderBuilder setDiscardLevel(final Level discardLevel) {
+            this.discardLevel = discardLevel;
+            return this;
+        }
+
+        /**
+         * Sets if events are dropped instead of waiting for space when the buffer is full.
+         * @param neverBlock the value to set
+         * @return this instance
+         */
+        public AsyncAppenderBuilder setNeverBlock(final boolean neverBlock) {
+            this.neverBlock = neverBlock;
+            return this;
+        }
+
+        /**
+         * Sets if the caller data is extracted before queueing each event.
+         * @apiNote This is expensive and is only needed if the wrapped encoder prints caller data.
+         * @param includeCallerData the value to set
+         * @return this instance
+         */
+        public AsyncAppenderBuilder setIncludeCallerData(final boolean includeCallerData) {
+            this.includeCallerData = includeCallerData;
+            return this;
+        }
+
+        /**
+         * Sets the time to wait for the buffer to be flushed when stopping.
+         * @param maxFlushTime the value to set
+         * @return this instance
+         */
+        public AsyncAppenderBuilder setMaxFlushTime(final Duration maxFlushTime) {
+            this.maxFlushTime = maxFlushTime;
+            return this;
+        }
+
+        /**
+         * Sets if a shutdown hook is registered that stops the appender and flushes the buffer.
+         * @apiNote The default is true.
+         * @param flushOnShutdown the value to set
+         * @return this instance
+         */
+        public AsyncAppenderBuilder setFlushOnShutdown(final boolean flushOnShutdown) {
+            this.flushOnShutdown = flushOnShutdown;
+            return this;
+        }
+
+        /**
+         * Builds a new AsyncRingBufferAppender instance.
+         * @apiNote If the name is not set the default is "async".
+         * The start method on both the wrapped appender (if not already started)
+         * and the new AsyncRingBufferAppender are called automatically.
+         * @return a new AsyncRingBufferAppender instance
+         */
+        @Override
+        public @NotNull AsyncRingBufferAppender build() {
+            checkArgumentNotNull(appender, "Appender Must Be Set!");
+            final AsyncRingBufferAppender asyncAppender = new AsyncRingBufferAppender(
+                    appender,
+                    capacity,
+                    discardingThreshold < 0 ? capacity / 5 : discardingThreshold,
+                    requireNonNullElse(discardLevel, Level.INFO),
+                    neverBlock,
+                    includeCallerData,
+                    requireNonNullElse(maxFlushTime, AsyncRingBufferAppender.DEFAULT_MAX_FLUSH_TIME),
+                    flushOnShutdown);
+            asyncAppender.setContext(logCtx);
+            asyncAppender.setName(isBlank(name) ? "async" : name);
+            asyncAppender.start();
+            return asyncAppender;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) return true;
+
+            if (!(obj instanceof final AsyncAppenderBuilder builder)) return false;
+
+            return new EqualsBuilder()
+                    .append(capacity, builder.capacity)
+                    .append(discardingThreshold, builder.discardingThreshold)
+                    .append(neverBlock, builder.neverBlock)
+                    .append(includeCallerData, builder.includeCallerData)
+                    .append(flushOnShutdown, builder.flushOnShutdown)
+                    .append(name, builder.name)
+                    .append(appender, builder.appender)
+                    .append(discardLevel, builder.discardLevel)
+                    .append(maxFlushTime, builder.maxFlushTime)
+                    .isEquals();
+        }
+
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder(17, 37)
+                    .append(name)
+                    .append(appender)
+                    .append(capacity)
+                    .append(discardingThreshold)
+                    .append(discardLevel)
+                    .append(neverBlock)
+                    .append(includeCallerData)
+                    .append(maxFlushTime)
+                    .append(flushOnShutdown)
+                    .toHashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .append("name", name)
+                    .append("appender", appender)
+                    .append("capacity", capacity)
+                    .append("discardingThreshold", discardingThreshold)
+                    .append("discardLevel", discardLevel)
+                    .append("neverBlock", neverBlock)
+                    .append("includeCallerData", includeCallerData)
+                    .append("maxFlushTime", maxFlushTime)
+                    .append("flushOnShutdown", flushOnShutdown)
+                    .toString();
+        }
+    }
+
+    /**
+     * Gets a new BatchingFileAppenderBuilder instance.
+     * @return a new BatchingFileAppenderBuilder instance
+     */
+    @Contract(value = " -> new", pure = true)
+    public static @NotNull BatchingFileAppenderBuilder getBatchingFileAppenderBuilder() {
+        return new BatchingFileAppenderBuilder();
+    }
+
+    /**
+     * This class contains methods to build a {@link BatchingFileAppender}, a high throughput
+     * alternative to the RollingFileAppender that writes events in large batches.
+     */
+    @SuppressWarnings("FieldHasSetterButNoGetter")
+    public static final class BatchingFileAppenderBuilder implements Buildable<BatchingFileAppender> {
+        private String name;
+        private String fileName;
+        private boolean append = true;
+        private Encoder<ILoggingEvent> encoder;
+        private int bufferSize = BatchingFileAppender.DEFAULT_BUFFER_SIZE;
+        private Duration flushInterval = BatchingFileAppender.DEFAULT_FLUSH_INTERVAL;
+        private BatchingFileAppender.Durability durability = BatchingFileAppender.Durability.BUFFERED;
+
+        private BatchingFileAppenderBuilder() { }
+
+        /**
+         * Sets the name of the appender.
+         * @param name the name to set
+         * @return this instance
+         */
+        public BatchingFileAppenderBuilder setName(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the filename.
+         * @apiNote This must be set or the build method will throw an IllegalArgumentException.
+         * @param fileName the filename to set
+         * @return this instance
+         */
+        public BatchingFileAppenderBuilder setFileName(final String fileName) {
+            this.fileName = fileName;
+            return this;
+        }
+
+        /**
+         * Sets if events are appended to an existing file instead of truncating it.
+         * @apiNote The default is true.
+         * @param append the value to set
+         * @return this instance
+         */
+        public BatchingFileAppenderBuilder setAppend(final boolean append) {
+            this.append = append;
+            return this;
+        }
+
+        /**
+         * Sets the encoder.
+         * @param encoder the encoder to set
+         * @return this instance
+         */
+        public BatchingFileAppenderBuilder setEncoder(final Encoder<ILoggingEvent> encoder) {
+            this.encoder = encoder;
+            return this;
+        }
+
+        /**
+         * Sets the size in bytes of the write buffer, the buffer is written to the file when full.
+         * @apiNote The default is {@link BatchingFileAppender#DEFAULT_BUFFER_SIZE}.
+         * @param bufferSize the value to set
+         * @return this instance
+         */
+        public BatchingFileAppenderBuilder setBufferSize(final int bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Sets the interval at which the buffer is written to the file.
+         * @apiNote The default is {@link BatchingFileAppender#DEFAULT_FLUSH_INTERVAL}.
+         * @param flushInterval the value to set
+         * @return this instance
+         */
+        public BatchingFileAppenderBuilder setFlushInterval(final Duration flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * Sets how often the file is forced to the storage device.
+         * @apiNote The default is {@link BatchingFileAppender.Durability#BUFFERED}.
+         * @param durability the value to set
+         * @return this instance
+         */
+        public BatchingFileAppenderBuilder setDurability(final BatchingFileAppender.Durability durability) {
+            this.durability = durability;
+            return this;
+        }
+
+        /**
+         * Builds a new BatchingFileAppender instance.
+         * @apiNote If the name is not set the default is "batchingFile" and
+         * if the encoder is not set the {@link Encoders#BasicEncoder} is used instead.
+         * The start method is called automatically.
+         * @return a new BatchingFileAppender instance
+         */
+        @Override
+        public @NotNull BatchingFileAppender build() {
+            checkArgumentNotNullOrEmpty(fileName, "FileName Must Be Set!");
+            checkArgument(bufferSize > 0, "BufferSize Must Be Greater Than 0!");
+            final Duration interval = requireNonNullElse(flushInterval, BatchingFileAppender.DEFAULT_FLUSH_INTERVAL);
+            checkArgument(!interval.isNegative() && !interval.isZero(), "FlushInterval Must Be Positive!");
+            final BatchingFileAppender appender = new BatchingFileAppender(
+                    Path.of(fileName),
+                    append,
+                    requireNonNullElse(encoder, Encoders.BasicEncoder.getEncoder()),
+                    bufferSize,
+                    interval,
+                    requireNonNullElse(durability, BatchingFileAppender.Durability.BUFFERED));
+            appender.setContext(logCtx);
+            appender.setName(isBlank(name) ? "batchingFile" : name);
+            appender.start();
+            return appender;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) return true;
+
+            if (!(obj instanceof final BatchingFileAppenderBuilder builder)) return false;
+
+            return new EqualsBuilder()
+                    .append(append, builder.append)
+                    .append(bufferSize, builder.bufferSize)
+                    .append(name, builder.name)
+                    .append(fileName, builder.fileName)
+                    .append(encoder, builder.encoder)
+                    .append(flushInterval, builder.flushInterval)
+                    .append(durability, builder.durability)
+                    .isEquals();
+        }
+
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder(17, 37)
+                    .append(name)
+                    .append(fileName)
+                    .append(append)
+                    .append(encoder)
+                    .append(bufferSize)
+                    .append(flushInterval)
+                    .append(durability)
+                    .toHashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .append("name", name)
+                    .append("fileName", fileName)
+                    .append("append", append)
+                    .append("encoder", encoder)
+                    .append("bufferSize", bufferSize)
+                    .append("flushInterval", flushInterval)
+                    .append("durability", durability)
+                    .toString();
+        }
+    }
+
+    /**
+     * Gets a new MappedFileAppenderBuilder instance.
+     * @return a new MappedFileAppenderBuilder instance
+     */
+    @Contract(value = " -> new", pure = true)
+    public static @NotNull MappedFileAppenderBuilder getMappedFileAppenderBuilder() {
+        return new MappedFileAppenderBuilder();
+    }
+
+    /**
+     * This class contains methods to build a {@link MappedFileAppender}, a lock-free file appender
+     * that writes events into pre-allocated memory-mapped segment files.
+     */
+    @SuppressWarnings("FieldHasSetterButNoGetter")
+    public static final class MappedFileAppenderBuilder implements Buildable<MappedFileAppender> {
+        private String name;
+        private String fileName;
+        private Encoder<ILoggingEvent> encoder;
+        private int segmentSize = MappedFileAppender.DEFAULT_SEGMENT_SIZE;
+        private ChronoUnit rollingPeriod = MappedFileAppender.DEFAULT_ROLLING_PERIOD;
+        private int maxHistory;
+
+        private MappedFileAppenderBuilder() { }
+
+        /**
+         * Sets the name of the appender.
+         * @param name the name to set
+         * @return this instance
+         */
+        public MappedFileAppenderBuilder setName(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the filename, the segment files are named after it.
+         * @apiNote This must be set or the build method will throw an IllegalArgumentException.
+         * @param fileName the filename to set
+         * @return this instance
+         */
+        public MappedFileAppenderBuilder setFileName(final String fileName) {
+            this.fileName = fileName;
+            return this;
+        }
+
+        /**
+         * Sets the encoder.
+         * @param encoder the encoder to set
+         * @return this instance
+         */
+        public MappedFileAppenderBuilder setEncoder(final Encoder<ILoggingEvent> encoder) {
+            this.encoder = encoder;
+            return this;
+        }
+
+        /**
+         * Sets the size in bytes each segment file is pre-allocated to.
+         * @apiNote The default is {@link MappedFileAppender#DEFAULT_SEGMENT_SIZE}.
+         * @param segmentSize the value to set
+         * @return this instance
+         */
+        public MappedFileAppenderBuilder setSegmentSize(final int segmentSize) {
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * Sets the period after which a new segment is started, must be minutes, hours or days.
+         * @apiNote The default is {@link MappedFileAppender#DEFAULT_ROLLING_PERIOD}.
+         * @param rollingPeriod the value to set
+         * @return this instance
+         */
+        public MappedFileAppenderBuilder setRollingPeriod(final ChronoUnit rollingPeriod) {
+            this.rollingPeriod = rollingPeriod;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of segments to keep, older segments are deleted.
+         * @apiNote The default is 0 which keeps all segments.
+         * @param maxHistory the value to set
+         * @return this instance
+         */
+        public MappedFileAppenderBuilder setMaxHistory(final int maxHistory) {
+            this.maxHistory = maxHistory;
+            return this;
+        }
+
+        /**
+         * Builds a new MappedFileAppender instance.
+         * @apiNote If the name is not set the default is "mappedFile" and
+         * if the encoder is not set the {@link Encoders#BasicEncoder} is used instead.
+         * The start method is called automatically.
+         * @return a new MappedFileAppender instance
+         */
+        @Override
+        public @NotNull MappedFileAppender build() {
+            checkArgumentNotNullOrEmpty(fileName, "FileName Must Be Set!");
+            checkArgument(segmentSize > 0, "SegmentSize Must Be Greater Than 0!");
+            checkArgument(maxHistory >= 0, "MaxHistory Must Not Be Negative!");
+            final ChronoUnit period = requireNonNullElse(rollingPeriod, MappedFileAppender.DEFAULT_ROLLING_PERIOD);
+            checkArgument(period == ChronoUnit.MINUTES || period == ChronoUnit.HOURS || period == ChronoUnit.DAYS,
+                    "RollingPeriod Must Be MINUTES, HOURS Or DAYS!");
+            final MappedFileAppender appender = new MappedFileAppender(
+                    Path.of(fileName),
+                    requireNonNullElse(encoder, Encoders.BasicEncoder.getEncoder()),
+                    segmentSize,
+                    period,
+                    maxHistory);
+            appender.setContext(logCtx);
+            appender.setName(isBlank(name) ? "mappedFile" : name);
+            appender.start();
+            return appender;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) return true;
+
+            if (!(obj instanceof final MappedFileAppenderBuilder builder)) return false;
+
+            return new EqualsBuilder()
+                    .append(segmentSize, builder.segmentSize)
+                    .append(maxHistory, builder.maxHistory)
+                    .append(name, builder.name)
+                    .append(fileName, builder.fileName)
+                    .append(encoder, builder.encoder)
+                    .append(rollingPeriod, builder.rollingPeriod)
+                    .isEquals();
+        }
+
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder(17, 37)
+                    .append(name)
+                    .append(fileName)
+                    .append(encoder)
+                    .append(segmentSize)
+                    .append(rollingPeriod)
+                    .append(maxHistory)
+                    .toHashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .append("name", name)
+                    .append("fileName", fileName)
+                    .append("encoder", encoder)
+                    .append("segmentSize", segmentSize)
+                    .append("rollingPeriod", rollingPeriod)
+                    .append("maxHistory", maxHistory)
+                    .toString();
+        }
+    }
+
+    /**
+     * Gets a new RingBufferAppenderBuilder instance.
+     * @return a new RingBufferAppenderBuilder instance
+     */
+    @Contract(value = " -> new", pure = true)
+    public static @NotNull RingBufferAppenderBuilder getRingBufferAppenderBuilder() {
+        return new RingBufferAppenderBuilder();
+    }
+
+    /**
+     * This class contains methods to build a {@link RingBufferAppender}, an appender that keeps
+     * the most recent events in memory and writes them out on demand or when an error is logged.
+     */
+    @SuppressWarnings("FieldHasSetterButNoGetter")
+    public static final class RingBufferAppenderBuilder implements Buildable<RingBufferAppender> {
+        private String name;
+        private Encoder<ILoggingEvent> encoder;
+        private int capacity = RingBufferAppender.DEFAULT_CAPACITY;
+        private Level dumpLevel = Level.ERROR;
+        private String dumpFileName;
+        private Duration dumpCooldown = RingBufferAppender.DEFAULT_DUMP_COOLDOWN;
+        private boolean registerMBean;
+
+        private RingBufferAppenderBuilder() { }
+
+        /**
+         * Sets the name of the appender.
+         * @param name the name to set
+         * @return this instance
+         */
+        public RingBufferAppenderBuilder setName(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the encoder the events are stored with.
+         * @param encoder the encoder to set
+         * @return this instance
+         */
+        public RingBufferAppenderBuilder setEncoder(final Encoder<ILoggingEvent> encoder) {
+            this.encoder = encoder;
+            return this;
+        }
+
+        /**
+         * Sets the number of buffered events, it is rounded up to a power of two.
+         * @apiNote The default is {@link RingBufferAppender#DEFAULT_CAPACITY}.
+         * @param capacity the value to set
+         * @return this instance
+         */
+        public RingBufferAppenderBuilder setCapacity(final int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Sets the level at and above which an event triggers a dump of the events since the previous dump.
+         * @apiNote The default is {@link Level#ERROR}, null or {@link Level#OFF} disables triggered dumps.
+         * @param dumpLevel the level to set
+         * @return this instance
+         */
+        public RingBufferAppenderBuilder setDumpLevel(final Level dumpLevel) {
+            this.dumpLevel = dumpLevel;
+            return this;
+        }
+
+        /**
+         * Sets the file triggered dumps are appended to.
+         * @apiNote If not set triggered dumps are written to the standard error stream.
+         * @param dumpFileName the filename to set
+         * @return this instance
+         */
+        public RingBufferAppenderBuilder setDumpFileName(final String dumpFileName) {
+            this.dumpFileName = dumpFileName;
+            return this;
+        }
+
+        /**
+         * Sets the minimum time between two triggered dumps, so a burst of errors writes one dump.
+         * @apiNote The default is {@link RingBufferAppender#DEFAULT_DUMP_COOLDOWN}.
+         * @param dumpCooldown the value to set
+         * @return this instance
+         */
+        public RingBufferAppenderBuilder setDumpCooldown(final Duration dumpCooldown) {
+            this.dumpCooldown = dumpCooldown;
+            return this;
+        }
+
+        /**
+         * Sets if the appender is registered with the platform MBean server while started.
+         * @apiNote The default is false.
+         * @param registerMBean the value to set
+         * @return this instance
+         */
+        public RingBufferAppenderBuilder setRegisterMBean(final boolean registerMBean) {
+            this.registerMBean = registerMBean;
+            return this;
+        }
+
+        /**
+         * Builds a new RingBufferAppender instance.
+         * @apiNote If the name is not set the default is "ringBuffer" and
+         * if the encoder is not set the precompiled {@link Encoders#ExtendedEncoder} is used instead.
+         * The start method is called automatically.
+         * @return a new RingBufferAppender instance
+         */
+        @Override
+        public @NotNull RingBufferAppender build() {
+            checkArgument(capacity > 0 && capacity <= 1 << 30, "Capacity Must Be Between 1 And 2^30!");
+            final Duration cooldown = requireNonNullElse(dumpCooldown, RingBufferAppender.DEFAULT_DUMP_COOLDOWN);
+            checkArgument(!cooldown.isNegative(), "DumpCooldown Must Not Be Negative!");
+            final RingBufferAppender appender = new RingBufferAppender(
+                    capacity,
+                    requireNonNullElse(encoder, Encoders.ExtendedEncoder.getPrecompiledEncoder()),
+                    dumpLevel == Level.OFF ? null : dumpLevel,
+                    isBlank(dumpFileName) ? null : Path.of(dumpFileName),
+                    cooldown,
+                    registerMBean);
+            appender.setContext(logCtx);
+            appender.setName(isBlank(name) ? "ringBuffer" : name);
+            appender.start();
+            return appender;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) return true;
+
+            if (!(obj instanceof final RingBufferAppenderBuilder builder)) return false;
+
+            return new EqualsBuilder()
+                    .append(capacity, builder.capacity)
+                    .append(registerMBean, builder.registerMBean)
+                    .append(name, builder.name)
+                    .append(encoder, builder.encoder)
+                    .append(dumpLevel, builder.dumpLevel)
+                    .append(dumpFileName, builder.dumpFileName)
+                    .append(dumpCooldown, builder.dumpCooldown)
+                    .isEquals();
+        }
+
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder(17, 37)
+                    .append(name)
+                    .append(encoder)
+                    .append(capacity)
+                    .append(dumpLevel)
+                    .append(dumpFileName)
+                    .append(dumpCooldown)
+                    .append(registerMBean)
+                    .toHashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .append("name", name)
+                    .append("encoder", encoder)
+                    .append("capacity", capacity)
+                    .append("dumpLevel", dumpLevel)
+                    .append("dumpFileName", dumpFileName)
+                    .append("dumpCooldown", dumpCooldown)
+                    .append("registerMBean", registerMBean)
                     .toString();
         }
     }
@@ -0,0 +1,410 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * A file appender that writes encoded events into pre-allocated, memory-mapped segment files.
+ * <p>
+ * Each segment is a file of a fixed size mapped into memory. Writers reserve space in the
+ * current segment by atomically advancing its position and then copy the event into the
+ * reserved region, so threads never take a lock to log. A new segment is started when the
+ * current one is full or when the rolling period ends, in the same way as a
+ * {@link ch.qos.logback.core.rolling.TimeBasedRollingPolicy}. Segments are named
+ * {@code <name>-<period>.<index><extension>} after the configured file name, e.g.
+ * {@code logs/app-2025-01-31_13.0.log}. When a segment is closed its mapping is released and
+ * the file is trimmed to its content.
+ *
+ * @apiNote Use {@link LoggingManager#getMappedFileAppenderBuilder()} to create a new instance.
+ * The operating system writes the mapped pages to disk, so events survive a JVM crash but
+ * not a power loss unless {@link #force()} is called.
+ * <p>
+ * The mapping is released through {@code sun.misc.Unsafe}. If that is not available, or a
+ * writer does not finish within {@value #CLOSE_TIMEOUT_MILLIS} milliseconds of the segment
+ * being closed, the mapping is left to the garbage collector. Windows cannot trim or delete a
+ * file that is still mapped, so in that case the segment keeps its full size with the content
+ * followed by zero bytes, and old segments may outlive the max history. The segment files,
+ * the current one included, always end with zero bytes while they are being written.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public final class MappedFileAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+    /** The default size in bytes of each segment file. */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    /** The default period after which a new segment is started. */
+    public static final ChronoUnit DEFAULT_ROLLING_PERIOD = ChronoUnit.HOURS;
+    /** The time in milliseconds a segment being closed waits for the writers still copying into it. */
+    public static final long CLOSE_TIMEOUT_MILLIS = 1000;
+    // Number of times closing a segment spins on its writers before it starts to park.
+    private static final int CLOSE_SPIN_TRIES = 64;
+    private static final long MAX_CLOSE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    // Unsafe.invokeCleaner bound to the Unsafe instance, or null if it is not accessible.
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private final Path directory;
+    private final String baseName;
+    private final String extension;
+    private final Encoder<ILoggingEvent> encoder;
+    private final int segmentSize;
+    private final ChronoUnit rollingPeriod;
+    private final DateTimeFormatter periodFormatter;
+    private final int maxHistory;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final Deque<Path> history = new ArrayDeque<>();
+    private final LongAdder droppedCount = new LongAdder();
+
+    private volatile Segment current;
+
+    private static final class Segment {
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final long periodStart;
+        private final long periodEnd;
+        private final int index;
+        private final AtomicInteger position = new AtomicInteger();
+        private final AtomicInteger writers = new AtomicInteger();
+        private final AtomicInteger end;
+        private volatile boolean sealed;
+
+        private Segment(final Path path, final FileChannel channel, final MappedByteBuffer buffer,
+                        final long periodStart, final long periodEnd, final int index) {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.periodStart = periodStart;
+            this.periodEnd = periodEnd;
+            this.index = index;
+            end = new AtomicInteger(buffer.capacity());
+        }
+    }
+
+    MappedFileAppender(final @NotNull Path file,
+                       final @NotNull Encoder<ILoggingEvent> encoder,
+                       final int segmentSize,
+                       final @NotNull ChronoUnit rollingPeriod,
+                       final int maxHistory) {
+        checkArgumentNotNull(file, cannotBeNull("file"));
+        checkArgumentNotNull(encoder, cannotBeNull("encoder"));
+        final Path parent = file.toAbsolutePath().getParent();
+        final String fileName = file.getFileName().toString();
+        final int dot = fileName.lastIndexOf('.');
+        this.directory = parent;
+        this.baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        this.extension = dot > 0 ? fileName.substring(dot) : "";
+        this.encoder = encoder;
+        this.segmentSize = segmentSize;
+        this.rollingPeriod = rollingPeriod;
+        this.periodFormatter = DateTimeFormatter.ofPattern(switch (rollingPeriod) {
+            case MINUTES -> "yyyy-MM-dd_HH-mm";
+            case HOURS -> "yyyy-MM-dd_HH";
+            case DAYS -> "yyyy-MM-dd";
+            default -> throw new IllegalArgumentException("Rolling period must be MINUTES, HOURS or DAYS!");
+        });
+        this.maxHistory = maxHistory;
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) return;
+        if (!encoder.isStarted()) encoder.start();
+        try {
+            Files.createDirectories(directory);
+            current = openSegment(System.currentTimeMillis(), -1, 0);
+        } catch (final IOException e) {
+            addError("Failed to create segment in " + directory, e);
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) return;
+        super.stop();
+        synchronized (this) {
+            closeSegment(current);
+        }
+    }
+
+    @Override
+    protected void append(final ILoggingEvent event) {
+        final byte[] bytes = encoder.encode(event);
+        if (bytes == null || bytes.length == 0) return;
+        if (bytes.length > segmentSize) {
+            droppedCount.increment();
+            addWarn("Dropped an event of " + bytes.length + " bytes which is larger than the segment size.");
+            return;
+        }
+
+        final long timestamp = event.getTimeStamp();
+        while (isStarted()) {
+            final Segment segment = current;
+            if (timestamp >= segment.periodEnd) {
+                roll(segment, timestamp);
+                continue;
+            }
+
+            segment.writers.incrementAndGet();
+            try {
+                if (segment.sealed) continue;
+                final int start = segment.position.getAndAdd(bytes.length);
+                if (start >= 0 && start <= segmentSize - bytes.length) {
+                    segment.buffer.put(start, bytes);
+                    return;
+                }
+                // The first reservation that did not fit marks the end of the written content
+                if (start >= 0) segment.end.accumulateAndGet(start, Math::min);
+            } finally {
+                segment.writers.decrementAndGet();
+            }
+            roll(segment, timestamp);
+        }
+    }
+
+    /**
+     * Replaces the specified segment with a new one if it is still the current segment.
+     * Threads that lose the race simply retry against the new segment.
+     */
+    private synchronized void roll(final Segment segment, final long timestamp) {
+        if (current != segment || !isStarted()) return;
+        try {
+            final boolean samePeriod = timestamp < segment.periodEnd;
+            current = openSegment(Math.max(timestamp, segment.periodStart),
+                    samePeriod ? segment.periodStart : -1,
+                    samePeriod ? segment.index + 1 : 0);
+        } catch (final IOException e) {
+            addError("Failed to roll segment " + segment.path, e);
+            return;
+        }
+        closeSegment(segment);
+        pruneHistory();
+    }
+
+    private @NotNull Segment openSegment(final long timestamp, final long knownPeriodStart, final int firstIndex)
+            throws IOException {
+        final ZonedDateTime start = knownPeriodStart >= 0
+                ? Instant.ofEpochMilli(knownPeriodStart).atZone(zone)
+                : Instant.ofEpochMilli(timestamp).atZone(zone).truncatedTo(rollingPeriod);
+        final long periodStart = start.toInstant().toEpochMilli();
+        final long periodEnd = start.plus(1, rollingPeriod).toInstant().toEpochMilli();
+        final String period = periodFormatter.format(start);
+
+        int index = firstIndex;
+        Path path = directory.resolve(baseName + '-' + period + '.' + index + extension);
+        while (Files.exists(path)) {
+            index++;
+            path = directory.resolve(baseName + '-' + period + '.' + index + extension);
+        }
+
+        final FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        history.addLast(path);
+        return new Segment(path, channel, buffer, periodStart, periodEnd, index);
+    }
+
+    /** Deletes the oldest segments beyond the max history, called after the previous segment is closed. */
+    private void pruneHistory() {
+        while (maxHistory > 0 && history.size() > maxHistory) {
+            final Path oldest = history.removeFirst();
+            try {
+                Files.deleteIfExists(oldest);
+            } catch (final IOException e) {
+                addWarn("Failed to delete old segment " + oldest, e);
+            }
+        }
+    }
+
+    private void closeSegment(final @NotNull Segment segment) {
+        segment.sealed = true;
+        final boolean idle = awaitWriters(segment);
+        final long length = Math.min(segment.position.get(), segment.end.get());
+        boolean unmapped = false;
+        try {
+            if (idle) segment.buffer.force();
+        } finally {
+            try {
+                segment.channel.close();
+            } catch (final IOException e) {
+                addWarn("Failed to close segment " + segment.path, e);
+            }
+            if (idle) {
+                unmapped = unmap(segment.buffer);
+            } else {
+                addWarn("Writers did not finish within " + CLOSE_TIMEOUT_MILLIS + " ms, segment "
+                        + segment.path + " was left mapped and untrimmed.");
+            }
+        }
+        //A file that is still mapped cannot be trimmed on Windows, elsewhere it is always safe
+        //as every write that completed lies below the length
+        if (idle && (unmapped || INVOKE_CLEANER == null)) trim(segment.path, length);
+    }
+
+    /**
+     * Waits for the writers of a sealed segment to finish, spinning first and then parking
+     * with a growing backoff.
+     * @return true if all writers finished before the close timeout
+     */
+    private static boolean awaitWriters(final @NotNull Segment segment) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CLOSE_TIMEOUT_MILLIS);
+        int tries = 0;
+        long parkNanos = 1;
+        while (segment.writers.get() != 0) {
+            if (tries < CLOSE_SPIN_TRIES) {
+                tries++;
+                Thread.onSpinWait();
+                continue;
+            }
+            if (System.nanoTime() - deadline >= 0) return false;
+            LockSupport.parkNanos(parkNanos);
+            parkNanos = Math.min(parkNanos << 1, MAX_CLOSE_PARK_NANOS);
+        }
+        return true;
+    }
+
+    private void trim(final Path path, final long length) {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        } catch (final IOException e) {
+            addWarn("Failed to trim segment " + path + " to " + length + " bytes", e);
+        }
+    }
+
+    private boolean unmap(final MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) return false;
+        try {
+            INVOKE_CLEANER.invokeExact((ByteBuffer) buffer);
+            return true;
+        } catch (final Throwable e) {
+            addWarn("Failed to release the mapping of a segment", e);
+            return false;
+        }
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** Forces the content of the current segment to the storage device. */
+    public void force() {
+        final Segment segment = current;
+        if (segment == null) return;
+        //Registered as a writer so the mapping cannot be released while it is forced
+        segment.writers.incrementAndGet();
+        try {
+            if (!segment.sealed) segment.buffer.force();
+        } finally {
+            segment.writers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the path of the segment currently being written.
+     * @return the path of the current segment or null if not started
+     */
+    public Path getCurrentSegment() {
+        final Segment segment = current;
+        return segment == null ? null : segment.path;
+    }
+
+    /**
+     * Returns the number of events dropped because they were larger than the segment size.
+     * @return the number of dropped events
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Returns the size in bytes of each segment file.
+     * @return the segment size
+     */
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Returns the period after which a new segment is started.
+     * @return the rolling period
+     */
+    public ChronoUnit getRollingPeriod() {
+        return rollingPeriod;
+    }
+
+    /**
+     * Returns the maximum number of segments created by this appender that are kept.
+     * @return the max history or 0 if unlimited
+     */
+    public int getMaxHistory() {
+        return maxHistory;
+    }
+
+    /**
+     * Returns the encoder used to encode the events.
+     * @return the encoder
+     */
+    public Encoder<ILoggingEvent> getEncoder() {
+        return encoder;
+    }
+}
@@ -0,0 +1,124 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+
+/**
+ * A bounded, lock-free, multi-producer single-consumer ring buffer.
+ * <p>
+ * Each slot has a sequence number that tells producers and the consumer whether the
+ * slot is free or holds a published element, so producers only contend on a single
+ * compare-and-set of the tail index and the consumer never uses atomic updates.
+ *
+ * @param <E> the type of the elements
+ * @apiNote Only one thread may call {@link #poll()} at a time.
+ *
+ * @since 0.0.1
+ */
+final class MpscRingBuffer<E> {
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * Creates a new MpscRingBuffer.
+     * @param capacity the capacity, rounded up to the next power of two
+     * @throws IllegalArgumentException if capacity is less than 2 or greater than 2^30
+     */
+    MpscRingBuffer(final int capacity) {
+        checkArgument(capacity >= 2 && capacity <= 1 << 30, "Capacity must be between 2 and 2^30!");
+        this.capacity = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.elements = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.setPlain(i, i);
+        }
+    }
+
+    /**
+     * Adds an element if there is space.
+     * @param element the element to add
+     * @return true if the element was added, false if the buffer is full
+     */
+    boolean offer(final E element) {
+        long position = tail.get();
+        while (true) {
+            final int index = (int) position & mask;
+            final long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.setPlain(index, element);
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest element.
+     * @return the oldest element or null if the buffer is empty
+     */
+    E poll() {
+        final long position = head;
+        final int index = (int) position & mask;
+        if (sequences.getAcquire(index) != position + 1) return null;
+
+        final E element = elements.getPlain(index);
+        elements.setPlain(index, null);
+        sequences.setRelease(index, position + capacity);
+        head = position + 1;
+        return element;
+    }
+
+    /**
+     * Returns the approximate number of elements in the buffer.
+     * @return the number of elements
+     */
+    int size() {
+        final long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,216 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.pattern.Abbreviator;
+import ch.qos.logback.classic.pattern.ClassNameOnlyAbbreviator;
+import ch.qos.logback.classic.pattern.TargetLengthBasedClassNameAbbreviator;
+import ch.qos.logback.classic.pattern.ThrowableProxyConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.encoder.EncoderBase;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * A hand-written encoder that produces the same output as the pattern based {@link Encoders}
+ * without interpreting a pattern for every event.
+ * <p>
+ * The formatted timestamp is cached once per second, abbreviated logger names are cached once
+ * per logger and every event is encoded straight into a reusable per-thread byte buffer, so the
+ * only allocation left for a typical event is the returned byte array.
+ *
+ * @apiNote Use {@link Encoders#getPrecompiledEncoder()} or
+ * {@link LoggingManager#createNewPrecompiledEncoder(Format)} to get an instance.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public final class PrecompiledEncoder extends EncoderBase<ILoggingEvent> {
+    private static final byte[] LINE_SEPARATOR = CoreConstants.LINE_SEPARATOR.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SEPARATOR = " - ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    /** The output formats matching the patterns of the {@link Encoders} constants. */
+    public enum Format {
+        /** The pattern "%msg%n". */
+        LIMITED,
+        /** The pattern "%-12d{YYYY-MM-dd HH:mm:ss} %level %logger{0} - %msg%n". */
+        BASIC,
+        /** The pattern "%-12d{YYYY-MM-dd HH:mm:ss.SSS} [%thread] %level %logger{100} - %msg%n". */
+        EXTENDED
+    }
+
+    private static final class CachedSecond {
+        private final long second;
+        private final byte[] bytes;
+
+        private CachedSecond(final long second, final byte[] bytes) {
+            this.second = second;
+            this.bytes = bytes;
+        }
+    }
+
+    private final Format format;
+    private final DateTimeFormatter dateFormatter;
+    private final Abbreviator abbreviator;
+    private final Map<String, byte[]> loggerNames = new ConcurrentHashMap<>();
+    private final boolean utf8 = Charset.defaultCharset().equals(StandardCharsets.UTF_8);
+    private final ThrowableProxyConverter throwableConverter = new ThrowableProxyConverter();
+    private volatile CachedSecond cachedSecond = new CachedSecond(Long.MIN_VALUE, new byte[0]);
+
+    /**
+     * Creates a new encoder with the specified format.
+     * @param format the output format
+     */
+    @SuppressWarnings("MisusedWeekYear")
+    public PrecompiledEncoder(final @NotNull Format format) {
+        checkArgumentNotNull(format, cannotBeNull("format"));
+        this.format = format;
+        // "YYYY" is kept to match the output of the pattern based encoders
+        dateFormatter = DateTimeFormatter.ofPattern("YYYY-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+        abbreviator = format == Format.EXTENDED
+                ? new TargetLengthBasedClassNameAbbreviator(100)
+                : new ClassNameOnlyAbbreviator();
+    }
+
+    @Override
+    public void start() {
+        throwableConverter.setContext(getContext());
+        throwableConverter.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        throwableConverter.stop();
+        super.stop();
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(final @NotNull ILoggingEvent event) {
+        final ByteSink sink = ByteSink.get();
+        try {
+            encode(sink, event);
+            return sink.toByteArray();
+        } finally {
+            sink.release();
+        }
+    }
+
+    private void encode(final ByteSink sink, final ILoggingEvent event) {
+        if (format != Format.LIMITED) {
+            sink.put(timestamp(event.getTimeStamp()));
+            if (format == Format.EXTENDED) {
+                sink.put((byte) '.');
+                sink.putDigits(Math.floorMod(event.getTimeStamp(), 1000L), 3);
+                sink.put((byte) ' ');
+                sink.put((byte) '[');
+                putString(sink, event.getThreadName());
+                sink.put((byte) ']');
+            }
+            sink.put((byte) ' ');
+            sink.put(levelBytes(event.getLevel()));
+            sink.put((byte) ' ');
+            sink.put(loggerName(event.getLoggerName()));
+            sink.put(SEPARATOR);
+        }
+        putString(sink, event.getFormattedMessage());
+        sink.put(LINE_SEPARATOR);
+        if (event.getThrowableProxy() != null) {
+            putString(sink, throwableConverter.convert(event));
+        }
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    /**
+     * Returns the output format of this encoder.
+     * @return the format
+     */
+    public Format getFormat() {
+        return format;
+    }
+
+    private byte[] timestamp(final long timestamp) {
+        final long second = Math.floorDiv(timestamp, 1000L);
+        final CachedSecond cached = cachedSecond;
+        if (cached.second == second) return cached.bytes;
+        final byte[] bytes = dateFormatter.format(Instant.ofEpochSecond(second)).getBytes(StandardCharsets.US_ASCII);
+        cachedSecond = new CachedSecond(second, bytes);
+        return bytes;
+    }
+
+    private byte[] loggerName(final String name) {
+        if (name == null) return NULL;
+        return loggerNames.computeIfAbsent(name, key -> abbreviator.abbreviate(key).getBytes(Charset.defaultCharset()));
+    }
+
+    private static byte[] levelBytes(final Level level) {
+        return switch (level.toInt()) {
+            case Level.TRACE_INT -> LevelBytes.TRACE;
+            case Level.DEBUG_INT -> LevelBytes.DEBUG;
+            case Level.INFO_INT -> LevelBytes.INFO;
+            case Level.WARN_INT -> LevelBytes.WARN;
+            case Level.ERROR_INT -> LevelBytes.ERROR;
+            default -> level.levelStr.getBytes(StandardCharsets.US_ASCII);
+        };
+    }
+
+    private void putString(final ByteSink sink, final String value) {
+        if (value == null) {
+            sink.put(NULL);
+        } else if (utf8) {
+            sink.putUtf8(value);
+        } else {
+            sink.put(value.getBytes(Charset.defaultCharset()));
+        }
+    }
+
+    private static final class LevelBytes {
+        private static final byte[] TRACE = Level.TRACE.levelStr.getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] DEBUG = Level.DEBUG.levelStr.getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] INFO = Level.INFO.levelStr.getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] WARN = Level.WARN.levelStr.getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] ERROR = Level.ERROR.levelStr.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,166 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+
+/**
+ * A turbo filter that limits the number of events each logger may log per second
+ * with a token bucket, events above the limit are dropped.
+ * <p>
+ * The bucket of each logger is a single {@link AtomicLong} holding the theoretical arrival
+ * time of the next event (the generic cell rate algorithm), so taking a token is one
+ * compare-and-set and dropping an event neither locks nor allocates.
+ *
+ * @apiNote Attach it with {@link LoggerConfig#addTurboFilter(LoggerScopedTurboFilter)}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public final class RateLimitingTurboFilter extends LoggerScopedTurboFilter {
+    /** The default number of events allowed per second for each logger. */
+    public static final int DEFAULT_EVENTS_PER_SECOND = 100;
+    /** The default number of events allowed in a burst above the rate. */
+    public static final int DEFAULT_BURST = 100;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongAdder deniedCount = new LongAdder();
+    private volatile long intervalNanos = TimeUnit.SECONDS.toNanos(1) / DEFAULT_EVENTS_PER_SECOND;
+    private volatile long toleranceNanos = intervalNanos * (DEFAULT_BURST - 1);
+    private int eventsPerSecond = DEFAULT_EVENTS_PER_SECOND;
+    private int burst = DEFAULT_BURST;
+    private Level exemptLevel = Level.ERROR;
+
+    /** Creates a new filter with the default rate and burst. */
+    public RateLimitingTurboFilter() { }
+
+    /**
+     * Creates a new filter with the specified rate and burst.
+     * @param eventsPerSecond the number of events allowed per second for each logger
+     * @param burst the number of events allowed in a burst
+     */
+    public RateLimitingTurboFilter(final int eventsPerSecond, final int burst) {
+        setEventsPerSecond(eventsPerSecond);
+        setBurst(burst);
+    }
+
+    @Override
+    protected FilterReply decideInScope(final Logger logger, final Level level, final String format,
+                                        final Object[] params, final Throwable t) {
+        if (level.isGreaterOrEqual(exemptLevel)) return FilterReply.NEUTRAL;
+        AtomicLong bucket = buckets.get(logger.getName());
+        if (bucket == null) bucket = buckets.computeIfAbsent(logger.getName(), name -> new AtomicLong(Long.MIN_VALUE));
+
+        final long interval = intervalNanos;
+        final long tolerance = toleranceNanos;
+        final long now = System.nanoTime();
+        while (true) {
+            final long arrival = bucket.get();
+            final long earliest = arrival == Long.MIN_VALUE ? now : Math.max(arrival, now);
+            if (earliest - now > tolerance) {
+                deniedCount.increment();
+                return FilterReply.DENY;
+            }
+            if (bucket.compareAndSet(arrival, earliest + interval)) return FilterReply.NEUTRAL;
+        }
+    }
+
+    /**
+     * Returns the number of events dropped by this filter.
+     * @return the number of dropped events
+     */
+    public long getDeniedCount() {
+        return deniedCount.sum();
+    }
+
+    /**
+     * Returns the number of events allowed per second for each logger.
+     * @return the number of events allowed per second
+     */
+    public int getEventsPerSecond() {
+        return eventsPerSecond;
+    }
+
+    /**
+     * Sets the number of events allowed per second for each logger.
+     * @apiNote The default is {@link #DEFAULT_EVENTS_PER_SECOND}.
+     * @param eventsPerSecond the value to set
+     */
+    public void setEventsPerSecond(final int eventsPerSecond) {
+        checkArgument(eventsPerSecond > 0, "EventsPerSecond Must Be Greater Than 0!");
+        this.eventsPerSecond = eventsPerSecond;
+        updateRate();
+    }
+
+    /**
+     * Returns the number of events allowed in a burst above the rate.
+     * @return the burst size
+     */
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * Sets the number of events allowed in a burst above the rate.
+     * @apiNote The default is {@link #DEFAULT_BURST}.
+     * @param burst the value to set
+     */
+    public void setBurst(final int burst) {
+        checkArgument(burst > 0, "Burst Must Be Greater Than 0!");
+        this.burst = burst;
+        updateRate();
+    }
+
+    /**
+     * Returns the level at and above which events are never dropped.
+     * @return the exempt level
+     */
+    public Level getExemptLevel() {
+        return exemptLevel;
+    }
+
+    /**
+     * Sets the level at and above which events are never dropped.
+     * @apiNote The default is {@link Level#ERROR}, use {@link Level#OFF} to limit all events.
+     * @param exemptLevel the value to set
+     */
+    public void setExemptLevel(final Level exemptLevel) {
+        this.exemptLevel = exemptLevel == null ? Level.ERROR : exemptLevel;
+    }
+
+    private void updateRate() {
+        final long interval = Math.max(1, TimeUnit.SECONDS.toNanos(1) / eventsPerSecond);
+        intervalNanos = interval;
+        toleranceNanos = interval * (burst - 1);
+    }
+}
@@ -0,0 +1,301 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * An appender that keeps the most recent events in a fixed-size in-memory ring buffer
+ * instead of writing them anywhere, so debug detail is available after a failure
+ * without the I/O of writing it all the time.
+ * <p>
+ * Events are stored already encoded, which keeps only the bytes of each event and none of its
+ * arguments, MDC or throwable objects. Writers claim a slot with an atomic sequence and never
+ * lock, once the buffer is full the oldest events are overwritten. The buffer is written out by
+ * {@link #dump(OutputStream)}, through JMX or automatically when an event at or above the dump
+ * level is logged, in which case only the events since the previous dump are written.
+ *
+ * @apiNote Use {@link LoggingManager#getRingBufferAppenderBuilder()} to create a new instance.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public final class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements RingBufferAppenderMBean {
+    /** The default number of buffered events. */
+    public static final int DEFAULT_CAPACITY = 4096;
+    /** The default minimum time between two dumps triggered by events. */
+    public static final Duration DEFAULT_DUMP_COOLDOWN = Duration.ofSeconds(10);
+
+    private static final class Entry {
+        private final long sequence;
+        private final byte[] bytes;
+
+        private Entry(final long sequence, final byte[] bytes) {
+            this.sequence = sequence;
+            this.bytes = bytes;
+        }
+    }
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong lastDumpedSequence = new AtomicLong();
+    private final AtomicBoolean dumping = new AtomicBoolean();
+    private final Encoder<ILoggingEvent> encoder;
+    private final Level dumpLevel;
+    private final Path dumpFile;
+    private final long dumpCooldownNanos;
+    private final boolean registerMBean;
+    private final AtomicLong lastTriggeredDump;
+    private ObjectName objectName;
+
+    RingBufferAppender(final int capacity,
+                       final @NotNull Encoder<ILoggingEvent> encoder,
+                       final Level dumpLevel,
+                       final Path dumpFile,
+                       final @NotNull Duration dumpCooldown,
+                       final boolean registerMBean) {
+        checkArgumentNotNull(encoder, cannotBeNull("encoder"));
+        final int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        entries = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+        this.encoder = encoder;
+        this.dumpLevel = dumpLevel;
+        this.dumpFile = dumpFile;
+        dumpCooldownNanos = dumpCooldown.toNanos();
+        this.registerMBean = registerMBean;
+        lastTriggeredDump = new AtomicLong(System.nanoTime() - dumpCooldownNanos);
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) return;
+        if (!encoder.isStarted()) encoder.start();
+        if (registerMBean) {
+            try {
+                objectName = new ObjectName("com.jwcomptech.commons:type=RingBufferAppender,name="
+                        + ObjectName.quote(getName()));
+                ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            } catch (final JMException e) {
+                addWarn("Failed to register the MBean of " + getName(), e);
+                objectName = null;
+            }
+        }
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) return;
+        super.stop();
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (final JMException e) {
+                addWarn("Failed to unregister the MBean of " + getName(), e);
+            }
+            objectName = null;
+        }
+    }
+
+    @Override
+    protected void append(final ILoggingEvent event) {
+        final byte[] bytes = encoder.encode(event);
+        if (bytes == null) return;
+        final long seq = sequence.getAndIncrement();
+        store(seq, new Entry(seq, bytes));
+
+        if (dumpLevel != null && event.getLevel().isGreaterOrEqual(dumpLevel)) {
+            final long now = System.nanoTime();
+            final long last = lastTriggeredDump.get();
+            if (now - last >= dumpCooldownNanos && lastTriggeredDump.compareAndSet(last, now)) {
+                triggeredDump(seq + 1);
+            }
+        }
+    }
+
+    /**
+     * Stores the entry in its slot unless a writer with a newer sequence already did,
+     * which happens when this writer stalled for a full lap of the buffer.
+     */
+    private void store(final long seq, final Entry entry) {
+        final int index = (int) (seq & mask);
+        Entry current = entries.get(index);
+        while (current == null || current.sequence < seq) {
+            if (entries.compareAndSet(index, current, entry)) return;
+            current = entries.get(index);
+        }
+    }
+
+    /** Writes the events since the previous triggered dump, up to the specified sequence. */
+    private void triggeredDump(final long end) {
+        if (!dumping.compareAndSet(false, true)) return;
+        try {
+            final long start = lastDumpedSequence.getAndSet(end);
+            if (dumpFile == null) {
+                write(System.err, start, end);
+                System.err.flush();
+            } else {
+                try (OutputStream output = Files.newOutputStream(dumpFile,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    write(output, start, end);
+                }
+            }
+        } catch (final IOException e) {
+            addError("Failed to dump the ring buffer of " + getName(), e);
+        } finally {
+            dumping.set(false);
+        }
+    }
+
+    /**
+     * Writes all buffered events to the specified stream, oldest first.
+     * @param output the stream to write to, it is not closed
+     * @throws IOException if an I/O error occurs
+     */
+    public void dump(final @NotNull OutputStream output) throws IOException {
+        checkArgumentNotNull(output, cannotBeNull("output"));
+        write(output, 0, sequence.get());
+    }
+
+    /**
+     * Appends all buffered events to the specified file, oldest first.
+     * @param file the file to append to
+     * @throws IOException if an I/O error occurs
+     */
+    public void dump(final @NotNull Path file) throws IOException {
+        checkArgumentNotNull(file, cannotBeNull("file"));
+        try (OutputStream output = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            dump(output);
+        }
+    }
+
+    @Override
+    public String dumpToString() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            dump(output);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void dumpToFile(final String fileName) {
+        try {
+            dump(Path.of(fileName));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the buffered events with a sequence in the specified range, events that were
+     * overwritten or are still being written are skipped.
+     */
+    private void write(final OutputStream output, final long from, final long to) throws IOException {
+        final long start = Math.max(from, to - entries.length());
+        final String header = "----- " + getName() + " ring buffer dump at " + Instant.now() + " -----"
+                + System.lineSeparator();
+        output.write(header.getBytes(StandardCharsets.UTF_8));
+        for (long seq = start; seq < to; seq++) {
+            final Entry entry = entries.get((int) (seq & mask));
+            if (entry != null && entry.sequence == seq) output.write(entry.bytes);
+        }
+    }
+
+    @Override
+    public int getCapacity() {
+        return entries.length();
+    }
+
+    @Override
+    public int getSize() {
+        return (int) Math.min(sequence.get(), entries.length());
+    }
+
+    @Override
+    public long getAppendedCount() {
+        return sequence.get();
+    }
+
+    @Override
+    public void clear() {
+        final long end = sequence.get();
+        for (int i = 0; i < entries.length(); i++) {
+            final Entry entry = entries.get(i);
+            if (entry != null && entry.sequence < end) entries.compareAndSet(i, entry, null);
+        }
+        lastDumpedSequence.accumulateAndGet(end, Math::max);
+    }
+
+    /**
+     * Returns the encoder used to store the events.
+     * @return the encoder
+     */
+    public Encoder<ILoggingEvent> getEncoder() {
+        return encoder;
+    }
+
+    /**
+     * Returns the level at and above which events trigger a dump.
+     * @return the dump level or null if events never trigger a dump
+     */
+    public Level getDumpLevel() {
+        return dumpLevel;
+    }
+
+    /**
+     * Returns the file triggered dumps are appended to.
+     * @return the dump file or null if triggered dumps are written to the standard error stream
+     */
+    public Path getDumpFile() {
+        return dumpFile;
+    }
+}
@@ -0,0 +1,64 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * The JMX management interface of a {@link RingBufferAppender}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public interface RingBufferAppenderMBean {
+    /**
+     * Returns the buffered events as text, oldest first.
+     * @return the buffered events
+     */
+    String dumpToString();
+
+    /**
+     * Appends the buffered events to the specified file, oldest first.
+     * @param fileName the file to append to
+     */
+    void dumpToFile(String fileName);
+
+    /**
+     * Returns the maximum number of buffered events.
+     * @return the capacity
+     */
+    int getCapacity();
+
+    /**
+     * Returns the number of buffered events.
+     * @return the number of buffered events
+     */
+    int getSize();
+
+    /**
+     * Returns the total number of events appended since the appender started.
+     * @return the number of appended events
+     */
+    long getAppendedCount();
+
+    /** Removes all buffered events. */
+    void clear();
+}
@@ -0,0 +1,160 @@
+package com.jwcomptech.commons.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+
+/**
+ * A turbo filter that keeps only a random sample of the events of each level,
+ * e.g. 1% of the DEBUG events and 10% of the INFO events.
+ * <p>
+ * Sampling uses {@link ThreadLocalRandom} and a {@link LongAdder} so dropping an event
+ * neither locks nor allocates.
+ *
+ * @apiNote Attach it with {@link LoggerConfig#addTurboFilter(LoggerScopedTurboFilter)}.
+ * Every level is kept completely until a sample rate is set.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public final class SamplingTurboFilter extends LoggerScopedTurboFilter {
+    private final LongAdder deniedCount = new LongAdder();
+    private volatile double traceRate = 1.0;
+    private volatile double debugRate = 1.0;
+    private volatile double infoRate = 1.0;
+    private volatile double warnRate = 1.0;
+    private volatile double errorRate = 1.0;
+
+    /** Creates a new filter that keeps every event. */
+    public SamplingTurboFilter() { }
+
+    /**
+     * Creates a new filter with the specified sample rate for the specified level.
+     * @param level the level to sample
+     * @param rate the fraction of events to keep, between 0.0 and 1.0
+     */
+    public SamplingTurboFilter(final Level level, final double rate) {
+        setSampleRate(level, rate);
+    }
+
+    @Override
+    protected FilterReply decideInScope(final Logger logger, final Level level, final String format,
+                                        final Object[] params, final Throwable t) {
+        final double rate = getSampleRate(level);
+        if (rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate)) {
+            return FilterReply.NEUTRAL;
+        }
+        deniedCount.increment();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * Sets the fraction of events of the specified level to keep.
+     * @param level the level to sample
+     * @param rate the fraction of events to keep, between 0.0 and 1.0
+     * @return this instance
+     */
+    public SamplingTurboFilter setSampleRate(final Level level, final double rate) {
+        checkArgument(rate >= 0.0 && rate <= 1.0, "Rate Must Be Between 0.0 And 1.0!");
+        switch (level.toInt()) {
+            case Level.TRACE_INT -> traceRate = rate;
+            case Level.DEBUG_INT -> debugRate = rate;
+            case Level.INFO_INT -> infoRate = rate;
+            case Level.WARN_INT -> warnRate = rate;
+            case Level.ERROR_INT -> errorRate = rate;
+            default -> throw new IllegalArgumentException("Level must be TRACE, DEBUG, INFO, WARN or ERROR!");
+        }
+        return this;
+    }
+
+    /**
+     * Returns the fraction of events of the specified level that are kept.
+     * @param level the level to lookup
+     * @return the sample rate
+     */
+    public double getSampleRate(final Level level) {
+        return switch (level.toInt()) {
+            case Level.TRACE_INT -> traceRate;
+            case Level.DEBUG_INT -> debugRate;
+            case Level.INFO_INT -> infoRate;
+            case Level.WARN_INT -> warnRate;
+            case Level.ERROR_INT -> errorRate;
+            default -> 1.0;
+        };
+    }
+
+    /**
+     * Sets the fraction of TRACE events to keep, for use in logback configuration files.
+     * @param rate the fraction of events to keep
+     */
+    public void setTraceRate(final double rate) {
+        setSampleRate(Level.TRACE, rate);
+    }
+
+    /**
+     * Sets the fraction of DEBUG events to keep, for use in logback configuration files.
+     * @param rate the fraction of events to keep
+     */
+    public void setDebugRate(final double rate) {
+        setSampleRate(Level.DEBUG, rate);
+    }
+
+    /**
+     * Sets the fraction of INFO events to keep, for use in logback configuration files.
+     * @param rate the fraction of events to keep
+     */
+    public void setInfoRate(final double rate) {
+        setSampleRate(Level.INFO, rate);
+    }
+
+    /**
+     * Sets the fraction of WARN events to keep, for use in logback configuration files.
+     * @param rate the fraction of events to keep
+     */
+    public void setWarnRate(final double rate) {
+        setSampleRate(Level.WARN, rate);
+    }
+
+    /**
+     * Sets the fraction of ERROR events to keep, for use in logback configuration files.
+     * @param rate the fraction of events to keep
+     */
+    public void setErrorRate(final double rate) {
+        setSampleRate(Level.ERROR, rate);
+    }
+
+    /**
+     * Returns the number of events dropped by this filter.
+     * @return the number of dropped events
+     */
+    public long getDeniedCount() {
+        return deniedCount.sum();
+    }
+}
@@ -37,7 +37,9 @@ import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static com.jwcomptech.commons.consts.Consts.*;
 import static com.jwcomptech.commons.exceptions.ExceptionUtils.throwUnsupportedExForUtilityCls;
@@ -74,6 +76,17 @@ public final class Parse {
                 return format;
             });
 
+    /**
+     * Checks if the provided logger is enabled for the provided level.
+     *
+     * @param logger the logger to check
+     * @param level  the log level
+     * @return true if a message logged at the level would be logged
+     */
+    public static boolean isEnabledFor(final Logger logger, final Level level) {
+        return logger != null && level != null && logger.isEnabledForLevel(level);
+    }
+
     /**
      * Logs a formatted message and exception using the provided logger and level.
      *
@@ -85,13 +98,36 @@ public final class Parse {
      */
     public static void log(final Logger logger, final Level level, final String message,
                            final Throwable t, final Object... args) {
-        if (logger == null || level == null) return;
+        if (!isEnabledFor(logger, level)) return;
+        final Object[] arguments = withThrowable(args, t);
+        switch (level) {
+            case ERROR -> logger.error(message, arguments);
+            case WARN -> logger.warn(message, arguments);
+            case INFO -> logger.info(message, arguments);
+            case DEBUG -> logger.debug(message, arguments);
+            case TRACE -> logger.trace(message, arguments);
+        }
+    }
+
+    /**
+     * Logs a lazily built message and exception using the provided logger and level.
+     * The message is only built if the logger is enabled for the level.
+     *
+     * @param logger  the logger to use
+     * @param level   the log level
+     * @param message the supplier of the log message
+     * @param t       the throwable
+     */
+    public static void log(final Logger logger, final Level level, final Supplier<String> message,
+                           final Throwable t) {
+        if (!isEnabledFor(logger, level)) return;
+        final String text = message.get();
         switch (level) {
-            case ERROR -> logger.error(message, args, t);
-            case WARN -> logger.warn(message, args, t);
-            case INFO -> logger.info(message, args, t);
-            case DEBUG -> logger.debug(message, args, t);
-            case TRACE -> logger.trace(message, args, t);
+            case ERROR -> logger.error(text, t);
+            case WARN -> logger.warn(text, t);
+            case INFO -> logger.info(text, t);
+            case DEBUG -> logger.debug(text, t);
+            case TRACE -> logger.trace(text, t);
         }
     }
 
@@ -103,9 +139,27 @@ public final class Parse {
      * @param args    optional format arguments
      */
     public static void log(final String message, final Throwable t, final Object... args) {
-        if (logger != null && logLevel != null) {
-            log(logger, logLevel, message, t, args);
-        }
+        log(logger, logLevel, message, t, args);
+    }
+
+    /**
+     * Logs a lazily built message and exception using the global logger and log level.
+     * The message is only built if the global logger is enabled for the global level.
+     *
+     * @param message the supplier of the log message
+     * @param t       the throwable
+     */
+    public static void log(final Supplier<String> message, final Throwable t) {
+        log(logger, logLevel, message, t);
+    }
+
+    /** Appends the throwable to the format arguments so SLF4J logs it as the cause. */
+    private static Object[] withThrowable(final Object[] args, final Throwable t) {
+        if (t == null) return args == null ? new Object[0] : args;
+        if (args == null || args.length == 0) return new Object[] {t};
+        final Object[] arguments = Arrays.copyOf(args, args.length + 1);
+        arguments[args.length] = t;
+        return arguments;
     }
 
     /**
@@ -125,7 +179,7 @@ public final class Parse {
         try {
             return parser.apply(value);
         } catch (final RuntimeException e) {
-            log(logger, logLevel, ParseException.buildMessage(value, e), e);
+            log(logger, level, () -> ParseException.buildMessage(value, e), e);
             return fallback;
         }
     }
@@ -145,7 +199,7 @@ public final class Parse {
         try {
             return parser.apply(value);
         } catch (final RuntimeException e) {
-            log(logger, logLevel, ParseException.buildMessage(value, e), e);
+            log(logger, logLevel, () -> ParseException.buildMessage(value, e), e);
             return fallback;
         }
     }
@@ -201,8 +255,7 @@ public final class Parse {
         try {
             return Optional.of(Integer.parseInt(s));
         } catch (final NumberFormatException e) {
-            final var message = ParseException.buildMessage(Integer.class, s, e);
-            log(logger, Level.WARN, message, e);
+            log(logger, Level.WARN, () -> ParseException.buildMessage(Integer.class, s, e), e);
         }
 
         return Optional.empty();
@@ -231,9 +284,8 @@ public final class Parse {
         try {
             return Integer.parseInt(s);
         } catch (final NumberFormatException e) {
-            final var message = ParseException.buildMessage(Integer.class, s, e)
-                    + " - Returning fallback value...";
-            log(logger, Level.WARN, message, e);
+            log(logger, Level.WARN, () -> ParseException.buildMessage(Integer.class, s, e)
+                    + " - Returning fallback value...", e);
         }
 
         return fallback;
@@ -269,8 +321,7 @@ public final class Parse {
         try {
             return Optional.of(Long.parseLong(s));
         } catch (final NumberFormatException e) {
-            final var message = ParseException.buildMessage(Long.class, s, e);
-            log(logger, Level.WARN, message, e);
+            log(logger, Level.WARN, () -> ParseException.buildMessage(Long.class, s, e), e);
         }
 
         return Optional.empty();
@@ -299,9 +350,8 @@ public final class Parse {
         try {
             return Long.parseLong(s);
         } catch (final NumberFormatException e) {
-            final var message = ParseException.buildMessage(Long.class, s, e)
-                    + " - Returning fallback value...";
-            log(logger, Level.WARN, message, e);
+            log(logger, Level.WARN, () -> ParseException.buildMessage(Long.class, s, e)
+                    + " - Returning fallback value...", e);
         }
 
         return fallback;
@@ -337,8 +387,7 @@ public final class Parse {
         try {
             return Optional.of(Float.parseFloat(s));
         } catch (final NumberFormatException e) {
-            final var message = ParseException.buildMessage(Float.class, s, e);
-            log(logger, Level.WARN, message, e);
+            log(logger, Level.WARN, () -> ParseException.buildMessage(Float.class, s, e), e);
         }
 
         return Optional.empty();
@@ -367,9 +416,8 @@ public final class Parse {
         try {
             return Float.parseFloat(s);
         } catch (final NumberFormatException e) {
-            final var message = ParseException.buildMessage(Float.class, s, e)
-                    + " - Returning fallback value...";
-            log(logger, Level.WARN, message, e);
+            log(logger, Level.WARN, () -> ParseException.buildMessage(Float.class, s, e)
+                    + " - Returning fallback value...", e);
         }
 
         return fallback;
@@ -405,8 +453,7 @@ public final class Parse {
         try {
             return Optional.of(Double.parseDouble(s));
         } catch (final NumberFormatException e) {
-            final var message = ParseException.buildMessage(Double.class, s, e);
-            log(logger, Level.WARN, message, e);
+            log(logger, Level.WARN, () -> ParseException.buildMessage(Double.class, s, e), e);
         }
 
         return Optional.empty();
@@ -435,9 +482,8 @@ public final class Parse {
         try {
             return Double.parseDouble(s);
         } catch (final NumberFormatException e) {
-            final var message = ParseException.buildMessage(Double.class, s, e)
-                    + " - Returning fallback value...";
-            log(logger, Level.WARN, message, e);
+            log(logger, Level.WARN, () -> ParseException.buildMessage(Double.class, s, e)
+                    + " - Returning fallback value...", e);
         }
 
         return fallback;
@@ -473,8 +519,7 @@ public final class Parse {
         final String value = s.trim().toLowerCase();
         if (TRUE_VALUES.contains(value)) return Optional.of(true);
         if (FALSE_VALUES.contains(value)) return Optional.of(false);
-        final var message = ParseException.buildMessage(Boolean.class, s);
-        log(logger, Level.WARN, message, null);
+        log(logger, Level.WARN, () -> ParseException.buildMessage(Boolean.class, s), null);
 
         return Optional.empty();
     }
@@ -508,9 +553,8 @@ public final class Parse {
         if (TRUE_VALUES.contains(value)) return true;
         if (FALSE_VALUES.contains(value)) return false;
 
-        final var message = ParseException.buildMessage(Boolean.class, s)
-                + " - Returning fallback value...";
-        log(logger, Level.WARN, message, null);
+        log(logger, Level.WARN, () -> ParseException.buildMessage(Boolean.class, s)
+                + " - Returning fallback value...", null);
         return defaultValue;
     }
 
@@ -551,8 +595,7 @@ public final class Parse {
         try {
             return Optional.of(Enum.valueOf(enumClass, s.trim()));
         } catch (final IllegalArgumentException e) {
-            final var message = ParseException.buildMessage(Integer.class, s, e);
-            log(logger, Level.WARN, message, e);
+            log(logger, Level.WARN, () -> ParseException.buildMessage(Integer.class, s, e), e);
         }
 
         return Optional.empty();
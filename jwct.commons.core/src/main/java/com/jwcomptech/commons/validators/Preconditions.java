@@ -277,7 +277,7 @@ public final class Preconditions {
         checkArgumentNotNull(expression, cannotBeNull("expression"));
         checkErrorMessageNotNullOrBlank(errorMessage);
 
-        checkArgument(!expression,
+        checkArgument(expression,
                 () -> new IllegalStateException(String.valueOf(errorMessage)));
     }
 
@@ -0,0 +1,119 @@
+package com.jwcomptech.commons.values;
+
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.functions.Lazy;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+
+/**
+ * Delivers the notifications of a single value on an {@link Executor}.
+ * <p>
+ * At most one change is pending at any time, a change that arrives while another is still pending
+ * replaces its new value and keeps its old value, so a slow listener skips intermediate values instead
+ * of falling behind. Only one delivery task is scheduled at a time, so the listeners of a value are never
+ * called concurrently or out of order.
+ *
+ * @since 0.0.1
+ */
+final class AsyncDispatcher {
+    /** Runs every delivery on its own virtual thread, created the first time it is needed. */
+    private static final Lazy<Executor> DEFAULT_EXECUTOR = Lazy.of(Executors::newVirtualThreadPerTaskExecutor);
+
+    private final Executor executor;
+    private final BiConsumer<Object, Object> delivery;
+    private final Object lock = new Object();
+
+    private boolean pending;
+    private boolean scheduled;
+    private Object pendingOld;
+    private Object pendingNew;
+
+    AsyncDispatcher(final @NotNull Executor executor, final @NotNull BiConsumer<Object, Object> delivery) {
+        this.executor = executor;
+        this.delivery = delivery;
+    }
+
+    /**
+     * Returns the executor used when none is specified, it runs each delivery on a new virtual thread.
+     * @return the default executor
+     */
+    static Executor defaultExecutor() {
+        return DEFAULT_EXECUTOR.get();
+    }
+
+    /**
+     * Queues a change, merging it with the pending change if there is one.
+     * @param oldValue the value before the change
+     * @param newValue the value after the change
+     */
+    void submit(final Object oldValue, final Object newValue) {
+        synchronized (lock) {
+            if (!pending) {
+                pendingOld = oldValue;
+                pending = true;
+            }
+            pendingNew = newValue;
+            if (scheduled) return;
+            scheduled = true;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (final RuntimeException e) {
+            synchronized (lock) {
+                scheduled = false;
+            }
+            throw e;
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            final Object oldValue;
+            final Object newValue;
+            synchronized (lock) {
+                if (!pending) {
+                    scheduled = false;
+                    return;
+                }
+                oldValue = pendingOld;
+                newValue = pendingNew;
+                pending = false;
+                pendingOld = null;
+                pendingNew = null;
+            }
+            if (Objects.equals(oldValue, newValue)) continue;
+            try {
+                delivery.accept(oldValue, newValue);
+            } catch (final RuntimeException e) {
+                final Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+    }
+}
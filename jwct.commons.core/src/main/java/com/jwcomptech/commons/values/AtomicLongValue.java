@@ -0,0 +1,550 @@
+package com.jwcomptech.commons.values;
+
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serial;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.LongBinaryOperator;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.consts.Literals.cannotBeNullOrEmpty;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNullOrEmpty;
+
+/**
+ * Provides thread safe mutable access to a {@link Long}, the thread safe sibling of {@link LongValue}.
+ * <p>
+ * The value is kept in a volatile {@code long} and every read-modify-write operation is a single
+ * compare-and-set, so concurrent updates are never lost. Overflows still throw an
+ * {@link ArithmeticException} like {@link LongValue} and leave the value unchanged.
+ * Listeners are notified after each successful update, an {@link LongChangeListener} receives the values without boxing.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings({"ClassWithTooManyMethods", "unused"})
+public final class AtomicLongValue extends NumberValue<Long, AtomicLongValue> {
+    /**
+     * Required for serialization support.
+     *
+     * @see java.io.Serializable
+     */
+    @Serial
+    private static final long serialVersionUID = -3184776019262251553L;
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(AtomicLongValue.class, "current", long.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile long current;
+
+    private AtomicLongValue(final long defaultValue) {
+        current = defaultValue;
+    }
+
+    /** Creates a new AtomicLongValue instance with the default value of 0. */
+    @Contract(" -> new")
+    public static @NotNull AtomicLongValue of() {
+        return new AtomicLongValue(0);
+    }
+
+    /**
+     * Creates a new AtomicLongValue instance with the specified default long value.
+     * @param defaultValue the value to set
+     */
+    @Contract("_ -> new")
+    public static @NotNull AtomicLongValue of(final long defaultValue) {
+        return new AtomicLongValue(defaultValue);
+    }
+
+    /**
+     * Creates a new AtomicLongValue instance with the specified number value.
+     * @param defaultValue the value to set
+     * @throws IllegalArgumentException if specified default value is null
+     */
+    @Contract("_ -> new")
+    public static @NotNull AtomicLongValue of(final Number defaultValue) {
+        checkArgumentNotNull(defaultValue, cannotBeNull("defaultValue"));
+        return new AtomicLongValue(defaultValue.intValue());
+    }
+
+    /**
+     * Creates a new AtomicLongValue instance with the specified default string value.
+     * @param defaultValue the value to set
+     * @throws IllegalArgumentException if specified default value is null or empty
+     */
+    @Contract("_ -> new")
+    public static @NotNull AtomicLongValue of(final String defaultValue) {
+        checkArgumentNotNullOrEmpty(defaultValue, cannotBeNullOrEmpty("defaultValue"));
+        return new AtomicLongValue(Long.parseLong(defaultValue));
+    }
+
+    /**
+     * Adds a listener that receives the values without boxing them.
+     * @param listener the listener to be added
+     * @see #addListener(ChangeListener)
+     */
+    public void addListener(final LongChangeListener listener) {
+        super.addListener(listener);
+    }
+
+    /**
+     * Atomically applies the operation and returns the previous value.
+     * The operations passed in are non-capturing method references, so no lambda is allocated.
+     */
+    private long getAndApply(final LongBinaryOperator operation, final long operand) {
+        long previous = current;
+        while (true) {
+            final long next = operation.applyAsLong(previous, operand);
+            final long witness = (long) VALUE.compareAndExchange(this, previous, next);
+            if (witness == previous) {
+                fireChange(previous, next);
+                return previous;
+            }
+            previous = witness;
+        }
+    }
+
+    private void fireChange(final long last, final long next) {
+        if (last != next) notifyListeners(last, next);
+    }
+
+    /**
+     * Atomically sets the value to {@code newValue} if the current value equals {@code expectedValue}.
+     * @param expectedValue the expected value
+     * @param newValue the new value
+     * @return true if successful, false if the current value was not equal to the expected value
+     */
+    public boolean compareAndSet(final long expectedValue, final long newValue) {
+        if (VALUE.compareAndSet(this, expectedValue, newValue)) {
+            fireChange(expectedValue, newValue);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Atomically sets the value and returns the previous value.
+     * @param newValue the new value
+     * @return the previous value
+     */
+    public long getAndSet(final long newValue) {
+        final long last = (long) VALUE.getAndSet(this, newValue);
+        fireChange(last, newValue);
+        return last;
+    }
+
+    /**
+     * Increments the value.
+     * @return this instance
+     * @throws ArithmeticException if the result overflows a long
+     */
+    @Override
+    public AtomicLongValue increment() {
+        getAndApply(Math::addExact, 1);
+        return this;
+    }
+
+    /**
+     * Atomically increments this instance's value by 1 and returns the value after the increment.
+     *
+     * @return the value associated with the instance after it is incremented
+     * @throws ArithmeticException if the result overflows a long
+     */
+    @Override
+    public Long incrementAndGet() {
+        return getAndApply(Math::addExact, 1) + 1;
+    }
+
+    /**
+     * Atomically increments this instance's value by 1 and returns the value before the increment.
+     *
+     * @return the value associated with the instance before it was incremented
+     * @throws ArithmeticException if the result overflows a long
+     */
+    @Override
+    public Long getAndIncrement() {
+        return getAndApply(Math::addExact, 1);
+    }
+
+    /**
+     * Decrements the value.
+     * @return this instance
+     * @throws ArithmeticException if the result overflows a long
+     */
+    @Override
+    public AtomicLongValue decrement() {
+        getAndApply(Math::subtractExact, 1);
+        return this;
+    }
+
+    /**
+     * Atomically decrements this instance's value by 1 and returns the value after the decrement.
+     *
+     * @return the value associated with the instance after it is decremented
+     * @throws ArithmeticException if the result overflows a long
+     */
+    @Override
+    public Long decrementAndGet() {
+        return getAndApply(Math::subtractExact, 1) - 1;
+    }
+
+    /**
+     * Atomically decrements this instance's value by 1 and returns the value before the decrement.
+     *
+     * @return the value associated with the instance before it was decremented
+     * @throws ArithmeticException if the result overflows a long
+     */
+    @Override
+    public Long getAndDecrement() {
+        return getAndApply(Math::subtractExact, 1);
+    }
+
+    /**
+     * Atomically adds a value to the value of this instance.
+     *
+     * @param operand the value to add, not null
+     * @throws IllegalArgumentException if the object is null
+     * @throws ArithmeticException if the result overflows a long
+     * @return this instance
+     */
+    @Override
+    public AtomicLongValue add(final @NotNull Number operand) {
+        getAndApply(Math::addExact, operand.longValue());
+        return this;
+    }
+
+    /**
+     * Atomically increments this instance's value by {@code operand} and returns the value after the addition.
+     *
+     * @param operand the quantity to add, not null
+     * @throws IllegalArgumentException if {@code operand} is null
+     * @throws ArithmeticException if the result overflows a long
+     * @return the value associated with this instance after adding the operand
+     */
+    @Override
+    public Long addAndGet(final @NotNull Number operand) {
+        final long delta = operand.longValue();
+        return getAndApply(Math::addExact, delta) + delta;
+    }
+
+    /**
+     * Atomically increments this instance's value by {@code operand} and returns the value before the addition.
+     *
+     * @param operand the quantity to add, not null
+     * @throws IllegalArgumentException if {@code operand} is null
+     * @throws ArithmeticException if the result overflows a long
+     * @return the value associated with this instance immediately before adding the operand
+     */
+    @Override
+    public Long getAndAdd(final @NotNull Number operand) {
+        return getAndApply(Math::addExact, operand.longValue());
+    }
+
+    /**
+     * Atomically subtracts a value from the value of this instance.
+     *
+     * @param operand  the value to subtract, not null
+     * @throws IllegalArgumentException if the object is null
+     * @throws ArithmeticException if the result overflows a long
+     * @return this instance
+     */
+    @Override
+    public AtomicLongValue subtract(final @NotNull Number operand) {
+        getAndApply(Math::subtractExact, operand.longValue());
+        return this;
+    }
+
+    /**
+     * Atomically decrements this instance's value by {@code operand} and returns the value after the subtraction.
+     *
+     * @param operand the quantity to subtract, not null
+     * @throws IllegalArgumentException if {@code operand} is null
+     * @throws ArithmeticException if the result overflows a long
+     * @return the value associated with this instance after subtracting the operand
+     */
+    @Override
+    public Long subtractAndGet(final @NotNull Number operand) {
+        final long delta = operand.longValue();
+        return getAndApply(Math::subtractExact, delta) - delta;
+    }
+
+    /**
+     * Atomically decrements this instance's value by {@code operand} and returns the value before the subtraction.
+     *
+     * @param operand the quantity to subtract, not null
+     * @throws IllegalArgumentException if {@code operand} is null
+     * @throws ArithmeticException if the result overflows a long
+     * @return the value associated with this instance immediately before subtracting the operand
+     */
+    @Override
+    public Long getAndSubtract(final @NotNull Number operand) {
+        return getAndApply(Math::subtractExact, operand.longValue());
+    }
+
+    /**
+     * Atomically multiples a value by the value of this instance.
+     *
+     * @param operand  the value to multiply, not null
+     * @throws IllegalArgumentException if the object is null
+     * @throws ArithmeticException if the result overflows a long
+     * @return this instance
+     */
+    @Override
+    public AtomicLongValue multiply(final @NotNull Number operand) {
+        getAndApply(Math::multiplyExact, operand.longValue());
+        return this;
+    }
+
+    /**
+     * Atomically multiplies this instance's value by {@code operand} and returns the value after the multiplication.
+     *
+     * @param operand the quantity to multiply, not null
+     * @throws IllegalArgumentException if {@code operand} is null
+     * @throws ArithmeticException if the result overflows a long
+     * @return the value associated with this instance after multiplying the operand
+     */
+    @Override
+    public Long multiplyAndGet(final @NotNull Number operand) {
+        final long factor = operand.longValue();
+        return getAndApply(Math::multiplyExact, factor) * factor;
+    }
+
+    /**
+     * Atomically multiplies this instance's value by {@code operand} and returns the value before the multiplication.
+     *
+     * @param operand the quantity to multiply, not null
+     * @throws IllegalArgumentException if {@code operand} is null
+     * @throws ArithmeticException if the result overflows a long
+     * @return the value associated with this instance immediately before multiplying the operand
+     */
+    @Override
+    public Long getAndMultiply(final @NotNull Number operand) {
+        return getAndApply(Math::multiplyExact, operand.longValue());
+    }
+
+    /**
+     * Atomically divides the value of this instance by a value.
+     *
+     * @param operand  the value to divide, not null
+     * @throws IllegalArgumentException if the object is null
+     * @return this instance
+     */
+    @Override
+    public AtomicLongValue divide(final @NotNull Number operand) {
+        getAndApply(Math::divideExact, operand.longValue());
+        return this;
+    }
+
+    /**
+     * Atomically divides this instance's value by {@code operand} and returns the value after the division.
+     *
+     * @param operand the quantity to divide, not null
+     * @throws IllegalArgumentException if {@code operand} is null
+     * @return the value associated with this instance after dividing the operand
+     */
+    @Override
+    public Long divideAndGet(final @NotNull Number operand) {
+        final long divisor = operand.longValue();
+        return Math.divideExact(getAndApply(Math::divideExact, divisor), divisor);
+    }
+
+    /**
+     * Atomically divides this instance's value by {@code operand} and returns the value before the division.
+     *
+     * @param operand the quantity to divide, not null
+     * @throws IllegalArgumentException if {@code operand} is null
+     * @return the value associated with this instance immediately before dividing the operand
+     */
+    @Override
+    public Long getAndDivide(final @NotNull Number operand) {
+        return getAndApply(Math::divideExact, operand.longValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isPositive() {
+        return current > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNegative() {
+        return current < 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isZero() {
+        return current == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEqualTo(final @NotNull Number number) {
+        return current == number.longValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNotEqualTo(final @NotNull Number number) {
+        return current != number.longValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLessThanOrEqualTo(final @NotNull Number number) {
+        return current <= number.longValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isGreaterThanOrEqualTo(final @NotNull Number number) {
+        return current >= number.longValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLessThan(final @NotNull Number number) {
+        return current < number.longValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isGreaterThan(final @NotNull Number number) {
+        return current > number.longValue();
+    }
+
+    @Override
+    public int compareTo(final @NotNull AtomicLongValue other) {
+        return Long.compare(current, other.current);
+    }
+
+    @Override
+    public int compareTo(@NotNull final Long other) {
+        return Long.compare(current, other);
+    }
+
+    @Override
+    public int compareTo(@NotNull final Value<Long, AtomicLongValue> other) {
+        return this.compareTo(other.get());
+    }
+
+    /**
+     * Returns the value.
+     * @return the stored value
+     */
+    @Override
+    public Long get() {
+        return current;
+    }
+
+    /**
+     * Atomically sets the value and notifies the listeners if it changed.
+     * @param value the value to store
+     * @return this instance
+     * @throws IllegalArgumentException if specified value is null
+     */
+    @Override
+    public AtomicLongValue set(final Long value) {
+        checkArgumentNotNull(value, cannotBeNull("value"));
+        getAndSet(value);
+        return this;
+    }
+
+    /**
+     * Atomically sets the value and notifies the listeners if it changed.
+     * @param value the value to store
+     * @return this instance
+     * @throws IllegalArgumentException if specified value is null
+     */
+    @Override
+    public AtomicLongValue set(final Number value) {
+        checkArgumentNotNull(value, cannotBeNull("value"));
+        getAndSet(value.longValue());
+        return this;
+    }
+
+    @Override
+    public int intValue() {
+        return (int) current;
+    }
+
+    @Override
+    public long longValue() {
+        return current;
+    }
+
+    @Override
+    public float floatValue() {
+        return current;
+    }
+
+    @Override
+    public double doubleValue() {
+        return current;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof final AtomicLongValue other && current == other.longValue();
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(current);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(current);
+    }
+}
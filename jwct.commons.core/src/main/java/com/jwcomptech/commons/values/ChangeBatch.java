@@ -0,0 +1,165 @@
+package com.jwcomptech.commons.values;
+
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jwcomptech.commons.validators.Preconditions.checkState;
+
+/**
+ * A scope that holds back the change notifications of every value changed by the current thread
+ * and delivers a single notification per value when it is closed.
+ * <p>
+ * The notification carries the value from before the first change and the value after the last change,
+ * values that end up unchanged are not notified at all. Batches are opened with {@link #begin()} or the
+ * {@code batch()} method of any value and must be closed on the same thread, typically with
+ * try-with-resources:
+ * <pre>{@code
+ * try (var batch = ChangeBatch.begin()) {
+ *     width.set(640);
+ *     height.set(480);
+ *     title.append(" (resized)");
+ * }
+ * }</pre>
+ * Nested batches join the outer batch and notifications are delivered when the outermost batch is closed.
+ * Changes made by other threads are not affected.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public final class ChangeBatch implements AutoCloseable {
+    private static final ThreadLocal<ChangeBatch> CURRENT = new ThreadLocal<>();
+    /** The number of threads with an open batch, notifications skip the thread local lookup while it is zero. */
+    private static final AtomicInteger OPEN = new AtomicInteger();
+
+    private final IdentityHashMap<Object, Change> changes = new IdentityHashMap<>();
+    private final List<Change> order = new ArrayList<>();
+    private int depth;
+
+    private ChangeBatch() { }
+
+    /** The pending change of a single value. */
+    private static final class Change {
+        private final Object source;
+        private final Object oldValue;
+        private Object newValue;
+
+        private Change(final Object source, final Object oldValue, final Object newValue) {
+            this.source = source;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+    }
+
+    /**
+     * Opens a batch on the current thread or joins the batch that is already open.
+     * @return the batch that must be closed to deliver the notifications
+     */
+    public static @NotNull ChangeBatch begin() {
+        ChangeBatch batch = CURRENT.get();
+        if (batch == null) {
+            batch = new ChangeBatch();
+            CURRENT.set(batch);
+            OPEN.incrementAndGet();
+        }
+        batch.depth++;
+        return batch;
+    }
+
+    /**
+     * Checks if the current thread has an open batch.
+     * @return true if a batch is open on the current thread
+     */
+    public static boolean isOpenOnCurrentThread() {
+        return OPEN.get() != 0 && CURRENT.get() != null;
+    }
+
+    /**
+     * Checks if any thread has an open batch, used by the values to avoid the thread local lookup.
+     * @return true if a batch is open on any thread
+     */
+    static boolean isOpen() {
+        return OPEN.get() != 0;
+    }
+
+    /**
+     * Records a change if the current thread has an open batch.
+     * @param source the value that changed
+     * @param oldValue the value before the change
+     * @param newValue the value after the change
+     * @return true if the change was recorded and must not be delivered now
+     */
+    static boolean defer(final Object source, final Object oldValue, final Object newValue) {
+        final ChangeBatch batch = CURRENT.get();
+        if (batch == null) return false;
+        final Change change = batch.changes.get(source);
+        if (change == null) {
+            final Change first = new Change(source, oldValue, newValue);
+            batch.changes.put(source, first);
+            batch.order.add(first);
+        } else {
+            change.newValue = newValue;
+        }
+        return true;
+    }
+
+    /**
+     * Closes this batch, if it is the outermost batch the pending notifications are delivered
+     * in the order the values were first changed.
+     * If a listener throws an exception the remaining notifications are still delivered
+     * and the first exception is rethrown afterward.
+     * @throws IllegalStateException if the batch is not open on the current thread
+     */
+    @Override
+    public void close() {
+        checkState(CURRENT.get() == this, "Batch Is Not Open On The Current Thread!");
+        if (--depth > 0) return;
+        CURRENT.remove();
+        OPEN.decrementAndGet();
+
+        RuntimeException failure = null;
+        for (final Change change : order) {
+            if (Objects.equals(change.oldValue, change.newValue)) continue;
+            try {
+                if (change.source instanceof final NumberValue<?, ?> number) {
+                    number.notifyBatched(change.oldValue, change.newValue);
+                } else {
+                    ((ObservableValue<?, ?>) change.source).notifyBatched(change.oldValue, change.newValue);
+                }
+            } catch (final RuntimeException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        changes.clear();
+        order.clear();
+        if (failure != null) throw failure;
+    }
+}
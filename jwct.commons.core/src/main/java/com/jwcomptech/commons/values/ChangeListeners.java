@@ -0,0 +1,133 @@
+package com.jwcomptech.commons.values;
+
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Arrays;
+
+/**
+ * Copy-on-write storage for the listeners of the values. A listener array is never modified once it
+ * is published, so notifying iterates without locking, and a value without listeners only references
+ * the shared empty array.
+ *
+ * @since 0.0.1
+ */
+final class ChangeListeners {
+    /** The array shared by all values without listeners. */
+    static final ChangeListener<?>[] NONE = new ChangeListener<?>[0];
+
+    private ChangeListeners() { }
+
+    /**
+     * Returns a copy of the array with the listener appended.
+     * @param listeners the current listeners
+     * @param listener the listener to add
+     * @return the new listeners
+     */
+    static ChangeListener<?>[] add(final ChangeListener<?>[] listeners, final ChangeListener<?> listener) {
+        final ChangeListener<?>[] copy = Arrays.copyOf(listeners, listeners.length + 1);
+        copy[listeners.length] = listener;
+        return copy;
+    }
+
+    /**
+     * Returns a copy of the array without the last occurrence of the listener,
+     * or the same array if it does not contain the listener.
+     * @param listeners the current listeners
+     * @param listener the listener to remove
+     * @return the new listeners
+     */
+    static ChangeListener<?>[] remove(final ChangeListener<?>[] listeners, final ChangeListener<?> listener) {
+        for (int i = listeners.length - 1; i >= 0; i--) {
+            if (listeners[i].equals(listener)) {
+                if (listeners.length == 1) return NONE;
+                final ChangeListener<?>[] copy = new ChangeListener<?>[listeners.length - 1];
+                System.arraycopy(listeners, 0, copy, 0, i);
+                System.arraycopy(listeners, i + 1, copy, i, listeners.length - i - 1);
+                return copy;
+            }
+        }
+        return listeners;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> void fire(final ChangeListener<?>[] listeners, final T oldValue, final T newValue) {
+        for (final ChangeListener<?> listener : listeners) {
+            ((ChangeListener<? super T>) listener).changed(oldValue, newValue);
+        }
+    }
+
+    /** Notifies the listeners, the values are only boxed for listeners that are not an {@link IntChangeListener}. */
+    @SuppressWarnings("unchecked")
+    static void fire(final ChangeListener<?>[] listeners, final int oldValue, final int newValue) {
+        Integer boxedOld = null;
+        Integer boxedNew = null;
+        for (final ChangeListener<?> listener : listeners) {
+            if (listener instanceof final IntChangeListener intListener) {
+                intListener.changed(oldValue, newValue);
+            } else {
+                if (boxedOld == null) {
+                    boxedOld = oldValue;
+                    boxedNew = newValue;
+                }
+                ((ChangeListener<? super Integer>) listener).changed(boxedOld, boxedNew);
+            }
+        }
+    }
+
+    /** Notifies the listeners, the values are only boxed for listeners that are not a {@link LongChangeListener}. */
+    @SuppressWarnings("unchecked")
+    static void fire(final ChangeListener<?>[] listeners, final long oldValue, final long newValue) {
+        Long boxedOld = null;
+        Long boxedNew = null;
+        for (final ChangeListener<?> listener : listeners) {
+            if (listener instanceof final LongChangeListener longListener) {
+                longListener.changed(oldValue, newValue);
+            } else {
+                if (boxedOld == null) {
+                    boxedOld = oldValue;
+                    boxedNew = newValue;
+                }
+                ((ChangeListener<? super Long>) listener).changed(boxedOld, boxedNew);
+            }
+        }
+    }
+
+    /** Notifies the listeners, the values are only boxed for listeners that are not a {@link DoubleChangeListener}. */
+    @SuppressWarnings("unchecked")
+    static void fire(final ChangeListener<?>[] listeners, final double oldValue, final double newValue) {
+        Double boxedOld = null;
+        Double boxedNew = null;
+        for (final ChangeListener<?> listener : listeners) {
+            if (listener instanceof final DoubleChangeListener doubleListener) {
+                doubleListener.changed(oldValue, newValue);
+            } else {
+                if (boxedOld == null) {
+                    boxedOld = oldValue;
+                    boxedNew = newValue;
+                }
+                ((ChangeListener<? super Double>) listener).changed(boxedOld, boxedNew);
+            }
+        }
+    }
+}
@@ -45,34 +45,31 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      * @see java.io.Serializable
      */
     @Serial
-    private static final long serialVersionUID = 5626868775336965253L;
+    private static final long serialVersionUID = 8268976417274733405L;
+
+    private double value;
 
     private DoubleValue() {
-        super(0.0);
-        super.setListenersTarget(this);
+        value = 0.0;
     }
 
     private DoubleValue(final int defaultValue) {
-        super((double) defaultValue);
-        super.setListenersTarget(this);
+        value = defaultValue;
     }
 
     private DoubleValue(final double defaultValue) {
-        super(defaultValue);
-        super.setListenersTarget(this);
+        value = defaultValue;
     }
 
 
     private DoubleValue(final @NotNull Number defaultValue) {
-        super(defaultValue.doubleValue());
         checkArgumentNotNull(defaultValue, cannotBeNull("defaultValue"));
-        super.setListenersTarget(this);
+        value = defaultValue.doubleValue();
     }
 
     private DoubleValue(final String defaultValue) {
-        super(Double.parseDouble(defaultValue));
         checkArgumentNotNullOrEmpty(defaultValue, cannotBeNullOrEmpty("defaultValue"));
-        super.setListenersTarget(this);
+        value = Double.parseDouble(defaultValue);
     }
 
     /**
@@ -126,6 +123,19 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
         return new DoubleValue(defaultValue);
     }
 
+    /**
+     * Adds a listener that receives the values without boxing them.
+     * @param listener the listener to be added
+     * @see #addListener(ChangeListener)
+     */
+    public void addListener(final DoubleChangeListener listener) {
+        super.addListener(listener);
+    }
+
+    private void fireChange(final double last, final double next) {
+        if (Double.compare(last, next) != 0) notifyListeners(last, next);
+    }
+
     /**
      * Increments the value.
      * @return this instance
@@ -133,9 +143,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public DoubleValue increment() {
-        final Double last = value;
+        final double last = value;
         value = value + 1.0;
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -148,9 +158,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public Double incrementAndGet() {
-        final Double last = value;
+        final double last = value;
         value = value + 1.0;
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -163,9 +173,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public Double getAndIncrement() {
-        final Double last = value;
+        final double last = value;
         value = value + 1.0;
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -176,9 +186,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public DoubleValue decrement() {
-        final Double last = value;
+        final double last = value;
         value = value - 1.0;
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -191,9 +201,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public Double decrementAndGet() {
-        final Double last = value;
+        final double last = value;
         value = value - 1.0;
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -206,8 +216,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public Double getAndDecrement() {
-        final Double last = value;
+        final double last = value;
         value = value - 1.0;
+        fireChange(last, value);
         return last;
     }
 
@@ -221,9 +232,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public DoubleValue add(final @NotNull Number operand) {
-        final Double last = value;
+        final double last = value;
         value = value + operand.doubleValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -238,9 +249,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public Double addAndGet(final @NotNull Number operand) {
-        final Double last = value;
+        final double last = value;
         value = value + operand.doubleValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -255,9 +266,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public Double getAndAdd(final @NotNull Number operand) {
-        final Double last = value;
+        final double last = value;
         value = value + operand.intValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -271,9 +282,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public DoubleValue subtract(final @NotNull Number operand) {
-        final Double last = value;
+        final double last = value;
         value = value - operand.intValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -288,9 +299,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public Double subtractAndGet(final @NotNull Number operand) {
-        final Double last = value;
+        final double last = value;
         value = value - operand.intValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -305,9 +316,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public Double getAndSubtract(final @NotNull Number operand) {
-        final Double last = value;
+        final double last = value;
         value = value - operand.intValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -320,9 +331,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public DoubleValue multiply(final @NotNull Number operand) {
-        final Double last = value;
+        final double last = value;
         value = value * operand.intValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -336,9 +347,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public Double multiplyAndGet(final @NotNull Number operand) {
-        final Double last = value;
+        final double last = value;
         value = value * operand.intValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -352,9 +363,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public Double getAndMultiply(final @NotNull Number operand) {
-        final Double last = value;
+        final double last = value;
         value = value * operand.intValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -367,9 +378,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public DoubleValue divide(final @NotNull Number operand) {
-        final Double last = value;
+        final double last = value;
         value = value / operand.intValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -383,9 +394,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public Double divideAndGet(final @NotNull Number operand) {
-        final Double last = value;
+        final double last = value;
         value = value / operand.intValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -399,9 +410,9 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public Double getAndDivide(final @NotNull Number operand) {
-        final Double last = value;
+        final double last = value;
         value = value / operand.intValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -410,7 +421,7 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public boolean isPositive() {
-        return Integer.signum(value.intValue()) > 0;
+        return Integer.signum((int) value) > 0;
     }
 
     /**
@@ -418,7 +429,7 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public boolean isNegative() {
-        return Integer.signum(value.intValue()) < 0;
+        return Integer.signum((int) value) < 0;
     }
 
     /**
@@ -434,7 +445,7 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public boolean isEqualTo(final @NotNull Number number) {
-        return value.equals(number.doubleValue());
+        return Double.compare(value, number.doubleValue()) == 0;
     }
 
     /**
@@ -442,7 +453,7 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
      */
     @Override
     public boolean isNotEqualTo(final @NotNull Number number) {
-        return !value.equals(number.doubleValue());
+        return Double.compare(value, number.doubleValue()) != 0;
     }
 
     /**
@@ -503,7 +514,7 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
     }
 
     /**
-     * Sets the value.
+     * Sets the value and notifies the listeners if it changed.
      * @param value the value to store
      * @return this instance
      * @throws IllegalArgumentException if specified value is null
@@ -511,12 +522,14 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
     @Override
     public DoubleValue set(final Double value) {
         checkArgumentNotNull(value, cannotBeNull("value"));
+        final double last = this.value;
         this.value = value;
+        fireChange(last, this.value);
         return this;
     }
 
     /**
-     * Sets the value.
+     * Sets the value and notifies the listeners if it changed.
      * @param value the value to store
      * @return this instance
      * @throws IllegalArgumentException if specified value is null
@@ -524,17 +537,56 @@ public final class DoubleValue extends NumberValue<Double, DoubleValue> {
     @Override
     public DoubleValue set(final Number value) {
         checkArgumentNotNull(value, cannotBeNull("value"));
+        final double last = this.value;
         this.value = value.doubleValue();
+        fireChange(last, this.value);
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int intValue() {
+        return (int) value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long longValue() {
+        return (long) value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float floatValue() {
+        return (float) value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double doubleValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return Double.toString(value);
+    }
+
     @Override
     public boolean equals(final Object obj) {
-        return obj instanceof DoubleValue && value.equals(((DoubleValue) obj).doubleValue());
+        return obj instanceof DoubleValue && Double.compare(value, ((DoubleValue) obj).doubleValue()) == 0;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Double.hashCode(value);
     }
 }
@@ -49,7 +49,6 @@ public class EnumValue<T extends Enum<T>> extends ObservableValue<T, EnumValue<T
 
     public EnumValue(final T value) {
         super(value);
-        super.setListenersTarget(this);
     }
 
     /**
@@ -45,33 +45,30 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      * @see java.io.Serializable
      */
     @Serial
-    private static final long serialVersionUID = -6475675786857950255L;
+    private static final long serialVersionUID = -1657698031447689327L;
+
+    private float value;
 
     private FloatValue() {
-        super(0.0F);
-        super.setListenersTarget(this);
+        value = 0.0F;
     }
 
     private FloatValue(final int defaultValue) {
-        super((float) defaultValue);
-        super.setListenersTarget(this);
+        value = defaultValue;
     }
 
     private FloatValue(final float defaultValue) {
-        super(defaultValue);
-        super.setListenersTarget(this);
+        value = defaultValue;
     }
 
     private FloatValue(final @NotNull Number defaultValue) {
-        super(defaultValue.floatValue());
         checkArgumentNotNull(defaultValue, cannotBeNull("defaultValue"));
-        super.setListenersTarget(this);
+        value = defaultValue.floatValue();
     }
 
     private FloatValue(final String defaultValue) {
-        super(Float.parseFloat(defaultValue));
         checkArgumentNotNullOrEmpty(defaultValue, cannotBeNullOrEmpty("defaultValue"));
-        super.setListenersTarget(this);
+        value = Float.parseFloat(defaultValue);
     }
 
     /**
@@ -125,6 +122,12 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
         return new FloatValue(defaultValue);
     }
 
+    private void fireChange(final float last, final float next) {
+        if (Float.compare(last, next) != 0 && hasListeners()) {
+            notifyListeners(Float.valueOf(last), Float.valueOf(next));
+        }
+    }
+
     /**
      * Increments the value.
      * @return this instance
@@ -132,9 +135,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public FloatValue increment() {
-        final Float last = value;
+        final float last = value;
         value = value + 1.0F;
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -147,9 +150,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public Float incrementAndGet() {
-        final Float last = value;
+        final float last = value;
         value = value + 1.0F;
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -162,9 +165,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public Float getAndIncrement() {
-        final Float last = value;
+        final float last = value;
         value = value + 1.0F;
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -175,9 +178,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public FloatValue decrement() {
-        final Float last = value;
+        final float last = value;
         value = value - 1.0F;
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -190,9 +193,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public Float decrementAndGet() {
-        final Float last = value;
+        final float last = value;
         value = value - 1.0F;
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -205,8 +208,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public Float getAndDecrement() {
-        final Float last = value;
+        final float last = value;
         value = value - 1.0F;
+        fireChange(last, value);
         return last;
     }
 
@@ -221,9 +225,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
     @Contract("_ -> this")
     @Override
     public FloatValue add(final @NotNull Number operand) {
-        final Float last = value;
+        final float last = value;
         value = value + operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -238,9 +242,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public Float addAndGet(final @NotNull Number operand) {
-        final Float last = value;
+        final float last = value;
         value = value + operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -255,9 +259,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public Float getAndAdd(final @NotNull Number operand) {
-        final Float last = value;
+        final float last = value;
         value = value + operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -272,9 +276,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
     @Contract("_ -> this")
     @Override
     public FloatValue subtract(final @NotNull Number operand) {
-        final Float last = value;
+        final float last = value;
         value = value - operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -289,9 +293,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public Float subtractAndGet(final @NotNull Number operand) {
-        final Float last = value;
+        final float last = value;
         value = value - operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -306,9 +310,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public Float getAndSubtract(final @NotNull Number operand) {
-        final Float last = value;
+        final float last = value;
         value = value - operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -322,9 +326,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
     @Contract("_ -> this")
     @Override
     public FloatValue multiply(final @NotNull Number operand) {
-        final Float last = value;
+        final float last = value;
         value = value * operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -338,9 +342,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public Float multiplyAndGet(final @NotNull Number operand) {
-        final Float last = value;
+        final float last = value;
         value = value * operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -354,9 +358,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public Float getAndMultiply(final @NotNull Number operand) {
-        final Float last = value;
+        final float last = value;
         value = value * operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -370,9 +374,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
     @Contract("_ -> this")
     @Override
     public FloatValue divide(final @NotNull Number operand) {
-        final Float last = value;
+        final float last = value;
         value = value / operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -386,9 +390,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public Float divideAndGet(final @NotNull Number operand) {
-        final Float last = value;
+        final float last = value;
         value = value / operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -402,9 +406,9 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public Float getAndDivide(final @NotNull Number operand) {
-        final Float last = value;
+        final float last = value;
         value = value / operand.floatValue();
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -413,7 +417,7 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public boolean isPositive() {
-        return Integer.signum(value.intValue()) > 0;
+        return Integer.signum((int) value) > 0;
     }
 
     /**
@@ -421,7 +425,7 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public boolean isNegative() {
-        return Integer.signum(value.intValue()) < 0;
+        return Integer.signum((int) value) < 0;
     }
 
     /**
@@ -437,7 +441,7 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public boolean isEqualTo(final @NotNull Number number) {
-        return value.equals(number.floatValue());
+        return Float.compare(value, number.floatValue()) == 0;
     }
 
     /**
@@ -445,7 +449,7 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
      */
     @Override
     public boolean isNotEqualTo(final @NotNull Number number) {
-        return !value.equals(number.floatValue());
+        return Float.compare(value, number.floatValue()) != 0;
     }
 
     /**
@@ -506,7 +510,7 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
     }
 
     /**
-     * Sets the value.
+     * Sets the value and notifies the listeners if it changed.
      * @param value the value to store
      * @return this instance
      * @throws IllegalArgumentException if specified value is null
@@ -514,12 +518,14 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
     @Override
     public FloatValue set(final Float value) {
         checkArgumentNotNull(value, cannotBeNull("value"));
+        final float last = this.value;
         this.value = value;
+        fireChange(last, this.value);
         return this;
     }
 
     /**
-     * Sets the value.
+     * Sets the value and notifies the listeners if it changed.
      * @param value the value to store
      * @return this instance
      * @throws IllegalArgumentException if specified value is null
@@ -527,17 +533,56 @@ public final class FloatValue extends NumberValue<Float, FloatValue> {
     @Override
     public FloatValue set(final Number value) {
         checkArgumentNotNull(value, cannotBeNull("value"));
+        final float last = this.value;
         this.value = value.floatValue();
+        fireChange(last, this.value);
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int intValue() {
+        return (int) value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long longValue() {
+        return (long) value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float floatValue() {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double doubleValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return Float.toString(value);
+    }
+
     @Override
     public boolean equals(final Object obj) {
-        return obj instanceof FloatValue && value.equals(((FloatValue) obj).floatValue());
+        return obj instanceof FloatValue && Float.compare(value, ((FloatValue) obj).floatValue()) == 0;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Float.hashCode(value);
     }
 }
@@ -45,29 +45,27 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      * @see java.io.Serializable
      */
     @Serial
-    private static final long serialVersionUID = -4508054126789004835L;
+    private static final long serialVersionUID = 6570996379406503926L;
+
+    private int value;
 
     private IntegerValue() {
-        super(0);
-        super.setListenersTarget(this);
+        value = 0;
     }
 
     private IntegerValue(final int defaultValue) {
-        super(defaultValue);
-        super.setListenersTarget(this);
+        value = defaultValue;
     }
 
 
     private IntegerValue(final @NotNull Number defaultValue) {
-        super(defaultValue.intValue());
         checkArgumentNotNull(defaultValue, cannotBeNull("defaultValue"));
-        super.setListenersTarget(this);
+        value = defaultValue.intValue();
     }
 
     private IntegerValue(final String defaultValue) {
-        super(Integer.parseInt(defaultValue));
         checkArgumentNotNullOrEmpty(defaultValue, cannotBeNullOrEmpty("defaultValue"));
-        super.setListenersTarget(this);
+        value = Integer.parseInt(defaultValue);
     }
 
     /** Creates a new IntegerValue instance with the default value of 0. */
@@ -105,6 +103,19 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
         return new IntegerValue(defaultValue);
     }
 
+    /**
+     * Adds a listener that receives the values without boxing them.
+     * @param listener the listener to be added
+     * @see #addListener(ChangeListener)
+     */
+    public void addListener(final IntChangeListener listener) {
+        super.addListener(listener);
+    }
+
+    private void fireChange(final int last, final int next) {
+        if (last != next) notifyListeners(last, next);
+    }
+
     /**
      * Increments the value.
      * @return this instance
@@ -112,9 +123,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public IntegerValue increment() {
-        final Integer last = value;
+        final int last = value;
         value = Math.incrementExact(value);
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -127,9 +138,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer incrementAndGet() {
-        final Integer last = value;
+        final int last = value;
         value = Math.incrementExact(value);
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -142,9 +153,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer getAndIncrement() {
-        final Integer last = value;
+        final int last = value;
         value = Math.incrementExact(value);
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -155,9 +166,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public IntegerValue decrement() {
-        final Integer last = value;
+        final int last = value;
         value = Math.decrementExact(value);
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -170,9 +181,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer decrementAndGet() {
-        final Integer last = value;
+        final int last = value;
         value = Math.decrementExact(value);
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -185,8 +196,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer getAndDecrement() {
-        final Integer last = value;
+        final int last = value;
         value = Math.decrementExact(value);
+        fireChange(last, value);
         return last;
     }
 
@@ -200,9 +212,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public IntegerValue add(final @NotNull Number operand) {
-        final Integer last = value;
+        final int last = value;
         value = Math.addExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -217,9 +229,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer addAndGet(final @NotNull Number operand) {
-        final Integer last = value;
+        final int last = value;
         value = Math.addExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -234,9 +246,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer getAndAdd(final @NotNull Number operand) {
-        final Integer last = value;
+        final int last = value;
         value = Math.addExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -250,9 +262,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public IntegerValue subtract(final @NotNull Number operand) {
-        final Integer last = value;
+        final int last = value;
         value = Math.subtractExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -267,9 +279,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer subtractAndGet(final @NotNull Number operand) {
-        final Integer last = value;
+        final int last = value;
         value = Math.subtractExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -284,9 +296,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer getAndSubtract(final @NotNull Number operand) {
-        final Integer last = value;
+        final int last = value;
         value = Math.subtractExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -300,9 +312,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public IntegerValue multiply(final @NotNull Number operand) {
-        final Integer last = value;
+        final int last = value;
         value = Math.multiplyExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -317,9 +329,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer multiplyAndGet(final @NotNull Number operand) {
-        final Integer last = value;
+        final int last = value;
         value = Math.multiplyExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -334,9 +346,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer getAndMultiply(final @NotNull Number operand) {
-        final Integer last = value;
+        final int last = value;
         value = Math.multiplyExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -349,9 +361,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public IntegerValue divide(final @NotNull Number operand) {
-        final Integer last = value;
+        final int last = value;
         value = Math.divideExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -365,9 +377,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer divideAndGet(final @NotNull Number operand) {
-        final Integer last = value;
+        final int last = value;
         value = Math.divideExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -381,9 +393,9 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
      */
     @Override
     public Integer getAndDivide(final @NotNull Number operand) {
-        final Integer last = value;
+        final int last = value;
         value = Math.divideExact(value, operand.intValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -485,7 +497,7 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
     }
 
     /**
-     * Sets the value.
+     * Sets the value and notifies the listeners if it changed.
      * @param value the value to store
      * @return this instance
      * @throws IllegalArgumentException if specified value is null
@@ -493,12 +505,14 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
     @Override
     public IntegerValue set(final Integer value) {
         checkArgumentNotNull(value, cannotBeNull("value"));
+        final int last = this.value;
         this.value = value;
+        fireChange(last, this.value);
         return this;
     }
 
     /**
-     * Sets the value.
+     * Sets the value and notifies the listeners if it changed.
      * @param value the value to store
      * @return this instance
      * @throws IllegalArgumentException if specified value is null
@@ -506,10 +520,49 @@ public final class IntegerValue extends NumberValue<Integer, IntegerValue> {
     @Override
     public IntegerValue set(final Number value) {
         checkArgumentNotNull(value, cannotBeNull("value"));
+        final int last = this.value;
         this.value = value.intValue();
+        fireChange(last, this.value);
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int intValue() {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long longValue() {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float floatValue() {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double doubleValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return Integer.toString(value);
+    }
+
     @Override
     public boolean equals(final Object obj) {
         return obj instanceof IntegerValue && value == ((IntegerValue) obj).intValue();
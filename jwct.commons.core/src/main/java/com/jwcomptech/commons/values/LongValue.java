@@ -45,33 +45,30 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      * @see java.io.Serializable
      */
     @Serial
-    private static final long serialVersionUID = -6266537770334178L;
+    private static final long serialVersionUID = -870787684193641506L;
+
+    private long value;
 
     private LongValue() {
-        super(0L);
-        super.setListenersTarget(this);
+        value = 0L;
     }
 
     private LongValue(final int defaultValue) {
-        super((long) defaultValue);
-        super.setListenersTarget(this);
+        value = defaultValue;
     }
 
     private LongValue(final long defaultValue) {
-        super(defaultValue);
-        super.setListenersTarget(this);
+        value = defaultValue;
     }
 
     private LongValue(final @NotNull Number defaultValue) {
-        super(defaultValue.longValue());
         checkArgumentNotNull(defaultValue, cannotBeNull("defaultValue"));
-        super.setListenersTarget(this);
+        value = defaultValue.longValue();
     }
 
     private LongValue(final String defaultValue) {
-        super(Long.parseLong(defaultValue));
         checkArgumentNotNullOrEmpty(defaultValue, cannotBeNullOrEmpty("defaultValue"));
-        super.setListenersTarget(this);
+        value = Long.parseLong(defaultValue);
     }
 
     /** Creates a new LongValue instance with the default value of 0. */
@@ -118,6 +115,19 @@ public final class LongValue extends NumberValue<Long, LongValue> {
         return new LongValue(defaultValue);
     }
 
+    /**
+     * Adds a listener that receives the values without boxing them.
+     * @param listener the listener to be added
+     * @see #addListener(ChangeListener)
+     */
+    public void addListener(final LongChangeListener listener) {
+        super.addListener(listener);
+    }
+
+    private void fireChange(final long last, final long next) {
+        if (last != next) notifyListeners(last, next);
+    }
+
     /**
      * Increments the value.
      * @return this instance
@@ -125,9 +135,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public LongValue increment() {
-        final Long last = value;
+        final long last = value;
         value = Math.incrementExact(value);
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -140,9 +150,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public Long incrementAndGet() {
-        final Long last = value;
+        final long last = value;
         value = Math.incrementExact(value);
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -155,9 +165,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public Long getAndIncrement() {
-        final Long last = value;
+        final long last = value;
         value = Math.incrementExact(value);
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -168,9 +178,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public LongValue decrement() {
-        final Long last = value;
+        final long last = value;
         value = Math.decrementExact(value);
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -183,9 +193,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public Long decrementAndGet() {
-        final Long last = value;
+        final long last = value;
         value = Math.decrementExact(value);
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -198,8 +208,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public Long getAndDecrement() {
-        final Long last = value;
+        final long last = value;
         value = Math.decrementExact(value);
+        fireChange(last, value);
         return last;
     }
 
@@ -213,9 +224,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public LongValue add(final Number operand) {
-        final Long last = value;
+        final long last = value;
         value = Math.addExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -230,9 +241,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public Long addAndGet(final @NotNull Number operand) {
-        final Long last = value;
+        final long last = value;
         value = Math.addExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -247,9 +258,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public Long getAndAdd(final @NotNull Number operand) {
-        final Long last = value;
+        final long last = value;
         value = Math.addExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -263,9 +274,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public LongValue subtract(final @NotNull Number operand) {
-        final Long last = value;
+        final long last = value;
         value = Math.subtractExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -280,9 +291,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public Long subtractAndGet(final @NotNull Number operand) {
-        final Long last = value;
+        final long last = value;
         value = Math.subtractExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -297,9 +308,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public Long getAndSubtract(final @NotNull Number operand) {
-        final Long last = value;
+        final long last = value;
         value = Math.subtractExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -312,9 +323,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public LongValue multiply(final @NotNull Number operand) {
-        final Long last = value;
+        final long last = value;
         value = Math.multiplyExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -328,9 +339,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public Long multiplyAndGet(final @NotNull Number operand) {
-        final Long last = value;
+        final long last = value;
         value = Math.multiplyExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -344,9 +355,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public Long getAndMultiply(final @NotNull Number operand) {
-        final Long last = value;
+        final long last = value;
         value = Math.multiplyExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -359,9 +370,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public LongValue divide(final @NotNull Number operand) {
-        final Long last = value;
+        final long last = value;
         value = Math.divideExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return this;
     }
 
@@ -375,9 +386,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public Long divideAndGet(final @NotNull Number operand) {
-        final Long last = value;
+        final long last = value;
         value = Math.divideExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return value;
     }
 
@@ -391,9 +402,9 @@ public final class LongValue extends NumberValue<Long, LongValue> {
      */
     @Override
     public Long getAndDivide(final @NotNull Number operand) {
-        final Long last = value;
+        final long last = value;
         value = Math.divideExact(value, operand.longValue());
-        listeners.firePropertyChange("value", last, value);
+        fireChange(last, value);
         return last;
     }
 
@@ -495,7 +506,7 @@ public final class LongValue extends NumberValue<Long, LongValue> {
     }
 
     /**
-     * Sets the value.
+     * Sets the value and notifies the listeners if it changed.
      * @param value the value to store
      * @return this instance
      * @throws IllegalArgumentException if specified value is null
@@ -503,12 +514,14 @@ public final class LongValue extends NumberValue<Long, LongValue> {
     @Override
     public LongValue set(final Long value) {
         checkArgumentNotNull(value, cannotBeNull("defaultValue"));
+        final long last = this.value;
         this.value = value;
+        fireChange(last, this.value);
         return this;
     }
 
     /**
-     * Sets the value.
+     * Sets the value and notifies the listeners if it changed.
      * @param value the value to store
      * @return this instance
      * @throws IllegalArgumentException if specified value is null
@@ -516,10 +529,49 @@ public final class LongValue extends NumberValue<Long, LongValue> {
     @Override
     public LongValue set(final Number value) {
         checkArgumentNotNull(value, cannotBeNull("defaultValue"));
+        final long last = this.value;
         this.value = value.longValue();
+        fireChange(last, this.value);
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int intValue() {
+        return (int) value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long longValue() {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float floatValue() {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double doubleValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+
     @Override
     public boolean equals(final Object obj) {
         return obj instanceof LongValue && value == ((LongValue) obj).longValue();
@@ -527,6 +579,6 @@ public final class LongValue extends NumberValue<Long, LongValue> {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(value);
     }
 }
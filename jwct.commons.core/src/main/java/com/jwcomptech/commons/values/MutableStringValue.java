@@ -55,7 +55,6 @@ import static org.apache.commons.lang3.StringUtils.stripStart;
  */
 @SuppressWarnings({"ClassWithTooManyMethods", "OverlyComplexClass", "unused"})
 public final class MutableStringValue extends ObservableValue<String, MutableStringValue> {
-    private String value;
     /**
      * Required for serialization support.
      *
@@ -66,23 +65,19 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
 
     private MutableStringValue() {
         super(EMPTY);
-        super.setListenersTarget(this);
     }
 
     private MutableStringValue(final String input) {
         super(input);
-        super.setListenersTarget(this);
     }
 
     @SuppressWarnings("TypeMayBeWeakened")
     private MutableStringValue(final @NotNull StringBuilder input) {
         super(input.toString());
-        super.setListenersTarget(this);
     }
 
     private MutableStringValue(final @NotNull CharSequence input) {
         super(input.toString());
-        super.setListenersTarget(this);
     }
 
     /**
@@ -291,7 +286,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @Contract("_ -> new")
     public @NotNull MutableStringValue addToEnd(final String input) {
-        value = value + input;
+        updateValue(value + input);
         return this;
     }
 
@@ -302,7 +297,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @Contract("_ -> new")
     public @NotNull MutableStringValue addToEnd(final @NotNull StringValue input) {
-        value = value + input.get();
+        updateValue(value + input.get());
         return this;
     }
 
@@ -313,7 +308,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @Contract("_ -> new")
     public @NotNull MutableStringValue addToEnd(final @NotNull MutableStringValue input) {
-        value = value + input.get();
+        updateValue(value + input.get());
         return this;
     }
 
@@ -324,7 +319,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @Contract("_ -> new")
     public @NotNull MutableStringValue addToEnd(final char input) {
-        value = value + input;
+        updateValue(value + input);
         return this;
     }
 
@@ -335,7 +330,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @Contract("_ -> new")
     public @NotNull MutableStringValue addToStart(final String input) {
-        value = input + value;
+        updateValue(input + value);
         return this;
     }
 
@@ -346,7 +341,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @Contract("_ -> new")
     public @NotNull MutableStringValue addToStart(final @NotNull StringValue input) {
-        value = input.get() + value;
+        updateValue(input.get() + value);
         return this;
     }
 
@@ -357,7 +352,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @Contract("_ -> new")
     public @NotNull MutableStringValue addToStart(final @NotNull MutableStringValue input) {
-        value = input.get() + value;
+        updateValue(input.get() + value);
         return this;
     }
 
@@ -368,7 +363,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @Contract("_ -> new")
     public @NotNull MutableStringValue addToStart(final char input) {
-        value = input + value;
+        updateValue(input + value);
         return this;
     }
 
@@ -410,7 +405,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue quoteString() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = "\"%s\"".formatted(value);
+        updateValue("\"%s\"".formatted(value));
         return this;
     }
 
@@ -421,9 +416,9 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue unquoteString() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = (value.startsWith("\"") && value.endsWith("\""))
+        updateValue((value.startsWith("\"") && value.endsWith("\""))
                 || (value.startsWith("'") && value.endsWith("'"))
-                ? value.substring(1, value.length() - 1) : value;
+                ? value.substring(1, value.length() - 1) : value);
         return this;
     }
 
@@ -522,7 +517,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
         var startsWith = value.startsWith(prefix);
         if(!startsWith && ignoreCase) startsWith = value.startsWith(prefix.toUpperCase(Locale.getDefault()));
         if(!startsWith && ignoreCase) startsWith = value.startsWith(prefix.toLowerCase(Locale.getDefault()));
-        value = startsWith ? value : prefix + value;
+        updateValue(startsWith ? value : prefix + value);
         return this;
     }
 
@@ -539,7 +534,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
         var endsWith = value.endsWith(suffix);
         if(!endsWith && ignoreCase) endsWith = value.startsWith(suffix.toUpperCase(Locale.getDefault()));
         if(!endsWith && ignoreCase) endsWith = value.startsWith(suffix.toLowerCase(Locale.getDefault()));
-        value = endsWith ? value : value + suffix;
+        updateValue(endsWith ? value : value + suffix);
         return this;
     }
 
@@ -656,6 +651,17 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
         return IntegerValue.of(value.indexOf(ch));
     }
 
+    /**
+     * Returns the index of the first occurrence of the character.
+     * Unlike {@link #indexOf(char)} no object is allocated.
+     * @param ch a character (Unicode code point)
+     * @return the index of the first occurrence, or {@code -1} if the character does not occur
+     */
+    @Contract(pure = true)
+    public int indexOfInt(final char ch) {
+        return value.indexOf(ch);
+    }
+
     /**
      * Returns the index within this string of the first occurrence of the
      * specified character, starting the search at the specified index.
@@ -708,6 +714,18 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
         return IntegerValue.of(value.indexOf(ch, fromIndex));
     }
 
+    /**
+     * Returns the index of the first occurrence of the character at or after {@code fromIndex}.
+     * Unlike {@link #indexOf(char, int)} no object is allocated.
+     * @param ch a character (Unicode code point)
+     * @param fromIndex the index to start the search from
+     * @return the index of the first occurrence, or {@code -1} if the character does not occur
+     */
+    @Contract(pure = true)
+    public int indexOfInt(final char ch, final int fromIndex) {
+        return value.indexOf(ch, fromIndex);
+    }
+
     /**
      * Returns the index within the value of the first occurrence of the
      * specified character, starting the search at {@code beginIndex} and
@@ -750,6 +768,20 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
         return IntegerValue.of(value.indexOf(ch, beginIndex, endIndex));
     }
 
+    /**
+     * Returns the index of the first occurrence of the character between {@code beginIndex} and {@code endIndex}.
+     * Unlike {@link #indexOf(char, int, int)} no object is allocated.
+     * @param ch a character (Unicode code point)
+     * @param beginIndex the index to start the search from (included)
+     * @param endIndex the index to stop the search at (excluded)
+     * @return the index of the first occurrence, or {@code -1} if the character does not occur
+     * @throws StringIndexOutOfBoundsException if the range is not within the string
+     */
+    @Contract(pure = true)
+    public int indexOfInt(final char ch, final int beginIndex, final int endIndex) {
+        return value.indexOf(ch, beginIndex, endIndex);
+    }
+
     /**
      * Returns the index within this string of the first occurrence of the
      * specified substring.
@@ -768,6 +800,17 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
         return IntegerValue.of(value.indexOf(str));
     }
 
+    /**
+     * Returns the index of the first occurrence of the substring.
+     * Unlike {@link #indexOf(String)} no object is allocated.
+     * @param str the substring to search for
+     * @return the index of the first occurrence, or {@code -1} if there is no such occurrence
+     */
+    @Contract(pure = true)
+    public int indexOfInt(final String str) {
+        return value.indexOf(str);
+    }
+
     /**
      * Returns the index within this string of the first occurrence of the
      * specified substring, starting at the specified index.
@@ -800,6 +843,18 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
         return IntegerValue.of(value.indexOf(str, fromIndex));
     }
 
+    /**
+     * Returns the index of the first occurrence of the substring at or after {@code fromIndex}.
+     * Unlike {@link #indexOf(String, int)} no object is allocated.
+     * @param str the substring to search for
+     * @param fromIndex the index from which to start the search
+     * @return the index of the first occurrence, or {@code -1} if there is no such occurrence
+     */
+    @Contract(pure = true)
+    public int indexOfInt(final String str, final int fromIndex) {
+        return value.indexOf(str, fromIndex);
+    }
+
     /**
      * Returns the index of the first occurrence of the specified substring
      * within the specified index range of {@code this} string.
@@ -827,6 +882,20 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
         return IntegerValue.of(value.indexOf(str, beginIndex, endIndex));
     }
 
+    /**
+     * Returns the index of the first occurrence of the substring between {@code beginIndex} and {@code endIndex}.
+     * Unlike {@link #indexOf(String, int, int)} no object is allocated.
+     * @param str the substring to search for
+     * @param beginIndex the index to start the search from (included)
+     * @param endIndex the index to stop the search at (excluded)
+     * @return the index of the first occurrence, or {@code -1} if there is no such occurrence
+     * @throws StringIndexOutOfBoundsException if the range is not within the string
+     */
+    @Contract(pure = true)
+    public int indexOfInt(final String str, final int beginIndex, final int endIndex) {
+        return value.indexOf(str, beginIndex, endIndex);
+    }
+
     /**
      * Returns the index within this string of the last occurrence of
      * the specified character. For values of {@code ch} in the
@@ -855,6 +924,17 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
         return IntegerValue.of(value.lastIndexOf(ch));
     }
 
+    /**
+     * Returns the index of the last occurrence of the character.
+     * Unlike {@link #lastIndexOf(char)} no object is allocated.
+     * @param ch a character (Unicode code point)
+     * @return the index of the last occurrence, or {@code -1} if the character does not occur
+     */
+    @Contract(pure = true)
+    public int lastIndexOfInt(final char ch) {
+        return value.lastIndexOf(ch);
+    }
+
     /**
      * Returns the index within this string of the last occurrence of
      * the specified character, searching backward starting at the
@@ -893,6 +973,18 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
         return IntegerValue.of(value.lastIndexOf(ch, fromIndex));
     }
 
+    /**
+     * Returns the index of the last occurrence of the character at or before {@code fromIndex}.
+     * Unlike {@link #lastIndexOf(char, int)} no object is allocated.
+     * @param ch a character (Unicode code point)
+     * @param fromIndex the index to start the backward search from
+     * @return the index of the last occurrence, or {@code -1} if the character does not occur
+     */
+    @Contract(pure = true)
+    public int lastIndexOfInt(final char ch, final int fromIndex) {
+        return value.lastIndexOf(ch, fromIndex);
+    }
+
     /**
      * Returns the index within this string of the last occurrence of the
      * specified substring.  The last occurrence of the empty string ""
@@ -912,6 +1004,17 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
         return IntegerValue.of(value.lastIndexOf(str));
     }
 
+    /**
+     * Returns the index of the last occurrence of the substring.
+     * Unlike {@link #lastIndexOf(String)} no object is allocated.
+     * @param str the substring to search for
+     * @return the index of the last occurrence, or {@code -1} if there is no such occurrence
+     */
+    @Contract(pure = true)
+    public int lastIndexOfInt(final String str) {
+        return value.lastIndexOf(str);
+    }
+
     /**
      * Returns the index within this string of the last occurrence of the
      * specified substring, searching backward starting at the specified index.
@@ -933,6 +1036,18 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
         return IntegerValue.of(value.lastIndexOf(str, fromIndex));
     }
 
+    /**
+     * Returns the index of the last occurrence of the substring at or before {@code fromIndex}.
+     * Unlike {@link #lastIndexOf(String, int)} no object is allocated.
+     * @param str the substring to search for
+     * @param fromIndex the index to start the backward search from
+     * @return the index of the last occurrence, or {@code -1} if there is no such occurrence
+     */
+    @Contract(pure = true)
+    public int lastIndexOfInt(final String str, final int fromIndex) {
+        return value.lastIndexOf(str, fromIndex);
+    }
+
     /**
      * Returns a string that is a substring of this string. The
      * substring begins with the character at the specified index and
@@ -951,7 +1066,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#substring(int)
      */
     public @NotNull MutableStringValue substring(final int beginIndex) {
-        value = value.substring(beginIndex);
+        updateValue(value.substring(beginIndex));
         return this;
     }
 
@@ -978,7 +1093,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#substring(int, int)
      */
     public @NotNull MutableStringValue substring(final int beginIndex, final int endIndex) {
-        value = value.substring(beginIndex, endIndex);
+        updateValue(value.substring(beginIndex, endIndex));
         return this;
     }
 
@@ -1028,7 +1143,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#concat(String)
      */
     public @NotNull MutableStringValue concat(final String str) {
-        value = value + str;
+        updateValue(value + str);
         return this;
     }
 
@@ -1062,7 +1177,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#replace(char, char)
      */
     public @NotNull MutableStringValue replace(final char oldChar, final char newChar) {
-        value = value.replace(oldChar, newChar);
+        updateValue(value.replace(oldChar, newChar));
         return this;
     }
 
@@ -1134,7 +1249,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#replaceFirst(String, String)
      */
     public @NotNull MutableStringValue replaceFirst(final String regex, final String replacement) {
-        value = value.replaceFirst(regex, replacement);
+        updateValue(value.replaceFirst(regex, replacement));
         return this;
     }
 
@@ -1172,7 +1287,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#replaceAll(String, String)
      */
     public @NotNull MutableStringValue replaceAll(final String regex, final String replacement) {
-        value = value.replaceAll(regex, replacement);
+        updateValue(value.replaceAll(regex, replacement));
         return this;
     }
 
@@ -1188,7 +1303,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#replace(CharSequence, CharSequence)
      */
     public @NotNull MutableStringValue replace(final CharSequence target, final CharSequence replacement) {
-        value = value.replace(target, replacement);
+        updateValue(value.replace(target, replacement));
         return this;
     }
 
@@ -1427,7 +1542,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @SuppressWarnings("UnnecessaryUnicodeEscape")
     public @NotNull MutableStringValue toLowerCase() {
-        value = value.toLowerCase(Locale.getDefault());
+        updateValue(value.toLowerCase(Locale.getDefault()));
         return this;
     }
 
@@ -1485,7 +1600,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#toUpperCase(Locale)
      */
     public @NotNull MutableStringValue toLowerCase(final Locale locale) {
-        value = value.toLowerCase(locale);
+        updateValue(value.toLowerCase(locale));
         return this;
     }
 
@@ -1512,7 +1627,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     @SuppressWarnings("UnnecessaryUnicodeEscape")
     public @NotNull MutableStringValue toUpperCase() {
-        value = value.toUpperCase(Locale.getDefault());
+        updateValue(value.toUpperCase(Locale.getDefault()));
         return this;
     }
 
@@ -1569,7 +1684,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#toUpperCase(Locale)
      */
     public @NotNull MutableStringValue toUpperCase(final Locale locale) {
-        value = value.toUpperCase(locale);
+        updateValue(value.toUpperCase(locale));
         return this;
     }
 
@@ -1605,7 +1720,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      *          has no leading or trailing space.
      */
     public @NotNull MutableStringValue trim() {
-        value = value.trim();
+        updateValue(value.trim());
         return this;
     }
 
@@ -1633,7 +1748,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#stripLeading()
      */
     public @NotNull MutableStringValue stripLeading() {
-        value = value.stripLeading();
+        updateValue(value.stripLeading());
         return this;
     }
 
@@ -1661,7 +1776,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#stripTrailing()
      */
     public @NotNull MutableStringValue stripTrailing() {
-        value = value.stripTrailing();
+        updateValue(value.stripTrailing());
         return this;
     }
 
@@ -1734,7 +1849,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#indent(int)
      */
     public @NotNull MutableStringValue indent(final int n) {
-        value = value.indent(n);
+        updateValue(value.indent(n));
         return this;
     }
 
@@ -1745,7 +1860,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue removeLastCharacter() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.substring(0, value.length() - 1);
+        updateValue(value.substring(0, value.length() - 1));
         return this;
     }
 
@@ -1757,7 +1872,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue removeLastCharacters(final int number) {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.substring(0, value.length() - number);
+        updateValue(value.substring(0, value.length() - number));
         return this;
     }
 
@@ -1768,7 +1883,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue removeFirstCharacter() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.substring(1);
+        updateValue(value.substring(1));
         return this;
     }
 
@@ -1780,7 +1895,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue removeFirstCharacters(final int number) {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.substring(number);
+        updateValue(value.substring(number));
         return this;
     }
 
@@ -1791,7 +1906,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue removeAllSpecialCharacters() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.replaceAll(RegExPatterns.SPECIAL_CHARS.getRegex(), "");
+        updateValue(value.replaceAll(RegExPatterns.SPECIAL_CHARS.getRegex(), ""));
         return this;
     }
 
@@ -1802,7 +1917,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue removeAllAlphanumericCharacters() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.replaceAll(RegExPatterns.ALPHANUMERIC.getRegex(), "");
+        updateValue(value.replaceAll(RegExPatterns.ALPHANUMERIC.getRegex(), ""));
         return this;
     }
 
@@ -1813,7 +1928,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue removeAllLetters() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.replaceAll(RegExPatterns.ALPHA.getRegex(), "");
+        updateValue(value.replaceAll(RegExPatterns.ALPHA.getRegex(), ""));
         return this;
     }
 
@@ -1824,7 +1939,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue removeAllNumbers() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.replaceAll(RegExPatterns.NUMERIC.getRegex(), "");
+        updateValue(value.replaceAll(RegExPatterns.NUMERIC.getRegex(), ""));
         return this;
     }
 
@@ -1835,7 +1950,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue reverse() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = new StringBuilder(value).reverse().toString();
+        updateValue(new StringBuilder(value).reverse().toString());
         return this;
     }
 
@@ -1849,7 +1964,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
     public @NotNull MutableStringValue leftOf(final char c) {
         checkArgumentNotNull(value, cannotBeNull("value"));
         final var index = value.indexOf(c);
-        if (index >= 0) value = value.substring(0, index);
+        if (index >= 0) updateValue(value.substring(0, index));
         return this;
     }
 
@@ -1863,7 +1978,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
     public @NotNull MutableStringValue rightOf(final char c) {
         checkArgumentNotNull(value, cannotBeNull("value"));
         final var index = value.indexOf(c);
-        if (index >= 0) value = value.substring(index + 1);
+        if (index >= 0) updateValue(value.substring(index + 1));
         return this;
     }
 
@@ -1874,7 +1989,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue firstChar() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.length() > 1 ? value.substring(0, 1) : value;
+        updateValue(value.length() > 1 ? value.substring(0, 1) : value);
         return this;
     }
 
@@ -1885,7 +2000,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue lastChar() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.length() > 1 ? value.substring(value.length() - 1, 1) : value;
+        updateValue(value.length() > 1 ? value.substring(value.length() - 1, 1) : value);
         return this;
     }
 
@@ -1897,7 +2012,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue firstChars(final int number) {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.length() < number ? value : value.substring(0, number);
+        updateValue(value.length() < number ? value : value.substring(0, number));
         return this;
     }
 
@@ -1909,7 +2024,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue lastChars(final int number) {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.length() < number ? value : value.substring(number + 1);
+        updateValue(value.length() < number ? value : value.substring(number + 1));
         return this;
     }
 
@@ -1921,10 +2036,10 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
     public @NotNull MutableStringValue toTitleCase() {
         checkArgumentNotNullOrEmpty(value, cannotBeNullOrEmpty("value"));
         final var words = value.trim().split(SPACE);
-        value = Arrays.stream(words)
+        updateValue(Arrays.stream(words)
                 .map(word -> Character.toUpperCase(word.charAt(0)) + word.substring(1) + ' ')
                 .collect(Collectors.joining())
-                .trim();
+                .trim());
         return this;
     }
 
@@ -2053,7 +2168,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
         if (value.charAt(0) == wrapChar && value.charAt(value.length() - 1) == wrapChar) {
             final int startIndex = 0;
             final int endIndex = value.length() - 1;
-            value = value.substring(startIndex + 1, endIndex);
+            updateValue(value.substring(startIndex + 1, endIndex));
         }
 
         return this;
@@ -2066,9 +2181,9 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue uppercaseFirst() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.length() > 1
+        updateValue(value.length() > 1
                 ? value.substring(0, 1).toUpperCase(Locale.getDefault()) + value.substring(1)
-                : value.toUpperCase(Locale.getDefault());
+                : value.toUpperCase(Locale.getDefault()));
         return this;
     }
 
@@ -2081,9 +2196,9 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
     public @NotNull MutableStringValue uppercaseFirst(final Locale locale) {
         checkArgumentNotNull(value, cannotBeNull("value"));
         checkArgumentNotNull(locale, LOCALE_CANNOT_BE_NULL);
-        value = value.length() > 1
+        updateValue(value.length() > 1
                 ? value.substring(0, 1).toUpperCase(locale) + value.substring(1)
-                : value.toUpperCase(locale);
+                : value.toUpperCase(locale));
         return this;
     }
 
@@ -2094,9 +2209,9 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      */
     public @NotNull MutableStringValue lowercaseFirst() {
         checkArgumentNotNull(value, cannotBeNull("value"));
-        value = value.length() > 1
+        updateValue(value.length() > 1
                 ? value.substring(0, 1).toLowerCase(Locale.getDefault()) + value.substring(1)
-                : value.toLowerCase(Locale.getDefault());
+                : value.toLowerCase(Locale.getDefault()));
         return this;
     }
 
@@ -2110,9 +2225,9 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
     public @NotNull MutableStringValue lowercaseFirst(final Locale locale) {
         checkArgumentNotNull(value, cannotBeNull("value"));
         checkArgumentNotNull(locale, LOCALE_CANNOT_BE_NULL);
-        value = value.length() > 1
+        updateValue(value.length() > 1
                 ? value.substring(0, 1).toLowerCase(locale) + value.substring(1)
-                : value.toLowerCase(locale);
+                : value.toLowerCase(locale));
         return this;
     }
 
@@ -2211,7 +2326,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#stripIndent()
      */
     public @NotNull MutableStringValue stripIndent() {
-        value = value.stripIndent();
+        updateValue(value.stripIndent());
         return this;
     }
 
@@ -2296,7 +2411,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#translateEscapes()
      */
     public @NotNull MutableStringValue translateEscapes() {
-        value = value.translateEscapes();
+        updateValue(value.translateEscapes());
         return this;
     }
 
@@ -2388,7 +2503,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
     public @NotNull MutableStringValue strip(final String stripChars) {
         if (value.isEmpty()) return MutableStringValue.EMPTY();
         final String newValue = stripStart(value, stripChars);
-        value = stripEnd(newValue, stripChars);
+        updateValue(stripEnd(newValue, stripChars));
         return this;
     }
 
@@ -2443,7 +2558,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#formatted(Object...)
      */
     public @NotNull MutableStringValue formatted(final Object... args) {
-        value = value.formatted(args);
+        updateValue(value.formatted(args));
         return this;
     }
 
@@ -2461,7 +2576,7 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
      * @see String#repeat(int)
      */
     public @NotNull MutableStringValue repeat(final int count) {
-        value = value.repeat(count);
+        updateValue(value.repeat(count));
         return this;
     }
 
@@ -2842,14 +2957,14 @@ public final class MutableStringValue extends ObservableValue<String, MutableStr
     }
 
     /**
-     * Sets the value.
+     * Sets the value and notifies the listeners if it changed.
      * @param value the value to store
      * @return this instance
      */
     //TODO: Figure out if this override is necessary
     @Override
     public MutableStringValue set(final String value) {
-        this.value = value;
+        updateValue(value);
         return this;
     }
 
@@ -23,15 +23,24 @@ package com.jwcomptech.commons.values;
  */
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
 
-import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeListenerProxy;
-import java.beans.PropertyChangeSupport;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.List;
+import java.util.concurrent.Executor;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
 
 /**
  * Provides mutable access to a {@link Number}.
+ * <p>
+ * Implementations store the value as a primitive, it is only boxed when it is returned
+ * as its wrapper type or passed to registered listeners.
  *
  * @param <T> the type to set and get
  * @param <V> the value of the object that implements
@@ -48,82 +57,74 @@ import java.util.List;
 @SuppressWarnings({"ClassWithTooManyMethods", "unused"})
 public abstract sealed class NumberValue<T extends Number, V extends NumberValue<T, V>>
         extends Number implements Value<T, V>
-        permits DoubleValue, FloatValue, IntegerValue, LongValue {
-    protected T value;
-    @SuppressWarnings("FieldNotUsedInToString")
-    protected PropertyChangeSupport listeners;
-
+        permits AtomicIntegerValue, AtomicLongValue, DoubleValue, FloatValue, IntegerValue, LongValue,
+                StripedLongValue {
     @Serial
     private static final long serialVersionUID = -6581876828020928948L;
 
-    public NumberValue(final T value) {
-        this.value = value;
-    }
+    private static final VarHandle LISTENERS;
 
-    protected void setListenersTarget(final V target) {
-        this.listeners = new PropertyChangeSupport(target);
+    static {
+        try {
+            LISTENERS = MethodHandles.lookup().findVarHandle(NumberValue.class, "listeners", ChangeListener[].class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
     }
 
+    /** Replaced as a whole on every change, a value without listeners shares {@link ChangeListeners#NONE}. */
+    @SuppressWarnings("FieldNotUsedInToString")
+    private transient volatile ChangeListener<?>[] listeners = ChangeListeners.NONE;
+    /** Set while notifications are delivered asynchronously. */
+    @SuppressWarnings("FieldNotUsedInToString")
+    private transient volatile AsyncDispatcher dispatcher;
+
+    protected NumberValue() { }
+
     /**
-     * Add a PropertyChangeListener to the listener list.
-     * The listener is registered for all properties.
+     * Adds a listener that is notified after every change of the value.
      * The same listener object may be added more than once, and will be called
      * as many times as it is added.
      * If {@code listener} is null, no exception is thrown and no action
      * is taken.
      *
-     * @param listener  The PropertyChangeListener to be added
-     */
-    public final void addPropertyChangeListener(final PropertyChangeListener listener) {
-        listeners.addPropertyChangeListener("value", listener);
+     * @param listener  The listener to be added
+     */
+    public final void addListener(final ChangeListener<? super T> listener) {
+        if (listener == null) return;
+        ChangeListener<?>[] current;
+        do {
+            current = listeners;
+        } while (!LISTENERS.compareAndSet(this, current, ChangeListeners.add(current, listener)));
     }
 
     /**
-     * Remove a PropertyChangeListener from the listener list.
-     * This removes a PropertyChangeListener that was registered
-     * for all properties.
-     * If {@code listener} was added more than once to the same event
-     * source, it will be notified one less time after being removed.
+     * Removes a listener.
+     * If {@code listener} was added more than once, it will be notified
+     * one less time after being removed.
      * If {@code listener} is null, or was never added, no exception is
      * thrown and no action is taken.
      *
-     * @param listener  The PropertyChangeListener to be removed
-     */
-    public final void removePropertyChangeListener(final PropertyChangeListener listener) {
-        listeners.removePropertyChangeListener("value", listener);
+     * @param listener  The listener to be removed
+     */
+    public final void removeListener(final ChangeListener<? super T> listener) {
+        if (listener == null) return;
+        ChangeListener<?>[] current;
+        ChangeListener<?>[] updated;
+        do {
+            current = listeners;
+            updated = ChangeListeners.remove(current, listener);
+        } while (current != updated && !LISTENERS.compareAndSet(this, current, updated));
     }
 
     /**
-     * Returns a List of all the listeners that were added to the
-     * PropertyChangeSupport object with addPropertyChangeListener().
-     * <p>
-     * If some listeners have been added with a named property, then
-     * the returned list will be a mixture of PropertyChangeListeners
-     * and {@code PropertyChangeListenerProxy}s. If the calling
-     * method is interested in distinguishing the listeners then it must
-     * test each element to see if it's a
-     * {@code PropertyChangeListenerProxy}, perform the cast, and examine
-     * the parameter.
-     *
-     * <pre>{@code
-     * List<PropertyChangeListener> listeners = bean.getPropertyChangeListeners();
-     * for (final PropertyChangeListener listener : listeners) {
-     *   if (listener instanceof PropertyChangeListenerProxy) {
-     *     PropertyChangeListenerProxy proxy = (PropertyChangeListenerProxy)listener;
-     *     if (proxy.getPropertyName().equals("foo")) {
-     *       // proxy is a PropertyChangeListener which was associated
-     *       // with the property named "foo"
-     *     }
-     *   }
-     * }
-     * }</pre>
+     * Returns all the listeners in the order they were added.
      *
-     * @see PropertyChangeListenerProxy
-     * @return all of the {@code PropertyChangeListeners} added or an
-     *         empty list if no listeners have been added
+     * @return all the listeners or an empty list if no listeners have been added
      */
-    public final List<PropertyChangeListener> getListeners() {
-        return List.of(listeners.getPropertyChangeListeners());
+    @SuppressWarnings("unchecked")
+    public final @NotNull @Unmodifiable List<ChangeListener<? super T>> getListeners() {
+        return List.of((ChangeListener<? super T>[]) listeners);
     }
 
     /**
@@ -131,9 +132,138 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
      * @return true if there are one or more listeners
      */
     public final boolean hasListeners() {
-        return listeners.hasListeners("value");
+        return listeners.length != 0;
+    }
+
+    /**
+     * Delivers the notifications of this value on virtual threads instead of the thread that changed it,
+     * see {@link #enableAsyncNotifications(Executor)}.
+     */
+    public final void enableAsyncNotifications() {
+        enableAsyncNotifications(AsyncDispatcher.defaultExecutor());
+    }
+
+    /**
+     * Delivers the notifications of this value on the executor instead of the thread that changed it,
+     * so slow listeners no longer hold up the code that changes the value.
+     * <p>
+     * At most one change is pending at a time, while the listeners are busy further changes are merged
+     * into a single change from the oldest undelivered value to the newest value. The listeners of a value
+     * are never called concurrently and exceptions they throw go to the uncaught exception handler of the
+     * executing thread.
+     * @param executor the executor to deliver the notifications on
+     * @throws IllegalArgumentException if the executor is null
+     */
+    public final void enableAsyncNotifications(final Executor executor) {
+        checkArgumentNotNull(executor, cannotBeNull("executor"));
+        dispatcher = new AsyncDispatcher(executor, this::fireNow);
     }
 
+    /**
+     * Delivers the notifications on the thread that changed the value again, a change that is
+     * already pending is still delivered asynchronously.
+     */
+    public final void disableAsyncNotifications() {
+        dispatcher = null;
+    }
+
+    /**
+     * Checks if the notifications of this value are delivered asynchronously.
+     * @return true if the notifications are delivered asynchronously
+     */
+    public final boolean hasAsyncNotifications() {
+        return dispatcher != null;
+    }
+
+    /**
+     * Opens a {@link ChangeBatch} on the current thread, until it is closed the listeners of this value
+     * and of every other value changed by this thread receive a single notification per value.
+     * @return the batch to close, typically with try-with-resources
+     */
+    public final @NotNull ChangeBatch batch() {
+        return ChangeBatch.begin();
+    }
+
+    /**
+     * Notifies the listeners of a change, does nothing if there are no listeners
+     * and holds the change back while the current thread has an open {@link ChangeBatch}.
+     * @param oldValue the value before the change
+     * @param newValue the value after the change
+     */
+    protected final void notifyListeners(final T oldValue, final T newValue) {
+        final ChangeListener<?>[] current = listeners;
+        if (current.length == 0 || (ChangeBatch.isOpen() && ChangeBatch.defer(this, oldValue, newValue))) return;
+        final AsyncDispatcher async = dispatcher;
+        if (async != null) async.submit(oldValue, newValue);
+        else ChangeListeners.fire(current, oldValue, newValue);
+    }
+
+    /**
+     * Notifies the listeners of a change of an int value, the values are only boxed
+     * for listeners that are not an {@link IntChangeListener}.
+     * The change is held back while the current thread has an open {@link ChangeBatch}.
+     * @param oldValue the value before the change
+     * @param newValue the value after the change
+     */
+    protected final void notifyListeners(final int oldValue, final int newValue) {
+        final ChangeListener<?>[] current = listeners;
+        if (current.length == 0 || (ChangeBatch.isOpen() && ChangeBatch.defer(this, oldValue, newValue))) return;
+        final AsyncDispatcher async = dispatcher;
+        if (async != null) async.submit(oldValue, newValue);
+        else ChangeListeners.fire(current, oldValue, newValue);
+    }
+
+    /**
+     * Notifies the listeners of a change of a long value, the values are only boxed
+     * for listeners that are not a {@link LongChangeListener}.
+     * The change is held back while the current thread has an open {@link ChangeBatch}.
+     * @param oldValue the value before the change
+     * @param newValue the value after the change
+     */
+    protected final void notifyListeners(final long oldValue, final long newValue) {
+        final ChangeListener<?>[] current = listeners;
+        if (current.length == 0 || (ChangeBatch.isOpen() && ChangeBatch.defer(this, oldValue, newValue))) return;
+        final AsyncDispatcher async = dispatcher;
+        if (async != null) async.submit(oldValue, newValue);
+        else ChangeListeners.fire(current, oldValue, newValue);
+    }
+
+    /**
+     * Notifies the listeners of a change of a double value, the values are only boxed
+     * for listeners that are not a {@link DoubleChangeListener}.
+     * The change is held back while the current thread has an open {@link ChangeBatch}.
+     * @param oldValue the value before the change
+     * @param newValue the value after the change
+     */
+    protected final void notifyListeners(final double oldValue, final double newValue) {
+        final ChangeListener<?>[] current = listeners;
+        if (current.length == 0 || (ChangeBatch.isOpen() && ChangeBatch.defer(this, oldValue, newValue))) return;
+        final AsyncDispatcher async = dispatcher;
+        if (async != null) async.submit(oldValue, newValue);
+        else ChangeListeners.fire(current, oldValue, newValue);
+    }
+
+    /**
+     * Delivers a change that was held back by a {@link ChangeBatch}.
+     * @param oldValue the value before the first change of the batch
+     * @param newValue the value after the last change of the batch
+     */
+    final void notifyBatched(final Object oldValue, final Object newValue) {
+        final AsyncDispatcher async = dispatcher;
+        if (async != null) async.submit(oldValue, newValue);
+        else fireNow(oldValue, newValue);
+    }
+
+    private void fireNow(final Object oldValue, final Object newValue) {
+        final ChangeListener<?>[] current = listeners;
+        if (current.length != 0) ChangeListeners.fire(current, oldValue, newValue);
+    }
+
+    @Serial
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        listeners = ChangeListeners.NONE;
+    }
 
     /**
      * Increments the value.
@@ -387,38 +517,6 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
      */
     public abstract boolean isGreaterThan(final Number number);
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public int intValue() {
-        return value.intValue();
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public long longValue() {
-        return value.longValue();
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public float floatValue() {
-        return value.floatValue();
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public double doubleValue() {
-        return value.doubleValue();
-    }
-
     @Override
     public abstract boolean equals(final Object obj);
 
@@ -426,9 +524,7 @@ public abstract sealed class NumberValue<T extends Number, V extends NumberValue
     public abstract int hashCode();
 
     @Override
-    public String toString() {
-        return value.toString();
-    }
+    public abstract String toString();
 
     public abstract int compareTo(final @NotNull V other);
 
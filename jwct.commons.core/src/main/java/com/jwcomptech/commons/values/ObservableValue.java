@@ -29,12 +29,18 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 
-import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeListenerProxy;
-import java.beans.PropertyChangeSupport;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
 
 /**
  * Provides mutable access to a non-numeric value.
@@ -47,7 +53,6 @@ import java.util.List;
 @SuppressWarnings("unused")
 public abstract class ObservableValue<T, V extends ObservableValue<T, V>> extends Validated implements Value<T, V> {
     protected T value;
-    protected PropertyChangeSupport listeners = new PropertyChangeSupport(this);
 
     /**
      * Required for serialization support.
@@ -57,75 +62,70 @@ public abstract class ObservableValue<T, V extends ObservableValue<T, V>> extend
     @Serial
     private static final long serialVersionUID = 5183297117938121441L;
 
-    public ObservableValue(final T value) {
-        this.value = value;
+    private static final VarHandle LISTENERS;
+
+    static {
+        try {
+            LISTENERS = MethodHandles.lookup().findVarHandle(ObservableValue.class, "listeners", ChangeListener[].class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
     }
 
-    //TODO: Figure out if this is necessary
-    protected void setListenersTarget(final V target) {
-        this.listeners = new PropertyChangeSupport(target);
+    /** Replaced as a whole on every change, a value without listeners shares {@link ChangeListeners#NONE}. */
+    private transient volatile ChangeListener<?>[] listeners = ChangeListeners.NONE;
+    /** Set while notifications are delivered asynchronously. */
+    @SuppressWarnings("FieldNotUsedInToString")
+    private transient volatile AsyncDispatcher dispatcher;
+
+    public ObservableValue(final T value) {
+        this.value = value;
     }
 
     /**
-     * Add a PropertyChangeListener to the listener list.
-     * The listener is registered for all properties.
+     * Adds a listener that is notified after every change of the value.
      * The same listener object may be added more than once, and will be called
      * as many times as it is added.
      * If {@code listener} is null, no exception is thrown and no action
      * is taken.
      *
-     * @param listener  The PropertyChangeListener to be added
+     * @param listener  The listener to be added
      */
-    public final void addPropertyChangeListener(final PropertyChangeListener listener) {
-        listeners.addPropertyChangeListener("value", listener);
+    public final void addListener(final ChangeListener<? super T> listener) {
+        if (listener == null) return;
+        ChangeListener<?>[] current;
+        do {
+            current = listeners;
+        } while (!LISTENERS.compareAndSet(this, current, ChangeListeners.add(current, listener)));
     }
 
     /**
-     * Remove a PropertyChangeListener from the listener list.
-     * This removes a PropertyChangeListener that was registered
-     * for all properties.
-     * If {@code listener} was added more than once to the same event
-     * source, it will be notified one less time after being removed.
+     * Removes a listener.
+     * If {@code listener} was added more than once, it will be notified
+     * one less time after being removed.
      * If {@code listener} is null, or was never added, no exception is
      * thrown and no action is taken.
      *
-     * @param listener  The PropertyChangeListener to be removed
+     * @param listener  The listener to be removed
      */
-    public final void removePropertyChangeListener(final PropertyChangeListener listener) {
-        listeners.removePropertyChangeListener("value", listener);
+    public final void removeListener(final ChangeListener<? super T> listener) {
+        if (listener == null) return;
+        ChangeListener<?>[] current;
+        ChangeListener<?>[] updated;
+        do {
+            current = listeners;
+            updated = ChangeListeners.remove(current, listener);
+        } while (current != updated && !LISTENERS.compareAndSet(this, current, updated));
     }
 
     /**
-     * Returns a List of all the listeners that were added to the
-     * PropertyChangeSupport object with addPropertyChangeListener().
-     * <p>
-     * If some listeners have been added with a named property, then
-     * the returned list will be a mixture of PropertyChangeListeners
-     * and {@code PropertyChangeListenerProxy}s. If the calling
-     * method is interested in distinguishing the listeners then it must
-     * test each element to see if it's a
-     * {@code PropertyChangeListenerProxy}, perform the cast, and examine
-     * the parameter.
-     *
-     * <pre>{@code
-     * List<PropertyChangeListener> listeners = bean.getPropertyChangeListeners();
-     * for (final PropertyChangeListener listener : listeners) {
-     *   if (listener instanceof PropertyChangeListenerProxy) {
-     *     PropertyChangeListenerProxy proxy = (PropertyChangeListenerProxy)listener;
-     *     if (proxy.getPropertyName().equals("foo")) {
-     *       // proxy is a PropertyChangeListener which was associated
-     *       // with the property named "foo"
-     *     }
-     *   }
-     * }
-     * }</pre>
+     * Returns all the listeners in the order they were added.
      *
-     * @see PropertyChangeListenerProxy
-     * @return all of the {@code PropertyChangeListeners} added or an
-     *         empty list if no listeners have been added
+     * @return all the listeners or an empty list if no listeners have been added
      */
-    public final @NotNull @Unmodifiable List<PropertyChangeListener> getListeners() {
-        return List.of(listeners.getPropertyChangeListeners());
+    @SuppressWarnings("unchecked")
+    public final @NotNull @Unmodifiable List<ChangeListener<? super T>> getListeners() {
+        return List.of((ChangeListener<? super T>[]) listeners);
     }
 
     /**
@@ -133,7 +133,92 @@ public abstract class ObservableValue<T, V extends ObservableValue<T, V>> extend
      * @return true if there are one or more listeners
      */
     public final boolean hasListeners() {
-        return listeners.hasListeners("value");
+        return listeners.length != 0;
+    }
+
+    /**
+     * Delivers the notifications of this value on virtual threads instead of the thread that changed it,
+     * see {@link #enableAsyncNotifications(Executor)}.
+     */
+    public final void enableAsyncNotifications() {
+        enableAsyncNotifications(AsyncDispatcher.defaultExecutor());
+    }
+
+    /**
+     * Delivers the notifications of this value on the executor instead of the thread that changed it,
+     * so slow listeners no longer hold up the code that changes the value.
+     * <p>
+     * At most one change is pending at a time, while the listeners are busy further changes are merged
+     * into a single change from the oldest undelivered value to the newest value. The listeners of a value
+     * are never called concurrently and exceptions they throw go to the uncaught exception handler of the
+     * executing thread.
+     * @param executor the executor to deliver the notifications on
+     * @throws IllegalArgumentException if the executor is null
+     */
+    public final void enableAsyncNotifications(final Executor executor) {
+        checkArgumentNotNull(executor, cannotBeNull("executor"));
+        dispatcher = new AsyncDispatcher(executor, this::fireNow);
+    }
+
+    /**
+     * Delivers the notifications on the thread that changed the value again, a change that is
+     * already pending is still delivered asynchronously.
+     */
+    public final void disableAsyncNotifications() {
+        dispatcher = null;
+    }
+
+    /**
+     * Checks if the notifications of this value are delivered asynchronously.
+     * @return true if the notifications are delivered asynchronously
+     */
+    public final boolean hasAsyncNotifications() {
+        return dispatcher != null;
+    }
+
+    /**
+     * Opens a {@link ChangeBatch} on the current thread, until it is closed the listeners of this value
+     * and of every other value changed by this thread receive a single notification per value.
+     * @return the batch to close, typically with try-with-resources
+     */
+    public final @NotNull ChangeBatch batch() {
+        return ChangeBatch.begin();
+    }
+
+    /**
+     * Notifies the listeners of a change, does nothing if there are no listeners
+     * and holds the change back while the current thread has an open {@link ChangeBatch}.
+     * @param oldValue the value before the change
+     * @param newValue the value after the change
+     */
+    protected final void notifyListeners(final T oldValue, final T newValue) {
+        final ChangeListener<?>[] current = listeners;
+        if (current.length == 0 || (ChangeBatch.isOpen() && ChangeBatch.defer(this, oldValue, newValue))) return;
+        final AsyncDispatcher async = dispatcher;
+        if (async != null) async.submit(oldValue, newValue);
+        else ChangeListeners.fire(current, oldValue, newValue);
+    }
+
+    /**
+     * Delivers a change that was held back by a {@link ChangeBatch}.
+     * @param oldValue the value before the first change of the batch
+     * @param newValue the value after the last change of the batch
+     */
+    final void notifyBatched(final Object oldValue, final Object newValue) {
+        final AsyncDispatcher async = dispatcher;
+        if (async != null) async.submit(oldValue, newValue);
+        else fireNow(oldValue, newValue);
+    }
+
+    private void fireNow(final Object oldValue, final Object newValue) {
+        final ChangeListener<?>[] current = listeners;
+        if (current.length != 0) ChangeListeners.fire(current, oldValue, newValue);
+    }
+
+    @Serial
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        listeners = ChangeListeners.NONE;
     }
 
     /**
@@ -145,17 +230,27 @@ public abstract class ObservableValue<T, V extends ObservableValue<T, V>> extend
     }
 
     /**
-     * Sets the value.
+     * Sets the value and notifies the listeners if it changed.
      * @param value the value to store
      * @return this instance
      */
     //TODO: Figure out if it is safe to not make this abstract
     public V set(final T value) {
-        this.value = value;
+        updateValue(value);
         //noinspection unchecked
         return (V) this;
     }
 
+    /**
+     * Replaces the value and notifies the listeners if it is not equal to the previous value.
+     * @param newValue the new value
+     */
+    protected final void updateValue(final T newValue) {
+        final T oldValue = value;
+        value = newValue;
+        if (hasListeners() && !Objects.equals(oldValue, newValue)) notifyListeners(oldValue, newValue);
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) return true;
@@ -164,14 +259,13 @@ public abstract class ObservableValue<T, V extends ObservableValue<T, V>> extend
 
         final ObservableValue<?, ?> that = (ObservableValue<?, ?>) obj;
 
-        return new EqualsBuilder().append(value, that.value).append(listeners, that.listeners).isEquals();
+        return new EqualsBuilder().append(value, that.value).isEquals();
     }
 
     @Override
     public int hashCode() {
         return new HashCodeBuilder(17, 37)
                 .append(value)
-                .append(listeners)
                 .toHashCode();
     }
 
@@ -179,7 +273,7 @@ public abstract class ObservableValue<T, V extends ObservableValue<T, V>> extend
     public String toString() {
         return new ToStringBuilder(this)
                 .append("value", value)
-                .append("listeners", listeners)
+                .append("listeners", listeners.length)
                 .toString();
     }
 }
@@ -59,7 +59,18 @@ import static org.apache.commons.lang3.StringUtils.stripStart;
 public final class StringValue extends Validated
         implements ImmutableValue<String> {
     private final String value;
-    private static final Integer INDEX_NOT_FOUND = -1;
+    private static final int INDEX_NOT_FOUND = -1;
+    /**
+     * The case folded form of every Latin-1 character, two characters match ignoring case
+     * exactly when their folded forms are equal.
+     */
+    private static final char[] LATIN1_FOLD = new char[256];
+
+    static {
+        for (char c = 0; c < LATIN1_FOLD.length; c++) {
+            LATIN1_FOLD[c] = foldCase(c);
+        }
+    }
     /**
      * Required for serialization support.
      *
@@ -647,6 +658,17 @@ public final class StringValue extends Validated
         return IntegerValue.of(value.indexOf(ch));
     }
 
+    /**
+     * Returns the index of the first occurrence of the character.
+     * Unlike {@link #indexOf(char)} no object is allocated.
+     * @param ch a character (Unicode code point)
+     * @return the index of the first occurrence, or {@code -1} if the character does not occur
+     */
+    @Contract(pure = true)
+    public int indexOfInt(final char ch) {
+        return value.indexOf(ch);
+    }
+
     /**
      * Returns the index within this string of the first occurrence of the
      * specified character, starting the search at the specified index.
@@ -699,6 +721,18 @@ public final class StringValue extends Validated
         return IntegerValue.of(value.indexOf(ch, fromIndex));
     }
 
+    /**
+     * Returns the index of the first occurrence of the character at or after {@code fromIndex}.
+     * Unlike {@link #indexOf(char, int)} no object is allocated.
+     * @param ch a character (Unicode code point)
+     * @param fromIndex the index to start the search from
+     * @return the index of the first occurrence, or {@code -1} if the character does not occur
+     */
+    @Contract(pure = true)
+    public int indexOfInt(final char ch, final int fromIndex) {
+        return value.indexOf(ch, fromIndex);
+    }
+
     /**
      * Returns the index within the value of the first occurrence of the
      * specified character, starting the search at {@code beginIndex} and
@@ -741,6 +775,20 @@ public final class StringValue extends Validated
         return IntegerValue.of(value.indexOf(ch, beginIndex, endIndex));
     }
 
+    /**
+     * Returns the index of the first occurrence of the character between {@code beginIndex} and {@code endIndex}.
+     * Unlike {@link #indexOf(char, int, int)} no object is allocated.
+     * @param ch a character (Unicode code point)
+     * @param beginIndex the index to start the search from (included)
+     * @param endIndex the index to stop the search at (excluded)
+     * @return the index of the first occurrence, or {@code -1} if the character does not occur
+     * @throws StringIndexOutOfBoundsException if the range is not within the string
+     */
+    @Contract(pure = true)
+    public int indexOfInt(final char ch, final int beginIndex, final int endIndex) {
+        return value.indexOf(ch, beginIndex, endIndex);
+    }
+
     /**
      * Returns the index within this string of the first occurrence of the
      * specified substring.
@@ -759,6 +807,17 @@ public final class StringValue extends Validated
         return IntegerValue.of(value.indexOf(str));
     }
 
+    /**
+     * Returns the index of the first occurrence of the substring.
+     * Unlike {@link #indexOf(String)} no object is allocated.
+     * @param str the substring to search for
+     * @return the index of the first occurrence, or {@code -1} if there is no such occurrence
+     */
+    @Contract(pure = true)
+    public int indexOfInt(final String str) {
+        return value.indexOf(str);
+    }
+
     /**
      * Returns the index within this string of the first occurrence of the
      * specified substring, starting at the specified index.
@@ -791,6 +850,18 @@ public final class StringValue extends Validated
         return IntegerValue.of(value.indexOf(str, fromIndex));
     }
 
+    /**
+     * Returns the index of the first occurrence of the substring at or after {@code fromIndex}.
+     * Unlike {@link #indexOf(String, int)} no object is allocated.
+     * @param str the substring to search for
+     * @param fromIndex the index from which to start the search
+     * @return the index of the first occurrence, or {@code -1} if there is no such occurrence
+     */
+    @Contract(pure = true)
+    public int indexOfInt(final String str, final int fromIndex) {
+        return value.indexOf(str, fromIndex);
+    }
+
     /**
      * Returns the index of the first occurrence of the specified substring
      * within the specified index range of {@code this} string.
@@ -818,6 +889,20 @@ public final class StringValue extends Validated
         return IntegerValue.of(value.indexOf(str, beginIndex, endIndex));
     }
 
+    /**
+     * Returns the index of the first occurrence of the substring between {@code beginIndex} and {@code endIndex}.
+     * Unlike {@link #indexOf(String, int, int)} no object is allocated.
+     * @param str the substring to search for
+     * @param beginIndex the index to start the search from (included)
+     * @param endIndex the index to stop the search at (excluded)
+     * @return the index of the first occurrence, or {@code -1} if there is no such occurrence
+     * @throws StringIndexOutOfBoundsException if the range is not within the string
+     */
+    @Contract(pure = true)
+    public int indexOfInt(final String str, final int beginIndex, final int endIndex) {
+        return value.indexOf(str, beginIndex, endIndex);
+    }
+
     /**
      * Case in-sensitive find of the first index within athe value.
      *
@@ -870,28 +955,118 @@ public final class StringValue extends Validated
      * @return the first index of the search CharSequence (always &ge; startPos),
      *  -1 if no match or {@code null} string input
      */
-    @SuppressWarnings("MethodWithMultipleReturnPoints")
     public @NotNull IntegerValue indexOfIgnoreCase(final CharSequence searchStr, final int startPos) {
+        return IntegerValue.of(indexOfIgnoreCaseInt(searchStr, startPos));
+    }
+
+    /**
+     * Case in-sensitive find of the first index of the search CharSequence.
+     * Unlike {@link #indexOfIgnoreCase(CharSequence)} no object is allocated.
+     * @param searchStr  the CharSequence to find, may be null
+     * @return the first index of the search CharSequence,
+     *  -1 if no match or {@code null} string input
+     */
+    @Contract(pure = true)
+    public int indexOfIgnoreCaseInt(final CharSequence searchStr) {
+        return indexOfIgnoreCaseInt(searchStr, 0);
+    }
+
+    /**
+     * Case in-sensitive find of the first index of the search CharSequence from
+     * the specified position.
+     * Unlike {@link #indexOfIgnoreCase(CharSequence, int)} no object is allocated.
+     * @param searchStr  the CharSequence to find, may be null
+     * @param startPos  the start position, negative treated as zero
+     * @return the first index of the search CharSequence (always &ge; startPos),
+     *  -1 if no match or {@code null} string input
+     */
+    @Contract(pure = true)
+    @SuppressWarnings("MethodWithMultipleReturnPoints")
+    public int indexOfIgnoreCaseInt(final CharSequence searchStr, final int startPos) {
         int startPos_ = startPos;
         if (searchStr == null) {
-            return IntegerValue.of(INDEX_NOT_FOUND);
+            return INDEX_NOT_FOUND;
         }
         if (startPos_ < 0) {
             startPos_ = 0;
         }
         final int endLimit = value.length() - searchStr.length() + 1;
         if (startPos_ > endLimit) {
-            return IntegerValue.of(INDEX_NOT_FOUND);
+            return INDEX_NOT_FOUND;
         }
         if (searchStr.isEmpty()) {
-            return IntegerValue.of(startPos_);
+            return startPos_;
+        }
+        if (isLatin1(searchStr)) {
+            return indexOfIgnoreCaseLatin1(searchStr, startPos_, endLimit);
         }
         for (int i = startPos_; i < endLimit; i++) {
             if (regionMatches(value,true, i, searchStr, 0, searchStr.length())) {
-                return IntegerValue.of(i);
+                return i;
+            }
+        }
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Boyer-Moore-Horspool search for a Latin-1 search CharSequence, comparing the case folded
+     * characters so the result is the same as matching each position with {@code regionMatches}.
+     *
+     * @param searchStr  the CharSequence to find, only Latin-1 characters
+     * @param startPos  the start position, not negative
+     * @param endLimit  one past the last position a match can start at
+     * @return the first index of the search CharSequence, -1 if no match
+     */
+    private int indexOfIgnoreCaseLatin1(final CharSequence searchStr, final int startPos, final int endLimit) {
+        final int last = searchStr.length() - 1;
+        final char[] needle = new char[last + 1];
+        for (int i = 0; i <= last; i++) {
+            needle[i] = LATIN1_FOLD[searchStr.charAt(i)];
+        }
+        // Folded characters outside Latin-1 share a slot and skips are capped at 255,
+        // both only ever shorten a skip so the search stays exact
+        final byte[] skip = new byte[256];
+        Arrays.fill(skip, (byte) Math.min(last + 1, 255));
+        for (int i = 0; i < last; i++) {
+            skip[needle[i] & 0xFF] = (byte) Math.min(last - i, 255);
+        }
+        final char tail = needle[last];
+        int i = startPos;
+        while (i < endLimit) {
+            final char c = fold(value.charAt(i + last));
+            if (c == tail) {
+                int j = last - 1;
+                while (j >= 0 && fold(value.charAt(i + j)) == needle[j]) {
+                    j--;
+                }
+                if (j < 0) {
+                    return i;
+                }
+            }
+            i += skip[c & 0xFF] & 0xFF;
+        }
+        return INDEX_NOT_FOUND;
+    }
+
+    private static boolean isLatin1(final CharSequence cs) {
+        for (int i = 0; i < cs.length(); i++) {
+            if (cs.charAt(i) > 0xFF) {
+                return false;
             }
         }
-        return IntegerValue.of(INDEX_NOT_FOUND);
+        return true;
+    }
+
+    /**
+     * Case folds a character, characters outside Latin-1 can fold into it
+     * (such as the Kelvin sign or the dotless i) so they are folded too.
+     */
+    private static char fold(final char c) {
+        return c < LATIN1_FOLD.length ? LATIN1_FOLD[c] : foldCase(c);
+    }
+
+    private static char foldCase(final char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
     }
 
     /**
@@ -981,6 +1156,17 @@ public final class StringValue extends Validated
         return IntegerValue.of(value.lastIndexOf(ch));
     }
 
+    /**
+     * Returns the index of the last occurrence of the character.
+     * Unlike {@link #lastIndexOf(char)} no object is allocated.
+     * @param ch a character (Unicode code point)
+     * @return the index of the last occurrence, or {@code -1} if the character does not occur
+     */
+    @Contract(pure = true)
+    public int lastIndexOfInt(final char ch) {
+        return value.lastIndexOf(ch);
+    }
+
     /**
      * Returns the index within this string of the last occurrence of
      * the specified character, searching backward starting at the
@@ -1019,6 +1205,18 @@ public final class StringValue extends Validated
         return IntegerValue.of(value.lastIndexOf(ch, fromIndex));
     }
 
+    /**
+     * Returns the index of the last occurrence of the character at or before {@code fromIndex}.
+     * Unlike {@link #lastIndexOf(char, int)} no object is allocated.
+     * @param ch a character (Unicode code point)
+     * @param fromIndex the index to start the backward search from
+     * @return the index of the last occurrence, or {@code -1} if the character does not occur
+     */
+    @Contract(pure = true)
+    public int lastIndexOfInt(final char ch, final int fromIndex) {
+        return value.lastIndexOf(ch, fromIndex);
+    }
+
     /**
      * Returns the index within this string of the last occurrence of the
      * specified substring.  The last occurrence of the empty string ""
@@ -1038,6 +1236,17 @@ public final class StringValue extends Validated
         return IntegerValue.of(value.lastIndexOf(str));
     }
 
+    /**
+     * Returns the index of the last occurrence of the substring.
+     * Unlike {@link #lastIndexOf(String)} no object is allocated.
+     * @param str the substring to search for
+     * @return the index of the last occurrence, or {@code -1} if there is no such occurrence
+     */
+    @Contract(pure = true)
+    public int lastIndexOfInt(final String str) {
+        return value.lastIndexOf(str);
+    }
+
     /**
      * Returns the index within this string of the last occurrence of the
      * specified substring, searching backward starting at the specified index.
@@ -1059,6 +1268,18 @@ public final class StringValue extends Validated
         return IntegerValue.of(value.lastIndexOf(str, fromIndex));
     }
 
+    /**
+     * Returns the index of the last occurrence of the substring at or before {@code fromIndex}.
+     * Unlike {@link #lastIndexOf(String, int)} no object is allocated.
+     * @param str the substring to search for
+     * @param fromIndex the index to start the backward search from
+     * @return the index of the last occurrence, or {@code -1} if there is no such occurrence
+     */
+    @Contract(pure = true)
+    public int lastIndexOfInt(final String str, final int fromIndex) {
+        return value.lastIndexOf(str, fromIndex);
+    }
+
     /**
      * Returns a string that is a substring of this string. The
      * substring begins with the character at the specified index and
@@ -1464,22 +1685,22 @@ public final class StringValue extends Validated
             searchString_ = searchString_.toLowerCase(Locale.getDefault());
         }
         int start = 0;
-        IntegerValue end = ignoreCase ? indexOfIgnoreCase(searchString_, start) : indexOf(searchString_, start);
-        if (Objects.equals(INDEX_NOT_FOUND, end.get())) {
+        int end = ignoreCase ? indexOfIgnoreCaseInt(searchString_, start) : indexOfInt(searchString_, start);
+        if (end == INDEX_NOT_FOUND) {
             return this;
         }
         final int replLength = searchString_.length();
         int increase = Math.max(replacement.length() - replLength, 0);
         increase *= max < 0 ? 16 : Math.min(max, 64);
         final StringBuilder buf = new StringBuilder(value.length() + increase);
-        while (!Objects.equals(INDEX_NOT_FOUND, end.get())) {
-            buf.append(value).append(replacement);
-            start = end.get() + replLength;
+        while (end != INDEX_NOT_FOUND) {
+            buf.append(value, start, end).append(replacement);
+            start = end + replLength;
             //noinspection ValueOfIncrementOrDecrementUsed
             if (--max_ == 0) {
                 break;
             }
-            end = ignoreCase ? indexOfIgnoreCase(searchString_, start) : indexOf(searchString_, start);
+            end = ignoreCase ? indexOfIgnoreCaseInt(searchString_, start) : indexOfInt(searchString_, start);
         }
         buf.append(value, start, value.length());
         return StringValue.of(buf.toString());
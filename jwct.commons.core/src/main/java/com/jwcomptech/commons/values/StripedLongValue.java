@@ -0,0 +1,568 @@
+package com.jwcomptech.commons.values;
+
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serial;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongBinaryOperator;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.consts.Literals.cannotBeNullOrEmpty;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNullOrEmpty;
+
+/**
+ * Provides thread safe mutable access to a {@link Long} for counters that are updated by many threads.
+ * <p>
+ * The value is kept in a {@link LongAdder}, concurrent {@link #add(long)} and {@link #increment()} calls
+ * update separate cells instead of competing for a single variable so they scale with the number of cores.
+ * Reading the value with {@link #sum()} adds up the cells and is not an atomic snapshot, updates made
+ * while it runs may or may not be included. The same applies to every method that returns or compares
+ * the value, and multiplication and division are computed from such a snapshot.
+ * Unlike the other number values additions wrap around on overflow like {@link LongAdder}.
+ * Use {@link AtomicLongValue} if the value is read as often as it is written or has to be exact.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings({"ClassWithTooManyMethods", "unused"})
+public final class StripedLongValue extends NumberValue<Long, StripedLongValue> {
+    /**
+     * Required for serialization support.
+     *
+     * @see java.io.Serializable
+     */
+    @Serial
+    private static final long serialVersionUID = 5385049817392157530L;
+
+    private final LongAdder adder = new LongAdder();
+
+    private StripedLongValue(final long defaultValue) {
+        adder.add(defaultValue);
+    }
+
+    /** Creates a new StripedLongValue instance with the default value of 0. */
+    @Contract(" -> new")
+    public static @NotNull StripedLongValue of() {
+        return new StripedLongValue(0L);
+    }
+
+    /**
+     * Creates a new StripedLongValue instance with the specified default long value.
+     * @param defaultValue the value to set
+     */
+    @Contract("_ -> new")
+    public static @NotNull StripedLongValue of(final long defaultValue) {
+        return new StripedLongValue(defaultValue);
+    }
+
+    /**
+     * Creates a new StripedLongValue instance with the specified number value.
+     * @param defaultValue the value to set
+     * @throws IllegalArgumentException if specified default value is null
+     */
+    @Contract("_ -> new")
+    public static @NotNull StripedLongValue of(final Number defaultValue) {
+        checkArgumentNotNull(defaultValue, cannotBeNull("defaultValue"));
+        return new StripedLongValue(defaultValue.longValue());
+    }
+
+    /**
+     * Creates a new StripedLongValue instance with the specified default string value.
+     * @param defaultValue the value to set
+     * @throws IllegalArgumentException if specified default value is null or empty
+     */
+    @Contract("_ -> new")
+    public static @NotNull StripedLongValue of(final String defaultValue) {
+        checkArgumentNotNullOrEmpty(defaultValue, cannotBeNullOrEmpty("defaultValue"));
+        return new StripedLongValue(Long.parseLong(defaultValue));
+    }
+
+    /**
+     * Adds a listener that receives the values without boxing them.
+     * @param listener the listener to be added
+     * @see #addListener(ChangeListener)
+     */
+    public void addListener(final LongChangeListener listener) {
+        super.addListener(listener);
+    }
+
+    /** Adds the delta without reading the value unless there are listeners to notify. */
+    private void addDelta(final long delta) {
+        adder.add(delta);
+        if (hasListeners()) {
+            final long next = adder.sum();
+            fireChange(next - delta, next);
+        }
+    }
+
+    /** Applies the operation to a snapshot of the value and adds the difference, returns the snapshot. */
+    private long getAndApply(final LongBinaryOperator operation, final long operand) {
+        final long last = adder.sum();
+        final long next = operation.applyAsLong(last, operand);
+        adder.add(next - last);
+        fireChange(last, next);
+        return last;
+    }
+
+    private void fireChange(final long last, final long next) {
+        if (last != next) notifyListeners(last, next);
+    }
+
+    /**
+     * Returns the current sum of the value, concurrent updates made while the sum
+     * is calculated may not be included.
+     * @return the current sum
+     */
+    public long sum() {
+        return adder.sum();
+    }
+
+    /**
+     * Returns the current sum and resets the value to zero, updates made concurrently
+     * with this call may be lost.
+     * @return the sum before the reset
+     */
+    public long sumThenReset() {
+        final long last = adder.sumThenReset();
+        fireChange(last, 0L);
+        return last;
+    }
+
+    /**
+     * Resets the value to zero, this is only effective if there are no concurrent updates.
+     * @return this instance
+     */
+    public StripedLongValue reset() {
+        sumThenReset();
+        return this;
+    }
+
+    /**
+     * Adds a value to the value of this instance without boxing it.
+     *
+     * @param operand the value to add
+     * @return this instance
+     */
+    public StripedLongValue add(final long operand) {
+        addDelta(operand);
+        return this;
+    }
+
+    /**
+     * Increments the value.
+     * @return this instance
+     */
+    @Override
+    public StripedLongValue increment() {
+        addDelta(1L);
+        return this;
+    }
+
+    /**
+     * Increments this instance's value by 1 and returns a snapshot of the value after the increment.
+     *
+     * @return the value associated with the instance after it is incremented
+     */
+    @Override
+    public Long incrementAndGet() {
+        addDelta(1L);
+        return adder.sum();
+    }
+
+    /**
+     * Increments this instance's value by 1 and returns a snapshot of the value before the increment.
+     *
+     * @return the value associated with the instance before it was incremented
+     */
+    @Override
+    public Long getAndIncrement() {
+        final long last = adder.sum();
+        addDelta(1L);
+        return last;
+    }
+
+    /**
+     * Decrements the value.
+     * @return this instance
+     */
+    @Override
+    public StripedLongValue decrement() {
+        addDelta(-1L);
+        return this;
+    }
+
+    /**
+     * Decrements this instance's value by 1 and returns a snapshot of the value after the decrement.
+     *
+     * @return the value associated with the instance after it is decremented
+     */
+    @Override
+    public Long decrementAndGet() {
+        addDelta(-1L);
+        return adder.sum();
+    }
+
+    /**
+     * Decrements this instance's value by 1 and returns a snapshot of the value before the decrement.
+     *
+     * @return the value associated with the instance before it was decremented
+     */
+    @Override
+    public Long getAndDecrement() {
+        final long last = adder.sum();
+        addDelta(-1L);
+        return last;
+    }
+
+    /**
+     * Adds a value to the value of this instance.
+     *
+     * @param operand the value to add, not null
+     * @throws IllegalArgumentException if the object is null
+     * @return this instance
+     */
+    @Override
+    public StripedLongValue add(final @NotNull Number operand) {
+        checkArgumentNotNull(operand, cannotBeNull("operand"));
+        addDelta(operand.longValue());
+        return this;
+    }
+
+    /**
+     * Increments this instance's value by {@code operand} and returns a snapshot of the value after the addition.
+     *
+     * @param operand the quantity to add, not null
+     * @throws IllegalArgumentException if {@code operand} is null
+     * @return the value associated with this instance after adding the operand
+     */
+    @Override
+    public Long addAndGet(final @NotNull Number operand) {
+        add(operand);
+        return adder.sum();
+    }
+
+    /**
+     * Increments this instance's value by {@code operand} and returns a snapshot of the value before the addition.
+     *
+     * @param operand the quantity to add, not null
+     * @throws IllegalArgumentException if {@code operand} is null
+     * @return the value associated with this instance immediately before adding the operand
+     */
+    @Override
+    public Long getAndAdd(final @NotNull Number operand) {
+        checkArgumentNotNull(operand, cannotBeNull("operand"));
+        final long last = adder.sum();
+        addDelta(operand.longValue());
+        return last;
+    }
+
+    /**
+     * Subtracts a value from the value of this instance.
+     *
+     * @param operand  the value to subtract, not null
+     * @throws IllegalArgumentException if the object is null
+     * @return this instance
+     */
+    @Override
+    public StripedLongValue subtract(final @NotNull Number operand) {
+        checkArgumentNotNull(operand, cannotBeNull("operand"));
+        addDelta(-operand.longValue());
+        return this;
+    }
+
+    /**
+     * Decrements this instance's value by {@code operand} and returns a snapshot of the value after the subtraction.
+     *
+     * @param operand the quantity to subtract, not null
+     * @throws IllegalArgumentException if {@code operand} is null
+     * @return the value associated with this instance after subtracting the operand
+     */
+    @Override
+    public Long subtractAndGet(final @NotNull Number operand) {
+        subtract(operand);
+        return adder.sum();
+    }
+
+    /**
+     * Decrements this instance's value by {@code operand} and returns a snapshot of the value before the subtraction.
+     *
+     * @param operand the quantity to subtract, not null
+     * @throws IllegalArgumentException if {@code operand} is null
+     * @return the value associated with this instance immediately before subtracting the operand
+     */
+    @Override
+    public Long getAndSubtract(final @NotNull Number operand) {
+        checkArgumentNotNull(operand, cannotBeNull("operand"));
+        final long last = adder.sum();
+        addDelta(-operand.longValue());
+        return last;
+    }
+
+    /**
+     * Multiples a snapshot of the value of this instance by a value.
+     *
+     * @param operand  the value to multiply, not null
+     * @throws IllegalArgumentException if the object is null
+     * @throws ArithmeticException if the result overflows a long
+     * @return this instance
+     */
+    @Override
+    public StripedLongValue multiply(final @NotNull Number operand) {
+        checkArgumentNotNull(operand, cannotBeNull("operand"));
+        getAndApply(Math::multiplyExact, operand.longValue());
+        return this;
+    }
+
+    /**
+     * Multiplies a snapshot of this instance's value by {@code operand} and returns the value after the multiplication.
+     *
+     * @param operand the quantity to multiply, not null
+     * @throws IllegalArgumentException if {@code operand} is null
+     * @throws ArithmeticException if the result overflows a long
+     * @return the value associated with this instance after multiplying the operand
+     */
+    @Override
+    public Long multiplyAndGet(final @NotNull Number operand) {
+        checkArgumentNotNull(operand, cannotBeNull("operand"));
+        final long factor = operand.longValue();
+        return getAndApply(Math::multiplyExact, factor) * factor;
+    }
+
+    /**
+     * Multiplies a snapshot of this instance's value by {@code operand} and returns the value before the multiplication.
+     *
+     * @param operand the quantity to multiply, not null
+     * @throws IllegalArgumentException if {@code operand} is null
+     * @throws ArithmeticException if the result overflows a long
+     * @return the value associated with this instance immediately before multiplying the operand
+     */
+    @Override
+    public Long getAndMultiply(final @NotNull Number operand) {
+        checkArgumentNotNull(operand, cannotBeNull("operand"));
+        return getAndApply(Math::multiplyExact, operand.longValue());
+    }
+
+    /**
+     * Divides a snapshot of the value of this instance by a value.
+     *
+     * @param operand  the value to divide, not null
+     * @throws IllegalArgumentException if the object is null
+     * @return this instance
+     */
+    @Override
+    public StripedLongValue divide(final @NotNull Number operand) {
+        checkArgumentNotNull(operand, cannotBeNull("operand"));
+        getAndApply(Math::divideExact, operand.longValue());
+        return this;
+    }
+
+    /**
+     * Divides a snapshot of this instance's value by {@code operand} and returns the value after the division.
+     *
+     * @param operand the quantity to divide, not null
+     * @throws IllegalArgumentException if {@code operand} is null
+     * @return the value associated with this instance after dividing the operand
+     */
+    @Override
+    public Long divideAndGet(final @NotNull Number operand) {
+        checkArgumentNotNull(operand, cannotBeNull("operand"));
+        final long divisor = operand.longValue();
+        return Math.divideExact(getAndApply(Math::divideExact, divisor), divisor);
+    }
+
+    /**
+     * Divides a snapshot of this instance's value by {@code operand} and returns the value before the division.
+     *
+     * @param operand the quantity to divide, not null
+     * @throws IllegalArgumentException if {@code operand} is null
+     * @return the value associated with this instance immediately before dividing the operand
+     */
+    @Override
+    public Long getAndDivide(final @NotNull Number operand) {
+        checkArgumentNotNull(operand, cannotBeNull("operand"));
+        return getAndApply(Math::divideExact, operand.longValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isPositive() {
+        return adder.sum() > 0L;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNegative() {
+        return adder.sum() < 0L;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isZero() {
+        return adder.sum() == 0L;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEqualTo(final @NotNull Number number) {
+        return adder.sum() == number.longValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNotEqualTo(final @NotNull Number number) {
+        return adder.sum() != number.longValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLessThanOrEqualTo(final @NotNull Number number) {
+        return adder.sum() <= number.longValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isGreaterThanOrEqualTo(final @NotNull Number number) {
+        return adder.sum() >= number.longValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLessThan(final @NotNull Number number) {
+        return adder.sum() < number.longValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isGreaterThan(final @NotNull Number number) {
+        return adder.sum() > number.longValue();
+    }
+
+    @Override
+    public int compareTo(final @NotNull StripedLongValue other) {
+        return Long.compare(adder.sum(), other.sum());
+    }
+
+    @Override
+    public int compareTo(@NotNull final Long other) {
+        return Long.compare(adder.sum(), other);
+    }
+
+    @Override
+    public int compareTo(@NotNull final Value<Long, StripedLongValue> other) {
+        return this.compareTo(other.get());
+    }
+
+    /**
+     * Returns a snapshot of the value, the same as {@link #sum()}.
+     * @return the stored value
+     */
+    @Override
+    public Long get() {
+        return adder.sum();
+    }
+
+    /**
+     * Sets the value and notifies the listeners if it changed, this is only effective if there are no concurrent updates.
+     * @param value the value to store
+     * @return this instance
+     * @throws IllegalArgumentException if specified value is null
+     */
+    @Override
+    public StripedLongValue set(final Long value) {
+        checkArgumentNotNull(value, cannotBeNull("value"));
+        return set((Number) value);
+    }
+
+    /**
+     * Sets the value and notifies the listeners if it changed, this is only effective if there are no concurrent updates.
+     * @param value the value to store
+     * @return this instance
+     * @throws IllegalArgumentException if specified value is null
+     */
+    @Override
+    public StripedLongValue set(final Number value) {
+        checkArgumentNotNull(value, cannotBeNull("value"));
+        final long last = adder.sum();
+        adder.reset();
+        adder.add(value.longValue());
+        fireChange(last, value.longValue());
+        return this;
+    }
+
+    @Override
+    public int intValue() {
+        return adder.intValue();
+    }
+
+    @Override
+    public long longValue() {
+        return adder.sum();
+    }
+
+    @Override
+    public float floatValue() {
+        return adder.floatValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return adder.doubleValue();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof final StripedLongValue other && adder.sum() == other.sum();
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(adder.sum());
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(adder.sum());
+    }
+}
@@ -0,0 +1,165 @@
+package com.jwcomptech.commons.webapis;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.apache.commons.io.function.IOSupplier;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * A thread safe cache for web API responses with a time to live and a bounded size.
+ * <p>
+ * Entries expire after the time to live has passed since they were loaded, and once
+ * the maximum size is reached the least recently used entry is evicted.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the cached values
+ * @apiNote Values are loaded outside the cache lock, so concurrent lookups of the same
+ * missing key may both call the loader, in which case the last result is kept. Each entry is
+ * tagged with the generation it was loaded in and {@link #invalidateAll()} starts a new one,
+ * so a load that started before the cache was cleared is returned but not cached.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public final class ApiCache<K, V> {
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<K, Entry<V>> entries;
+    private long generation;
+
+    private record Entry<V>(V value, long expiresAt, long generation) { }
+
+    /**
+     * Creates a new ApiCache.
+     * @param ttl the time an entry is kept after it was loaded
+     * @param maxSize the maximum number of entries
+     * @throws IllegalArgumentException if ttl is null or not positive or if maxSize is less than 1
+     */
+    public ApiCache(final Duration ttl, final int maxSize) {
+        checkArgumentNotNull(ttl, cannotBeNull("ttl"));
+        checkArgument(!ttl.isNegative() && !ttl.isZero(), "TTL must be positive!");
+        checkArgument(maxSize > 0, "Max size must be greater than 0!");
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+                return size() > ApiCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for the specified key, loading it if it is missing or expired.
+     * @param key the key to lookup
+     * @param loader the code used to load the value
+     * @return the cached or loaded value
+     * @throws IOException if the loader fails
+     */
+    public V get(final @NotNull K key, final @NotNull IOSupplier<V> loader) throws IOException {
+        final long loadGeneration;
+        synchronized (entries) {
+            final Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (entry.generation() == generation && System.nanoTime() - entry.expiresAt() < 0) {
+                    return entry.value();
+                }
+                entries.remove(key);
+            }
+            loadGeneration = generation;
+        }
+
+        final V value = loader.get();
+        if (value != null) {
+            synchronized (entries) {
+                if (loadGeneration == generation) {
+                    entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos, loadGeneration));
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Removes the value for the specified key.
+     * @param key the key to remove
+     */
+    public void invalidate(final K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /** Removes all values and drops the results of any loads that are still running. */
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached values including any that have expired but not yet been removed.
+     * @return the number of cached values
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns the time an entry is kept after it was loaded.
+     * @return the time to live
+     */
+    public Duration getTtl() {
+        return Duration.ofNanos(ttlNanos);
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     * @return the maximum number of entries
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("ttl", getTtl())
+                .append("maxSize", maxSize)
+                .append("size", size())
+                .toString();
+    }
+}
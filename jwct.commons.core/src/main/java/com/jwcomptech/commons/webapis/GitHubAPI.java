@@ -23,26 +23,113 @@ package com.jwcomptech.commons.webapis;
  */
 
 import com.jwcomptech.commons.utils.SingletonManager;
-import lombok.Data;
+import com.jwcomptech.commons.webapis.generators.GitHubServiceGenerator;
+import com.jwcomptech.commons.webapis.models.GitHubRepository;
+import com.jwcomptech.commons.webapis.models.GitHubUser;
+import com.jwcomptech.commons.webapis.services.GitHubOrganizationService;
+import com.jwcomptech.commons.webapis.services.GitHubUserService;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import okhttp3.HttpUrl;
+import org.apache.commons.io.function.IOFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.kohsuke.github.*;
+import org.kohsuke.github.extras.okhttp3.OkHttpGitHubConnector;
+import retrofit2.Call;
+import retrofit2.Response;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-@Data
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+
+/**
+ * Provides access to the GitHub API.
+ * <p>
+ * Users, organizations and repositories are cached for {@link #DEFAULT_CACHE_TTL}
+ * with at most {@link #DEFAULT_CACHE_SIZE} entries per cache, and all caches are
+ * cleared on login and logout once the new identity is in use, so lookups still in flight
+ * for the previous identity are not cached. The bulk async methods fetch on virtual threads
+ * with at most {@link #DEFAULT_MAX_CONCURRENT_REQUESTS} requests in flight.
+ *
+ * @since 0.0.1
+ */
+@EqualsAndHashCode
+@ToString
 @SuppressWarnings("unused")
 public final class GitHubAPI {
-    //private final GitHubUserService gitHubUserService;
-    private GitHub gitHub;
+    /** The default time a user, organization or repository is cached for. */
+    public static final Duration DEFAULT_CACHE_TTL = Duration.ofMinutes(5);
+    /** The default maximum number of entries in each cache. */
+    public static final int DEFAULT_CACHE_SIZE = 256;
+    /** The default maximum number of requests in flight for the bulk async methods. */
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 8;
+
+    /** The maximum number of items per page supported by the GitHub API. */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String MYSELF_KEY = "";
+    private static final ExecutorService asyncExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private static final Pattern NEXT_LINK_PATTERN = Pattern.compile("<([^>]+)>\\s*;\\s*rel=\"next\"");
+    private static final Pattern LAST_LINK_PATTERN = Pattern.compile("<([^>]+)>\\s*;\\s*rel=\"last\"");
+
+    @Getter
+    private volatile GitHubUserService gitHubUserService;
+    @Getter
+    private volatile GitHubOrganizationService gitHubOrganizationService;
+    @Getter
+    private volatile GitHub gitHub;
+    /** The rate limiter enforced by the connector of the current identity. */
+    @Getter
+    private volatile GitHubRateLimiter rateLimiter;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final ApiCache<String, GHUser> userCache = new ApiCache<>(DEFAULT_CACHE_TTL, DEFAULT_CACHE_SIZE);
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final ApiCache<String, GHOrganization> organizationCache = new ApiCache<>(DEFAULT_CACHE_TTL, DEFAULT_CACHE_SIZE);
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final ApiCache<String, GHRepository> repositoryCache = new ApiCache<>(DEFAULT_CACHE_TTL, DEFAULT_CACHE_SIZE);
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final ApiCache<String, Map<String, GHRepository>> repositoryListCache
+            = new ApiCache<>(DEFAULT_CACHE_TTL, DEFAULT_CACHE_SIZE);
 
     public static GitHubAPI getInstance() {
         return SingletonManager.getInstance(GitHubAPI.class, GitHubAPI::new);
     }
 
     private GitHubAPI() {
-        //this.gitHubUserService = GitHubServiceGenerator.createUserService();
+        gitHubUserService = GitHubServiceGenerator.createUserService();
+        gitHubOrganizationService = GitHubServiceGenerator.createOrganizationService();
         try {
-            gitHub = GitHub.connectAnonymously();
+            gitHub = connect(new GitHubBuilder(), GitHubServiceGenerator.getRateLimiter());
         } catch (final IOException e) {
             throw new RuntimeException(e);
         }
@@ -50,15 +137,16 @@ public final class GitHubAPI {
 
     //My username is "jlwisedev"
     public GHUser getUser(final String username) throws IOException {
-        return gitHub.getUser(username);
+        return userCache.get(cacheKey(username), () -> gitHub.getUser(username));
     }
 
     public GHRepository getRepository(final String name) throws IOException {
-        return gitHub.getRepository(name);
+        return repositoryCache.get(cacheKey(name), () -> gitHub.getRepository(name));
     }
 
     public Map<String, GHRepository> getMyRepositories() throws IOException {
-        return gitHub.getMyself().getRepositories();
+        return repositoryListCache.get(MYSELF_KEY,
+                () -> Collections.unmodifiableMap(gitHub.getMyself().getRepositories()));
     }
 
     public GHPersonSet<GHOrganization> getMyOrganizations() throws IOException {
@@ -66,43 +154,329 @@ public final class GitHubAPI {
     }
 
     public GHOrganization getOrganization(final String name) throws IOException {
-        return gitHub.getOrganization(name);
+        return organizationCache.get(cacheKey(name), () -> gitHub.getOrganization(name));
     }
 
     public Map<String, GHRepository> getOrganizationRepositories(final String org) throws IOException {
-        return gitHub.getOrganization(org).getRepositories();
+        return repositoryListCache.get(cacheKey(org) + '/',
+                () -> Collections.unmodifiableMap(getOrganization(org).getRepositories()));
     }
 
     public GHRepository getOrganizationRepository(final String org, final String name) throws IOException {
-        return gitHub.getOrganization(org).getRepository(name);
+        return repositoryCache.get(cacheKey(org + '/' + name), () -> getOrganization(org).getRepository(name));
+    }
+
+    /**
+     * Returns a lazy stream of the repositories of the specified organization that
+     * fetches the next {@link PrefetchingPageIterator#DEFAULT_PREFETCH_DEPTH} pages
+     * concurrently while the current page is consumed.
+     * @apiNote The stream should be closed if it is not fully consumed to cancel the prefetched pages.
+     * @param org the organization name
+     * @return a lazy stream of repositories
+     */
+    public Stream<GitHubRepository> streamOrganizationRepositories(final String org) {
+        return streamOrganizationRepositories(org, MAX_PAGE_SIZE, PrefetchingPageIterator.DEFAULT_PREFETCH_DEPTH);
+    }
+
+    /**
+     * Returns a lazy stream of the repositories of the specified organization that
+     * fetches the next pages concurrently while the current page is consumed.
+     * @apiNote The stream should be closed if it is not fully consumed to cancel the prefetched pages.
+     * @param org the organization name
+     * @param perPage the number of repositories per page, max 100
+     * @param prefetchDepth the number of pages fetched ahead of the current page
+     * @return a lazy stream of repositories
+     * @throws IllegalArgumentException if prefetchDepth is negative
+     */
+    public Stream<GitHubRepository> streamOrganizationRepositories(final String org,
+                                                                   final int perPage,
+                                                                   final int prefetchDepth) {
+        final GitHubOrganizationService service = gitHubOrganizationService;
+        return new PrefetchingPageIterator<GitHubRepository>(page -> {
+            final Response<List<GitHubRepository>> response
+                    = executeCall(service.getRepositories(org, perPage, page));
+            final List<GitHubRepository> repositories = response.body();
+            return new PrefetchingPageIterator.Page<>(repositories == null ? List.of() : repositories,
+                    parseLastPage(response.headers().get("Link"), page));
+        }, prefetchDepth, asyncExecutor).stream();
+    }
+
+    /**
+     * Fetches the specified users concurrently.
+     * @param usernames the usernames to fetch
+     * @return a future completing with the users in the order requested
+     */
+    public CompletableFuture<Map<String, GHUser>> getUsersAsync(final Collection<String> usernames) {
+        return getUsersAsync(usernames, DEFAULT_MAX_CONCURRENT_REQUESTS);
+    }
+
+    /**
+     * Fetches the specified users concurrently.
+     * @param usernames the usernames to fetch
+     * @param maxConcurrentRequests the maximum number of requests in flight
+     * @return a future completing with the users in the order requested
+     * @throws IllegalArgumentException if maxConcurrentRequests is less than 1
+     */
+    public CompletableFuture<Map<String, GHUser>> getUsersAsync(final Collection<String> usernames,
+                                                                final int maxConcurrentRequests) {
+        return fetchAllAsync(usernames, maxConcurrentRequests, this::getUser);
     }
 
+    /**
+     * Fetches the specified repositories concurrently.
+     * @param names the full names of the repositories to fetch, e.g. "owner/repo"
+     * @return a future completing with the repositories in the order requested
+     */
+    public CompletableFuture<Map<String, GHRepository>> getRepositoriesAsync(final Collection<String> names) {
+        return getRepositoriesAsync(names, DEFAULT_MAX_CONCURRENT_REQUESTS);
+    }
+
+    /**
+     * Fetches the specified repositories concurrently.
+     * @param names the full names of the repositories to fetch, e.g. "owner/repo"
+     * @param maxConcurrentRequests the maximum number of requests in flight
+     * @return a future completing with the repositories in the order requested
+     * @throws IllegalArgumentException if maxConcurrentRequests is less than 1
+     */
+    public CompletableFuture<Map<String, GHRepository>> getRepositoriesAsync(final Collection<String> names,
+                                                                             final int maxConcurrentRequests) {
+        return fetchAllAsync(names, maxConcurrentRequests, this::getRepository);
+    }
+
+    /**
+     * Fetches the repositories of the specified organizations concurrently.
+     * @param orgs the organizations to fetch
+     * @return a future completing with the repositories of each organization in the order requested
+     */
+    public CompletableFuture<Map<String, Map<String, GHRepository>>> getOrganizationRepositoriesAsync(
+            final Collection<String> orgs) {
+        return getOrganizationRepositoriesAsync(orgs, DEFAULT_MAX_CONCURRENT_REQUESTS);
+    }
+
+    /**
+     * Fetches the repositories of the specified organizations concurrently.
+     * @param orgs the organizations to fetch
+     * @param maxConcurrentRequests the maximum number of requests in flight
+     * @return a future completing with the repositories of each organization in the order requested
+     * @throws IllegalArgumentException if maxConcurrentRequests is less than 1
+     */
+    public CompletableFuture<Map<String, Map<String, GHRepository>>> getOrganizationRepositoriesAsync(
+            final Collection<String> orgs, final int maxConcurrentRequests) {
+        return fetchAllAsync(orgs, maxConcurrentRequests, this::getOrganizationRepositories);
+    }
+
+    /**
+     * Sets the GitHub client and clears the caches.
+     * @param gitHub the client to set
+     * @deprecated Use {@link #login()}, {@link #login(String, String)} or {@link #logout()},
+     * a client set here is not governed by the rate limiter returned by {@link #getRateLimiter()}.
+     */
+    @Deprecated
+    public void setGitHub(final GitHub gitHub) {
+        this.gitHub = gitHub;
+        clearCache();
+    }
+
+    /** Clears all cached users, organizations and repositories. */
+    public void clearCache() {
+        userCache.invalidateAll();
+        organizationCache.invalidateAll();
+        repositoryCache.invalidateAll();
+        repositoryListCache.invalidateAll();
+    }
+
+    /**
+     * Logs in with the credentials from the property file or, if there is none, the environment.
+     * @apiNote The token is not known to this class so the login is governed by its own rate limiter
+     * that is not shared with the Retrofit services, which stay anonymous.
+     * @return this instance
+     * @throws IOException if the connection fails
+     */
     public GitHubAPI login() throws IOException {
-        gitHub = GitHub.connect();
+        GitHubBuilder builder;
+        try {
+            builder = GitHubBuilder.fromPropertyFile();
+        } catch (final FileNotFoundException e) {
+            builder = GitHubBuilder.fromEnvironment();
+        }
+        gitHub = connect(builder, new GitHubRateLimiter());
+        clearCache();
         return this;
     }
 
+    /**
+     * Logs in with the specified OAuth access token.
+     * @apiNote The login shares the rate limiter of the token with the Retrofit services
+     * so the budget of the identity is tracked in one place.
+     * @param login the login of the user
+     * @param oauthAccessToken the OAuth access token
+     * @return this instance
+     * @throws IOException if the connection fails
+     */
     public GitHubAPI login(final String login, final String oauthAccessToken) throws IOException {
-        gitHub = GitHub.connect(login, oauthAccessToken);
+        final String token = "token " + oauthAccessToken;
+        gitHub = connect(new GitHubBuilder().withOAuthToken(oauthAccessToken, login),
+                GitHubServiceGenerator.getRateLimiter(token));
+        gitHubUserService = GitHubServiceGenerator.createUserService(token);
+        gitHubOrganizationService = GitHubServiceGenerator.createOrganizationService(token);
+        clearCache();
         return this;
     }
 
     public GitHubAPI logout() throws IOException {
-        gitHub = GitHub.connectAnonymously();
+        gitHub = connect(new GitHubBuilder(), GitHubServiceGenerator.getRateLimiter());
+        gitHubUserService = GitHubServiceGenerator.createUserService();
+        gitHubOrganizationService = GitHubServiceGenerator.createOrganizationService();
+        clearCache();
         return this;
     }
 
-    //    @GET("/users")
-//    public List<GitHubUser> getUsers(final int per_page, final int page) throws IOException {
-//        return gitHubUserService.getUsers(per_page, page).execute().body();
-//    }
-//
-//    @GET("/users/{username}")
-//    public GitHubUser getUser(final String username) throws IOException {
-//        return gitHubUserService.getUser(username).execute().body();
-//    }
-//
-//    public GitHubUserService getGitHubUserService() {
-//        return gitHubUserService;
-//    }
+    /**
+     * Returns the number of requests remaining in the current rate limit window.
+     * @return the remaining budget or -1 if no request has been made yet
+     */
+    public int getRemainingRateLimit() {
+        return rateLimiter.getRemaining();
+    }
+
+    /**
+     * Connects using the shared GitHub client governed by the specified rate limiter.
+     * @apiNote GitHub tracks the budget per identity so the limiter must be the one of the identity.
+     * The caches must be cleared after the returned client and the services have been switched,
+     * which drops any lookup that started with the previous identity.
+     */
+    private GitHub connect(final @NotNull GitHubBuilder builder,
+                           final @NotNull GitHubRateLimiter limiter) throws IOException {
+        rateLimiter = limiter;
+        return builder.withConnector(new OkHttpGitHubConnector(GitHubServiceGenerator.createHttpClient(limiter)))
+                .build();
+    }
+
+    private static @NotNull String cacheKey(final @NotNull String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Runs the fetcher for each key on a virtual thread with at most
+     * the specified number of fetches running at the same time.
+     */
+    private static <V> @NotNull CompletableFuture<Map<String, V>> fetchAllAsync(
+            final @NotNull Collection<String> keys,
+            final int maxConcurrentRequests,
+            final IOFunction<String, V> fetcher) {
+        checkArgument(maxConcurrentRequests > 0, "Max concurrent requests must be greater than 0!");
+        final Semaphore permits = new Semaphore(maxConcurrentRequests);
+        final Map<String, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        for (final String key : keys) {
+            futures.computeIfAbsent(key, k -> CompletableFuture.supplyAsync(() -> {
+                try {
+                    permits.acquire();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CompletionException(e);
+                }
+                try {
+                    return fetcher.apply(k);
+                } catch (final IOException e) {
+                    throw new CompletionException(e);
+                } finally {
+                    permits.release();
+                }
+            }, asyncExecutor));
+        }
+
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    final Map<String, V> results = new LinkedHashMap<>();
+                    futures.forEach((key, future) -> results.put(key, future.join()));
+                    return results;
+                });
+    }
+
+    /**
+     * Returns a page of users in the order they signed up.
+     * @param perPage the number of users per page, max 100
+     * @param since only users with an id greater than this id are returned
+     * @return the page of users
+     * @throws IOException if the request fails
+     */
+    public List<GitHubUser> getUsers(final int perPage, final long since) throws IOException {
+        final List<GitHubUser> users = executeCall(gitHubUserService.getUsers(perPage, since)).body();
+        return users == null ? List.of() : users;
+    }
+
+    /**
+     * Returns a lazy stream of all users in the order they signed up.
+     * @apiNote Pages are only requested as the stream is consumed, so short-circuiting
+     * operations such as {@link Stream#limit(long)} stop further requests.
+     * Request failures are thrown as {@link UncheckedIOException}.
+     * @param perPage the number of users per page, max 100
+     * @return a lazy stream of users
+     */
+    public Stream<GitHubUser> streamUsers(final int perPage) {
+        return streamPages(gitHubUserService.getUsers(perPage, 0), gitHubUserService::getUsers);
+    }
+
+    private static <T> @NotNull Stream<T> streamPages(final Call<List<T>> firstPage,
+                                                      final Function<String, Call<List<T>>> pageCallFactory) {
+        final Iterator<List<T>> pages = new Iterator<>() {
+            private Call<List<T>> nextCall = firstPage;
+
+            @Override
+            public boolean hasNext() {
+                return nextCall != null;
+            }
+
+            @Override
+            public List<T> next() {
+                if (nextCall == null) throw new NoSuchElementException();
+                final Response<List<T>> response;
+                try {
+                    response = executeCall(nextCall);
+                } catch (final IOException e) {
+                    nextCall = null;
+                    throw new UncheckedIOException(e);
+                }
+                final String nextUrl = parseNextLink(response.headers().get("Link"));
+                nextCall = nextUrl == null ? null : pageCallFactory.apply(nextUrl);
+                return response.body() == null ? List.of() : response.body();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED), false)
+                .flatMap(List::stream);
+    }
+
+    private static <T> @NotNull Response<T> executeCall(final @NotNull Call<T> call) throws IOException {
+        final Response<T> response = call.execute();
+        if (!response.isSuccessful()) {
+            throw new IOException("GitHub API Error %d: %s".formatted(response.code(), response.message()));
+        }
+        return response;
+    }
+
+    /**
+     * Returns the URL with the relation "next" from a {@code Link} header or null if there is none.
+     */
+    static @Nullable String parseNextLink(final String linkHeader) {
+        if (linkHeader == null) return null;
+        final Matcher matcher = NEXT_LINK_PATTERN.matcher(linkHeader);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * Returns the page number of the URL with the relation "last" from a {@code Link} header,
+     * if there is none the current page is the last page.
+     */
+    static int parseLastPage(final String linkHeader, final int currentPage) {
+        if (linkHeader == null) return currentPage;
+        final Matcher matcher = LAST_LINK_PATTERN.matcher(linkHeader);
+        if (!matcher.find()) return currentPage;
+        final HttpUrl url = HttpUrl.parse(matcher.group(1));
+        final String page = url == null ? null : url.queryParameter("page");
+        try {
+            return page == null ? Integer.MAX_VALUE : Integer.parseInt(page);
+        } catch (final NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
 }
@@ -0,0 +1,64 @@
+package com.jwcomptech.commons.webapis;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * An OkHttp network {@link Interceptor} that makes cached GitHub API responses
+ * revalidate with their {@code ETag} on every request.
+ * <p>
+ * GitHub marks responses as fresh for 60 seconds, so by default a cached response would
+ * be served without checking for changes during that time. This interceptor replaces the
+ * {@code Cache-Control} header of cacheable responses that carry an {@code ETag} with
+ * {@code no-cache}, which makes the {@link okhttp3.Cache} send an {@code If-None-Match}
+ * conditional request every time. GitHub answers unchanged resources with
+ * {@code 304 Not Modified}, which does not count against the rate limit.
+ *
+ * @apiNote This interceptor must be added with
+ * {@link okhttp3.OkHttpClient.Builder#addNetworkInterceptor(Interceptor)}
+ * to a client that has a {@link okhttp3.Cache}.
+ *
+ * @since 0.0.1
+ */
+public final class GitHubETagInterceptor implements Interceptor {
+    @Override
+    public @NotNull Response intercept(final @NotNull Chain chain) throws IOException {
+        final Response response = chain.proceed(chain.request());
+
+        if (!"GET".equals(chain.request().method())
+                || response.header("ETag") == null
+                || response.cacheControl().noStore()) {
+            return response;
+        }
+
+        return response.newBuilder()
+                .header("Cache-Control", "no-cache")
+                .removeHeader("Expires")
+                .build();
+    }
+}
@@ -0,0 +1,326 @@
+package com.jwcomptech.commons.webapis;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+
+/**
+ * An OkHttp {@link Interceptor} that keeps GitHub API requests within the rate limit budget.
+ * <p>
+ * The budget is read from the {@code X-RateLimit-Limit}, {@code X-RateLimit-Remaining}
+ * and {@code X-RateLimit-Reset} headers of each response. Once the remaining budget drops
+ * to the low water mark the remaining requests are spread evenly until the reset time,
+ * and once it drops to the reserve, requests are queued until the budget resets instead
+ * of failing. Responses rejected with a primary or secondary rate limit (403 or 429) are
+ * retried after the reset time or the {@code Retry-After} delay. Responses served from
+ * the cache or revalidated with {@code 304 Not Modified} do not count against the budget.
+ *
+ * @apiNote Only the {@code core} resource budget is tracked, responses from other
+ * resources such as {@code search} are still retried when rate limited.
+ * Each authenticated identity has its own budget on GitHub, so a limiter
+ * instance should only be used by clients that share the same credentials.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public final class GitHubRateLimiter implements Interceptor {
+    /** The default number of requests to keep in reserve. */
+    public static final int DEFAULT_RESERVE = 0;
+    /** The default remaining budget below which requests are spread evenly until the reset time. */
+    public static final int DEFAULT_LOW_WATER_MARK = 50;
+    /** The default number of times a rate limited request is retried. */
+    public static final int DEFAULT_MAX_RETRIES = 3;
+
+    private static final String CORE_RESOURCE = "core";
+    // Extra time to wait after the reset time to allow for clock skew with the GitHub servers.
+    private static final long RESET_SLACK_MILLIS = 1000L;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition budgetChanged = lock.newCondition();
+    private final int reserve;
+    private final int lowWaterMark;
+    private final int maxRetries;
+
+    private volatile int limit = -1;
+    private volatile int remaining = -1;
+    private volatile long resetEpochMillis;
+    private long nextRequestMillis;
+    private long retryAfterMillis;
+
+    /**
+     * Creates a new GitHubRateLimiter with the default reserve, low water mark and max retries.
+     */
+    public GitHubRateLimiter() {
+        this(DEFAULT_RESERVE, DEFAULT_LOW_WATER_MARK, DEFAULT_MAX_RETRIES);
+    }
+
+    /**
+     * Creates a new GitHubRateLimiter.
+     * @param reserve the number of requests to keep in reserve
+     * @param lowWaterMark the remaining budget below which requests are spread evenly until the reset time
+     * @param maxRetries the number of times a rate limited request is retried
+     * @throws IllegalArgumentException if any value is negative or if the low water mark is less than the reserve
+     */
+    public GitHubRateLimiter(final int reserve, final int lowWaterMark, final int maxRetries) {
+        checkArgument(reserve >= 0, "Reserve cannot be negative!");
+        checkArgument(lowWaterMark >= reserve, "Low water mark cannot be less than the reserve!");
+        checkArgument(maxRetries >= 0, "Max retries cannot be negative!");
+        this.reserve = reserve;
+        this.lowWaterMark = lowWaterMark;
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * Returns the total number of requests allowed per window.
+     * @return the request limit or -1 if no response has been received yet
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of requests remaining in the current window.
+     * @return the remaining budget or -1 if no response has been received yet
+     */
+    public int getRemaining() {
+        return remaining;
+    }
+
+    /**
+     * Returns the time at which the current window resets.
+     * @return the reset time or {@link Instant#EPOCH} if no response has been received yet
+     */
+    public Instant getResetInstant() {
+        return Instant.ofEpochMilli(resetEpochMillis);
+    }
+
+    /**
+     * Returns the number of requests kept in reserve.
+     * @return the number of requests kept in reserve
+     */
+    public int getReserve() {
+        return reserve;
+    }
+
+    /**
+     * Returns the remaining budget below which requests are spread evenly until the reset time.
+     * @return the low water mark
+     */
+    public int getLowWaterMark() {
+        return lowWaterMark;
+    }
+
+    /**
+     * Returns the number of times a rate limited request is retried.
+     * @return the max number of retries
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Blocks until a request can be made without exceeding the budget and reserves it.
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        reserveRequest();
+    }
+
+    /**
+     * Blocks until a request can be made without exceeding the budget and reserves it.
+     * @return true if a request was taken from the budget
+     */
+    private boolean reserveRequest() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            long now = System.currentTimeMillis();
+            while (true) {
+                if (remaining >= 0 && now >= resetEpochMillis + RESET_SLACK_MILLIS) {
+                    remaining = limit;
+                }
+
+                final long waitUntil;
+                if (now < retryAfterMillis) {
+                    waitUntil = retryAfterMillis;
+                } else if (remaining < 0) {
+                    //The budget is unknown until the first response is received
+                    break;
+                } else if (remaining <= reserve) {
+                    waitUntil = resetEpochMillis + RESET_SLACK_MILLIS;
+                } else if (remaining <= lowWaterMark) {
+                    waitUntil = nextRequestMillis;
+                } else break;
+
+                if (now >= waitUntil) break;
+                //noinspection ResultOfMethodCallIgnored
+                budgetChanged.await(waitUntil - now, TimeUnit.MILLISECONDS);
+                now = System.currentTimeMillis();
+            }
+
+            if (remaining <= 0) return false;
+            remaining--;
+            if (remaining <= lowWaterMark) {
+                final long spread = Math.max(1, remaining - reserve + 1);
+                nextRequestMillis = now + Math.max(0, resetEpochMillis - now) / spread;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Returns a reserved request to the budget, for responses that did not count against it. */
+    private void releaseRequest() {
+        lock.lock();
+        try {
+            if (remaining >= 0 && remaining < limit) {
+                remaining++;
+                budgetChanged.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Updates the budget from the rate limit headers of the specified response.
+     * @param response the response to read
+     */
+    public void update(final @NotNull Response response) {
+        final String resource = response.header("X-RateLimit-Resource");
+        if (resource != null && !CORE_RESOURCE.equals(resource)) return;
+
+        final int newLimit = parseInt(response.header("X-RateLimit-Limit"));
+        final int newRemaining = parseInt(response.header("X-RateLimit-Remaining"));
+        final long newReset = parseLong(response.header("X-RateLimit-Reset"));
+        if (newLimit < 0 || newRemaining < 0 || newReset < 0) return;
+
+        lock.lock();
+        try {
+            final long newResetMillis = TimeUnit.SECONDS.toMillis(newReset);
+            // Responses can arrive out of order, so only accept a lower count from the same window.
+            if (newResetMillis > resetEpochMillis || remaining < 0 || newRemaining < remaining) {
+                remaining = newRemaining;
+            }
+            limit = newLimit;
+            resetEpochMillis = Math.max(resetEpochMillis, newResetMillis);
+            budgetChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @NotNull Response intercept(final @NotNull Chain chain) throws IOException {
+        int attempt = 0;
+        while (true) {
+            final boolean reserved;
+            try {
+                reserved = reserveRequest();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                final InterruptedIOException ex = new InterruptedIOException("Interrupted while waiting for the GitHub API rate limit!");
+                ex.initCause(e);
+                throw ex;
+            }
+
+            final Response response = chain.proceed(chain.request());
+            final Response networkResponse = response.networkResponse();
+            if (reserved && (networkResponse == null || networkResponse.code() == 304)) releaseRequest();
+            // The headers of a response served from the cache are those of an earlier request.
+            if (networkResponse != null) update(response);
+
+            if (attempt >= maxRetries || !isRateLimited(response)) return response;
+
+            attempt++;
+            response.close();
+        }
+    }
+
+    /**
+     * Checks if the response was rejected by a primary or secondary rate limit
+     * and if so records when the request may be retried.
+     */
+    private boolean isRateLimited(final @NotNull Response response) {
+        if (response.code() != 403 && response.code() != 429) return false;
+
+        final long retryAfter = parseLong(response.header("Retry-After"));
+        final long reset = parseLong(response.header("X-RateLimit-Reset"));
+        final long waitUntil;
+        if (retryAfter >= 0) {
+            waitUntil = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(retryAfter);
+        } else if ("0".equals(response.header("X-RateLimit-Remaining")) && reset >= 0) {
+            waitUntil = TimeUnit.SECONDS.toMillis(reset) + RESET_SLACK_MILLIS;
+        } else return false;
+
+        lock.lock();
+        try {
+            retryAfterMillis = Math.max(retryAfterMillis, waitUntil);
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    private static int parseInt(final String value) {
+        if (value == null) return -1;
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (final NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static long parseLong(final String value) {
+        if (value == null) return -1;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (final NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("limit", limit)
+                .append("remaining", remaining)
+                .append("reset", getResetInstant())
+                .append("reserve", reserve)
+                .append("lowWaterMark", lowWaterMark)
+                .append("maxRetries", maxRetries)
+                .toString();
+    }
+}
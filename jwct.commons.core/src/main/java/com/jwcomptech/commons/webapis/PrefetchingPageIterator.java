@@ -0,0 +1,190 @@
+package com.jwcomptech.commons.webapis;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.apache.commons.io.function.IOFunction;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgument;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+
+/**
+ * A lazy iterator over the items of a numbered, paged API endpoint that fetches
+ * the next pages concurrently while the current page is being consumed.
+ * <p>
+ * The first page is fetched on the first call to {@link #hasNext()}. Once it reports
+ * the number of the last page, up to {@code prefetchDepth} of the following pages are
+ * requested on the executor and kept in order, and another page is requested each time
+ * a page is consumed. Pages past the last page are never requested.
+ *
+ * @param <T> the type of the items
+ * @apiNote Closing the iterator, or the stream returned by {@link #stream()}, cancels
+ * any pages that have not been consumed yet, so streams that terminate early should be
+ * used in a try-with-resources block. Request failures are thrown as
+ * {@link UncheckedIOException}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("unused")
+public final class PrefetchingPageIterator<T> implements Iterator<T>, AutoCloseable {
+    /** The default number of pages fetched ahead of the current page. */
+    public static final int DEFAULT_PREFETCH_DEPTH = 3;
+
+    /**
+     * A single page of items.
+     * @param items the items of the page
+     * @param lastPage the number of the last page, or {@link Integer#MAX_VALUE} if unknown
+     *                 in which case iteration stops at the first empty page
+     * @param <T> the type of the items
+     */
+    public record Page<T>(List<T> items, int lastPage) { }
+
+    private final IOFunction<Integer, Page<T>> pageFetcher;
+    private final int prefetchDepth;
+    private final Executor executor;
+    private final Deque<CompletableFuture<Page<T>>> pending = new ArrayDeque<>();
+    private Iterator<T> current = Collections.emptyIterator();
+    private int nextPage = 1;
+    private int lastPage = 1;
+    private boolean exhausted;
+    private boolean closed;
+
+    /**
+     * Creates a new PrefetchingPageIterator.
+     * @param pageFetcher the code used to fetch a page by its number, starting at 1
+     * @param prefetchDepth the number of pages fetched ahead of the current page
+     * @param executor the executor used to fetch the pages
+     * @throws IllegalArgumentException if pageFetcher or executor is null or if prefetchDepth is negative
+     */
+    public PrefetchingPageIterator(final IOFunction<Integer, Page<T>> pageFetcher,
+                                   final int prefetchDepth,
+                                   final Executor executor) {
+        checkArgumentNotNull(pageFetcher, cannotBeNull("pageFetcher"));
+        checkArgumentNotNull(executor, cannotBeNull("executor"));
+        checkArgument(prefetchDepth >= 0, "Prefetch depth cannot be negative!");
+        this.pageFetcher = pageFetcher;
+        this.prefetchDepth = prefetchDepth;
+        this.executor = executor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (exhausted || closed) return false;
+            advance();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return current.next();
+    }
+
+    /**
+     * Returns a sequential stream over the remaining items that closes this iterator when closed.
+     * @return a new stream
+     */
+    public @NotNull Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Returns the number of pages fetched ahead of the current page.
+     * @return the prefetch depth
+     */
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+
+    /** Stops the iteration and cancels any pages that have not been consumed yet. */
+    @Override
+    public void close() {
+        closed = true;
+        CompletableFuture<Page<T>> future;
+        while ((future = pending.poll()) != null) {
+            future.cancel(true);
+        }
+        current = Collections.emptyIterator();
+    }
+
+    private void advance() {
+        requestPages();
+        final CompletableFuture<Page<T>> future = pending.poll();
+        if (future == null) {
+            exhausted = true;
+            return;
+        }
+
+        final Page<T> page;
+        try {
+            page = future.join();
+        } catch (final CompletionException e) {
+            close();
+            if (e.getCause() instanceof final UncheckedIOException ex) throw ex;
+            throw e;
+        }
+
+        lastPage = page.lastPage();
+        if (page.items().isEmpty()) {
+            exhausted = true;
+            close();
+            return;
+        }
+        current = page.items().iterator();
+        if (prefetchDepth > 0) requestPages();
+    }
+
+    private void requestPages() {
+        final int capacity = Math.max(1, prefetchDepth);
+        while (!closed && pending.size() < capacity && nextPage <= lastPage) {
+            final int pageNumber = nextPage++;
+            pending.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return pageFetcher.apply(pageNumber);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, executor));
+        }
+    }
+}
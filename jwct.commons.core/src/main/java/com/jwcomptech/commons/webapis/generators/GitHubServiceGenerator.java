@@ -22,56 +22,295 @@ package com.jwcomptech.commons.webapis.generators;
  * #L%
  */
 
+import com.jwcomptech.commons.functions.Lazy;
+import com.jwcomptech.commons.webapis.GitHubETagInterceptor;
+import com.jwcomptech.commons.webapis.GitHubRateLimiter;
+import com.jwcomptech.commons.webapis.services.GitHubOrganizationService;
 import com.jwcomptech.commons.webapis.services.GitHubUserService;
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.logging.HttpLoggingInterceptor;
+import org.apache.commons.lang3.SystemUtils;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.jwcomptech.commons.consts.Literals.cannotBeNull;
 import static com.jwcomptech.commons.exceptions.ExceptionUtils.throwUnsupportedExForUtilityCls;
+import static com.jwcomptech.commons.validators.Preconditions.checkArgumentNotNull;
+import static com.jwcomptech.commons.validators.Preconditions.checkState;
 
+/**
+ * Creates Retrofit services for the GitHub REST API.
+ * <p>
+ * All services share a single {@link OkHttpClient} so that sockets, the connection pool
+ * and the dispatcher thread pool are reused. Services created with an access token use a
+ * client derived from the shared client with {@link OkHttpClient#newBuilder()} that only
+ * adds the authorization header, so they still share the same pool and dispatcher.
+ * <p>
+ * Every service is governed by a {@link GitHubRateLimiter}. Anonymous services share one
+ * limiter since GitHub tracks their budget per address, and services created with a token
+ * share one limiter per token.
+ * <p>
+ * Responses are stored in a disk {@link Cache} and revalidated with their {@code ETag}
+ * by the {@link GitHubETagInterceptor}, so unchanged resources are answered with
+ * {@code 304 Not Modified} responses that do not count against the rate limit.
+ * The cache is opened when the first service or client is created, in a directory only
+ * readable by the current user (see {@link #getCacheDirectory()}). It can be moved with
+ * {@link #setCacheDirectory(File)} or turned off with {@link #setCacheEnabled(boolean)} before
+ * that. OkHttp does not support two caches on one directory, so if another process already
+ * uses the directory the services run without a cache.
+ *
+ * @since 0.0.1
+ */
 @SuppressWarnings("unused")
 public final class GitHubServiceGenerator {
 
     private static final String BASE_URL = "https://api.github.com/";
 
-    private static final Retrofit.Builder builder
-            = new Retrofit.Builder()
-            .baseUrl(BASE_URL)
-            .addConverterFactory(GsonConverterFactory.create());
+    /** The maximum number of idle connections kept in the shared connection pool. */
+    public static final int MAX_IDLE_CONNECTIONS = 10;
+    /** The number of minutes an idle connection is kept alive in the shared connection pool. */
+    public static final long KEEP_ALIVE_MINUTES = 5L;
+    /** The maximum number of concurrent requests executed by the shared dispatcher. */
+    public static final int MAX_REQUESTS = 64;
+    /** The maximum number of concurrent requests to api.github.com executed by the shared dispatcher. */
+    public static final int MAX_REQUESTS_PER_HOST = 16;
 
-    private static final OkHttpClient.Builder httpClient = new OkHttpClient.Builder();
+    /** The system property that overrides the default directory of the shared response cache. */
+    public static final String CACHE_DIRECTORY_PROPERTY = "jwct.github.cache.dir";
+    /** The system property that turns the shared response cache off when set to {@code false}. */
+    public static final String CACHE_ENABLED_PROPERTY = "jwct.github.cache.enabled";
+    /** The maximum size in bytes of the shared response cache. */
+    public static final long CACHE_SIZE = 10L * 1024L * 1024L;
+
+    private static final Logger logger = LoggerFactory.getLogger(GitHubServiceGenerator.class);
 
     private static final HttpLoggingInterceptor logging
             = new HttpLoggingInterceptor()
             .setLevel(HttpLoggingInterceptor.Level.BASIC);
 
-    public static <S> @NotNull S createService(final Class<S> serviceClass) {
-        Retrofit retrofit = builder.build();
-        if (!httpClient.interceptors().contains(logging)) {
-            httpClient.addInterceptor(logging);
-            builder.client(httpClient.build());
-            retrofit = builder.build();
+    private static volatile File cacheDirectory = defaultCacheDirectory();
+
+    private static volatile boolean cacheEnabled
+            = Boolean.parseBoolean(System.getProperty(CACHE_ENABLED_PROPERTY, "true"));
+
+    /** Held for the life of the JVM so no other process opens a cache on the same directory. */
+    @SuppressWarnings("FieldCanBeLocal")
+    private static FileLock cacheLock;
+
+    private static final Lazy<OkHttpClient> httpClient = Lazy.of(GitHubServiceGenerator::createSharedClient);
+
+    private static final GitHubRateLimiter anonymousRateLimiter = new GitHubRateLimiter();
+
+    private static final Map<String, GitHubRateLimiter> tokenRateLimiters = new ConcurrentHashMap<>();
+
+    private static final Lazy<Retrofit> retrofit = Lazy.of(() -> new Retrofit.Builder()
+            .baseUrl(BASE_URL)
+            .client(createHttpClient(anonymousRateLimiter).newBuilder()
+                    .addInterceptor(logging)
+                    .build())
+            .addConverterFactory(GsonConverterFactory.create())
+            .build());
+
+    private static @NotNull OkHttpClient createSharedClient() {
+        final Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(MAX_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+
+        return new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+                .dispatcher(dispatcher)
+                .cache(openCache())
+                .addNetworkInterceptor(new GitHubETagInterceptor())
+                .build();
+    }
+
+    private static synchronized @Nullable Cache openCache() {
+        if (!cacheEnabled) return null;
+        final Path directory = cacheDirectory.toPath();
+        try {
+            if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                Files.createDirectories(directory,
+                        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            } else {
+                Files.createDirectories(directory);
+            }
+            final FileChannel channel = FileChannel.open(
+                    directory.resolveSibling(directory.getFileName() + ".lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            final FileLock lock = channel.tryLock();
+            if (lock == null) {
+                channel.close();
+                logger.warn("The GitHub response cache {} is used by another process, continuing without a cache",
+                        directory);
+                return null;
+            }
+            cacheLock = lock;
+            return new Cache(directory.toFile(), CACHE_SIZE);
+        } catch (final IOException | OverlappingFileLockException e) {
+            logger.warn("Unable to open the GitHub response cache {}, continuing without a cache", directory, e);
+            return null;
         }
-        return retrofit.create(serviceClass);
     }
 
+    private static @NotNull File defaultCacheDirectory() {
+        final String property = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+        if (property != null && !property.isBlank()) return new File(property);
+        final String base = SystemUtils.IS_OS_WINDOWS ? System.getenv("LOCALAPPDATA") : System.getenv("XDG_CACHE_HOME");
+        if (base != null && !base.isBlank()) return new File(new File(base, "jwct"), "github-cache");
+        return new File(new File(new File(System.getProperty("user.home"), ".cache"), "jwct"), "github-cache");
+    }
+
+    /**
+     * Returns the directory of the shared response cache.
+     * @apiNote The default is the {@value #CACHE_DIRECTORY_PROPERTY} system property if it is set,
+     * otherwise {@code jwct/github-cache} in {@code %LOCALAPPDATA%} on Windows and in
+     * {@code $XDG_CACHE_HOME} or {@code ~/.cache} elsewhere.
+     * @return the cache directory
+     */
+    public static @NotNull File getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    /**
+     * Sets the directory of the shared response cache.
+     * @param directory the cache directory
+     * @throws IllegalArgumentException if the directory is null
+     * @throws IllegalStateException if the shared client has already been created
+     */
+    public static synchronized void setCacheDirectory(final File directory) {
+        checkArgumentNotNull(directory, cannotBeNull("directory"));
+        checkNotCreated();
+        cacheDirectory = directory;
+    }
+
+    /**
+     * Returns whether responses are stored in the shared response cache.
+     * @apiNote The default is the {@value #CACHE_ENABLED_PROPERTY} system property, or true if it is not set.
+     * @return true if the cache is enabled
+     */
+    public static boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    /**
+     * Sets whether responses are stored in the shared response cache.
+     * @param enabled false to run all services without a cache
+     * @throws IllegalStateException if the shared client has already been created
+     */
+    public static synchronized void setCacheEnabled(final boolean enabled) {
+        checkNotCreated();
+        cacheEnabled = enabled;
+    }
+
+    private static void checkNotCreated() {
+        checkState(!httpClient.isEvaluated(),
+                "The cache must be configured before the first GitHub service or client is created");
+    }
+
+    /**
+     * Returns the shared {@link OkHttpClient} that all service clients are derived from.
+     * @apiNote Clients derived from this instance with {@link OkHttpClient#newBuilder()}
+     * share its connection pool and dispatcher.
+     * @return the shared OkHttpClient instance
+     */
+    @Contract(pure = true)
+    public static @NotNull OkHttpClient getHttpClient() {
+        return httpClient.get();
+    }
+
+    /**
+     * Returns the response cache shared by all services, creating the shared client if needed.
+     * @return the shared response cache or null if it is disabled or could not be opened
+     */
+    public static @Nullable Cache getCache() {
+        return httpClient.get().cache();
+    }
+
+    /**
+     * Creates a new client derived from the shared client that is governed by the specified rate limiter.
+     * @param rateLimiter the rate limiter to use
+     * @return a new OkHttpClient instance that shares the connection pool and dispatcher
+     */
+    public static @NotNull OkHttpClient createHttpClient(final @NotNull GitHubRateLimiter rateLimiter) {
+        return httpClient.get().newBuilder()
+                .addInterceptor(rateLimiter)
+                .build();
+    }
+
+    /**
+     * Returns the rate limiter shared by all anonymous services.
+     * @return the anonymous rate limiter
+     */
+    @Contract(pure = true)
+    public static @NotNull GitHubRateLimiter getRateLimiter() {
+        return anonymousRateLimiter;
+    }
+
+    /**
+     * Returns the rate limiter shared by all services created with the specified token.
+     * @apiNote If the token is null the anonymous rate limiter is returned instead.
+     * @param token the value of the authorization header
+     * @return the rate limiter for the token
+     */
+    public static @NotNull GitHubRateLimiter getRateLimiter(final String token) {
+        if (token == null) return anonymousRateLimiter;
+        return tokenRateLimiters.computeIfAbsent(token, key -> new GitHubRateLimiter());
+    }
+
+    /**
+     * Creates a new anonymous service backed by the shared client.
+     * @param serviceClass the service interface
+     * @param <S> the type of the service
+     * @return a new service instance
+     */
+    public static <S> @NotNull S createService(final Class<S> serviceClass) {
+        return retrofit.get().create(serviceClass);
+    }
+
+    /**
+     * Creates a new service that sends the specified token in the authorization header.
+     * @apiNote If the token is null an anonymous service is returned instead.
+     * @param serviceClass the service interface
+     * @param token the value of the authorization header
+     * @param <S> the type of the service
+     * @return a new service instance
+     */
     public static <S> @NotNull S createService(final Class<S> serviceClass, final String token) {
-        Retrofit retrofit = builder.build();
-        if (token != null) {
-            httpClient.interceptors().clear();
-            httpClient.addInterceptor(chain -> {
-                final Request.Builder authBuilder = chain.request().newBuilder()
-                        .header("Authorization", token);
-                final Request request = authBuilder.build();
-                return chain.proceed(request);
-            });
-            builder.client(httpClient.build());
-            retrofit = builder.build();
-        }
-        return retrofit.create(serviceClass);
+        if (token == null) return createService(serviceClass);
+
+        final OkHttpClient authClient = createHttpClient(getRateLimiter(token)).newBuilder()
+                .addInterceptor(logging)
+                .addInterceptor(chain -> {
+                    final Request request = chain.request().newBuilder()
+                            .header("Authorization", token)
+                            .build();
+                    return chain.proceed(request);
+                })
+                .build();
+        return retrofit.get().newBuilder().client(authClient).build().create(serviceClass);
     }
 
     public static @NotNull GitHubUserService createUserService() {
@@ -82,6 +321,14 @@ public final class GitHubServiceGenerator {
         return createService(GitHubUserService.class, token);
     }
 
+    public static @NotNull GitHubOrganizationService createOrganizationService() {
+        return createService(GitHubOrganizationService.class);
+    }
+
+    public static @NotNull GitHubOrganizationService createOrganizationService(final String token) {
+        return createService(GitHubOrganizationService.class, token);
+    }
+
     /** Prevents instantiation of this utility class. */
     private GitHubServiceGenerator() { throwUnsupportedExForUtilityCls(); }
 }
@@ -0,0 +1,74 @@
+package com.jwcomptech.commons.webapis.models;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.google.gson.annotations.SerializedName;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * A GitHub repository as returned by the repository list endpoints of the GitHub REST API.
+ *
+ * @since 0.0.1
+ */
+@Data
+@SuppressWarnings("unused")
+public class GitHubRepository implements Serializable {
+    private long id;
+    @SerializedName("node_id")
+    private String nodeId;
+    private String name;
+    @SerializedName("full_name")
+    private String fullName;
+    private GitHubUser owner;
+    @SerializedName("private")
+    private boolean privateRepository;
+    @SerializedName("html_url")
+    private String htmlUrl;
+    private String description;
+    private boolean fork;
+    private boolean archived;
+    private String url;
+    private String language;
+    @SerializedName("default_branch")
+    private String defaultBranch;
+    @SerializedName("stargazers_count")
+    private int stargazersCount;
+    @SerializedName("watchers_count")
+    private int watchersCount;
+    @SerializedName("forks_count")
+    private int forksCount;
+    @SerializedName("open_issues_count")
+    private int openIssuesCount;
+    @SerializedName("created_at")
+    private String createdAt;
+    @SerializedName("updated_at")
+    private String updatedAt;
+    @SerializedName("pushed_at")
+    private String pushedAt;
+
+    @Serial
+    private static final long serialVersionUID = -3170465894382014729L;
+}
@@ -0,0 +1,54 @@
+package com.jwcomptech.commons.webapis.models;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.google.gson.annotations.SerializedName;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * A GitHub user account as returned by the users endpoints of the GitHub REST API.
+ *
+ * @since 0.0.1
+ */
+@Data
+@SuppressWarnings("unused")
+public class GitHubUser implements Serializable {
+    private String login;
+    private long id;
+    @SerializedName("node_id")
+    private String nodeId;
+    @SerializedName("avatar_url")
+    private String avatarUrl;
+    @SerializedName("html_url")
+    private String htmlUrl;
+    private String url;
+    private String type;
+    @SerializedName("site_admin")
+    private boolean siteAdmin;
+
+    @Serial
+    private static final long serialVersionUID = 2637018645213470519L;
+}
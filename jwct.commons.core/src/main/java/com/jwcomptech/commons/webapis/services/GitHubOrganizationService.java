@@ -0,0 +1,52 @@
+package com.jwcomptech.commons.webapis.services;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.webapis.models.GitHubRepository;
+import retrofit2.Call;
+import retrofit2.http.GET;
+import retrofit2.http.Path;
+import retrofit2.http.Query;
+
+import java.util.List;
+
+/**
+ * Retrofit service for the organization endpoints of the GitHub REST API.
+ *
+ * @since 0.0.1
+ */
+public interface GitHubOrganizationService {
+    /**
+     * Lists the repositories of an organization.
+     * @apiNote The number of the last page is returned in the {@code Link} header.
+     * @param org the organization name
+     * @param perPage the number of repositories per page, max 100
+     * @param page the page number, starting at 1
+     * @return the call for the page
+     */
+    @GET("orgs/{org}/repos")
+    Call<List<GitHubRepository>> getRepositories(
+            @Path("org") String org,
+            @Query("per_page") int perPage,
+            @Query("page") int page);
+}
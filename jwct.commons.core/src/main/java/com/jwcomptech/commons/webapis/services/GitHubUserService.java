@@ -22,12 +22,42 @@ package com.jwcomptech.commons.webapis.services;
  * #L%
  */
 
+import com.jwcomptech.commons.webapis.models.GitHubUser;
+import retrofit2.Call;
+import retrofit2.http.GET;
+import retrofit2.http.Path;
+import retrofit2.http.Query;
+import retrofit2.http.Url;
+
+import java.util.List;
+
+/**
+ * Retrofit service for the users endpoints of the GitHub REST API.
+ *
+ * @since 0.0.1
+ */
 public interface GitHubUserService {
-//    @GET("/users")
-//    Call<List<GitHubUser>> getUsers(
-//            @Query("per_page") int per_page,
-//            @Query("page") int page);
-//
-//    @GET("/users/{username}")
-//    Call<GitHubUser> getUser(@Path("username") String username);
+    /**
+     * Lists users in the order they signed up.
+     * @apiNote This endpoint is paginated with the {@code since} user id rather than
+     * a page number, the URL of the next page is returned in the {@code Link} header.
+     * @param perPage the number of users per page, max 100
+     * @param since only users with an id greater than this id are returned
+     * @return the call for the first page
+     */
+    @GET("users")
+    Call<List<GitHubUser>> getUsers(
+            @Query("per_page") int perPage,
+            @Query("since") long since);
+
+    /**
+     * Lists the users at the specified page URL.
+     * @param pageUrl the URL of the page taken from a {@code Link} header
+     * @return the call for the page
+     */
+    @GET
+    Call<List<GitHubUser>> getUsers(@Url String pageUrl);
+
+    @GET("users/{username}")
+    Call<GitHubUser> getUser(@Path("username") String username);
 }
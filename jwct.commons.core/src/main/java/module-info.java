@@ -27,11 +27,11 @@ module jwct.commons.core {
     requires com.sun.jna.platform;
     requires com.sun.jna;
     requires io.vavr;
-    requires java.desktop;
     requires java.management;
     requires java.xml;
     requires jBCrypt;
     requires jdk.management;
+    requires jdk.unsupported;
     requires okhttp3;
     requires okhttp3.logging;
     requires org.apache.commons.codec;
@@ -70,6 +70,7 @@ module jwct.commons.core {
     exports com.jwcomptech.commons.validators;
     exports com.jwcomptech.commons.values;
     exports com.jwcomptech.commons.webapis.generators;
+    exports com.jwcomptech.commons.webapis.models;
     exports com.jwcomptech.commons.webapis.services;
     exports com.jwcomptech.commons.webapis;
 
@@ -77,4 +78,7 @@ module jwct.commons.core {
     opens com.jwcomptech.commons.internal to javafx.fxml;
     opens com.jwcomptech.commons.utils to javafx.fxml;
     opens com.jwcomptech.commons.validators to javafx.fxml;
+    opens com.jwcomptech.commons.webapis.models to com.google.gson;
+
+    uses com.jwcomptech.commons.logging.ArchiveCompressor;
 }
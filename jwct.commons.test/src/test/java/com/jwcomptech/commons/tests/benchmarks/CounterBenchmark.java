@@ -0,0 +1,133 @@
+package com.jwcomptech.commons.tests.benchmarks;
+
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.values.AtomicIntegerValue;
+import com.jwcomptech.commons.values.AtomicLongValue;
+import com.jwcomptech.commons.values.LongValue;
+import com.jwcomptech.commons.values.StripedLongValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures a counter shared by 1 to 64 threads, comparing the thread safe values with
+ * {@link AtomicLong} and with a {@link LongValue} that is either guarded by a lock or not guarded at all.
+ * <p>
+ * The counters are reset before every iteration so the exact arithmetic of the values never overflows.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CounterBenchmark {
+    /** The counters that are compared. */
+    public enum Counter {
+        /** An {@link AtomicIntegerValue}. */
+        ATOMIC_INTEGER_VALUE,
+        /** An {@link AtomicLongValue}. */
+        ATOMIC_LONG_VALUE,
+        /** The JDK {@link AtomicLong}. */
+        ATOMIC_LONG,
+        /** A {@link StripedLongValue}. */
+        STRIPED_LONG_VALUE,
+        /** A {@link LongValue} guarded by a lock, the only thread safe use before the atomic values. */
+        SYNCHRONIZED_LONG_VALUE,
+        /** A shared {@link LongValue} without any guard, it loses updates and only shows the cost of the contention. */
+        LONG_VALUE
+    }
+
+    @Param
+    public Counter counter;
+
+    private AtomicIntegerValue atomicIntegerValue;
+    private AtomicLongValue atomicLongValue;
+    private AtomicLong atomicLong;
+    private StripedLongValue stripedLongValue;
+    private LongValue longValue;
+    private final Object lock = new Object();
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        atomicIntegerValue = AtomicIntegerValue.of();
+        atomicLongValue = AtomicLongValue.of();
+        atomicLong = new AtomicLong();
+        stripedLongValue = StripedLongValue.of();
+        longValue = LongValue.of();
+    }
+
+    private void increment() {
+        switch (counter) {
+            case ATOMIC_INTEGER_VALUE -> atomicIntegerValue.increment();
+            case ATOMIC_LONG_VALUE -> atomicLongValue.increment();
+            case ATOMIC_LONG -> atomicLong.incrementAndGet();
+            case STRIPED_LONG_VALUE -> stripedLongValue.increment();
+            case SYNCHRONIZED_LONG_VALUE -> {
+                synchronized (lock) {
+                    longValue.increment();
+                }
+            }
+            case LONG_VALUE -> longValue.increment();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void increment1Thread() {
+        increment();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void increment4Threads() {
+        increment();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void increment16Threads() {
+        increment();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void increment64Threads() {
+        increment();
+    }
+}
@@ -0,0 +1,113 @@
+package com.jwcomptech.commons.tests.benchmarks;
+
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.encoder.Encoder;
+import com.jwcomptech.commons.logging.Encoders;
+import com.jwcomptech.commons.logging.JsonEncoder;
+import com.jwcomptech.commons.logging.LoggingManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the pattern based {@link Encoders} with their precompiled equivalents and the
+ * {@link JsonEncoder}, encoding the same event without any appender.
+ * <p>
+ * A new event is created for every call, as logback does, so the message formatting that the
+ * encoders trigger is measured too.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EncoderBenchmark {
+    private static final String FQCN = EncoderBenchmark.class.getName();
+    private static final Object[] ARGUMENTS = {123_456_789L, "customer-42"};
+
+    /** The encoders that are compared. */
+    public enum Encoding {
+        /** The {@link Encoders#LimitedEncoder} pattern encoder. */
+        LIMITED_PATTERN,
+        /** The {@link Encoders#LimitedEncoder} precompiled encoder. */
+        LIMITED_PRECOMPILED,
+        /** The {@link Encoders#BasicEncoder} pattern encoder. */
+        BASIC_PATTERN,
+        /** The {@link Encoders#BasicEncoder} precompiled encoder. */
+        BASIC_PRECOMPILED,
+        /** The {@link Encoders#ExtendedEncoder} pattern encoder. */
+        EXTENDED_PATTERN,
+        /** The {@link Encoders#ExtendedEncoder} precompiled encoder. */
+        EXTENDED_PRECOMPILED,
+        /** A new {@link JsonEncoder}. */
+        JSON
+    }
+
+    @Param
+    public Encoding encoding;
+
+    @Param({"false", "true"})
+    public boolean withThrowable;
+
+    private Logger logger;
+    private Throwable throwable;
+    private Encoder<ILoggingEvent> encoder;
+
+    @Setup
+    public void setUp() {
+        logger = LoggingManager.getContext().getLogger("com.jwcomptech.commons.tests.benchmarks.encoder");
+        throwable = withThrowable ? new IllegalStateException("Order rejected") : null;
+        encoder = switch (encoding) {
+            case LIMITED_PATTERN -> Encoders.LimitedEncoder.getEncoder();
+            case LIMITED_PRECOMPILED -> Encoders.LimitedEncoder.getPrecompiledEncoder();
+            case BASIC_PATTERN -> Encoders.BasicEncoder.getEncoder();
+            case BASIC_PRECOMPILED -> Encoders.BasicEncoder.getPrecompiledEncoder();
+            case EXTENDED_PATTERN -> Encoders.ExtendedEncoder.getEncoder();
+            case EXTENDED_PRECOMPILED -> Encoders.ExtendedEncoder.getPrecompiledEncoder();
+            case JSON -> LoggingManager.createNewJsonEncoder();
+        };
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return encoder.encode(new LoggingEvent(FQCN, logger, Level.INFO, "Processed order {} for {}",
+                throwable, ARGUMENTS));
+    }
+}
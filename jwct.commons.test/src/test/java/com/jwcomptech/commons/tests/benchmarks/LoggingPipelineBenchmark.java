@@ -0,0 +1,187 @@
+package com.jwcomptech.commons.tests.benchmarks;
+
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.jwcomptech.commons.logging.Encoders;
+import com.jwcomptech.commons.logging.LoggerConfig;
+import com.jwcomptech.commons.logging.LoggingManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures what a logging call costs end to end with each of the appenders in
+ * {@link LoggingManager}, configured through {@link LoggerConfig} the way an application would.
+ * <p>
+ * Every pipeline uses the {@link Encoders#BasicEncoder} so the appenders can be compared,
+ * {@link EncoderBenchmark} compares the encoders. Each call is measured with 1, 4 and all
+ * available threads, as throughput and as sampled latency for the tail percentiles,
+ * the default arguments of the benchmark profile add the allocation rate.
+ * The {@link Pipeline#DISABLED_LEVEL} pipeline measures calls that are filtered by the logger level.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingPipelineBenchmark {
+    private static final String LOGGER_NAME = "com.jwcomptech.commons.tests.benchmarks.pipeline";
+    private static final Long ORDER_ID = 123_456_789L;
+    private static final String CUSTOMER = "customer-42";
+
+    /** The appender combinations that are measured. */
+    public enum Pipeline {
+        /** A console appender on a logger enabled at WARN, so every call is below the level. */
+        DISABLED_LEVEL,
+        /** A console appender, its output is discarded. */
+        CONSOLE,
+        /** A rolling file appender that rolls daily. */
+        ROLLING_FILE,
+        /** A batching file appender with the default buffer and flush interval. */
+        BATCHING_FILE,
+        /** A memory-mapped file appender with the default segment size. */
+        MAPPED_FILE,
+        /** The rolling file appender behind an async appender. */
+        ASYNC_ROLLING_FILE,
+        /** The batching file appender behind an async appender. */
+        ASYNC_BATCHING_FILE
+    }
+
+    @Param
+    public Pipeline pipeline;
+
+    private Path directory;
+    private PrintStream systemOut;
+    private Appender<ILoggingEvent> appender;
+    private Appender<ILoggingEvent> wrapped;
+    private LoggerConfig config;
+    private Logger logger;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("jwct-benchmark");
+        final Encoder<ILoggingEvent> encoder = Encoders.BasicEncoder.getEncoder();
+        switch (pipeline) {
+            case DISABLED_LEVEL, CONSOLE -> {
+                systemOut = System.out;
+                System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+                appender = LoggingManager.createNewConsoleAppender(encoder);
+            }
+            case ROLLING_FILE -> appender = rollingFile();
+            case BATCHING_FILE -> appender = batchingFile(encoder);
+            case MAPPED_FILE -> appender = LoggingManager.getMappedFileAppenderBuilder()
+                    .setFileName(directory.resolve("mapped.log").toString())
+                    .setEncoder(encoder)
+                    .setMaxHistory(2)
+                    .build();
+            case ASYNC_ROLLING_FILE -> {
+                wrapped = rollingFile();
+                appender = LoggingManager.getAsyncAppenderBuilder().setAppender(wrapped).build();
+            }
+            case ASYNC_BATCHING_FILE -> {
+                wrapped = batchingFile(encoder);
+                appender = LoggingManager.getAsyncAppenderBuilder().setAppender(wrapped).build();
+            }
+        }
+        config = new LoggerConfig(LOGGER_NAME)
+                .enable(pipeline == Pipeline.DISABLED_LEVEL ? Level.WARN : Level.INFO)
+                .addAppender(appender);
+        logger = LoggerFactory.getLogger(LOGGER_NAME);
+    }
+
+    private Appender<ILoggingEvent> rollingFile() {
+        return LoggingManager.getRollingFileAppenderBuilder()
+                .setFileName(directory.resolve("rolling.log").toString())
+                .setLogFilePolicy(LoggingManager.getTimeBasedRollingPolicyBuilder()
+                        .setFileNamePattern(directory.resolve("rolling-%d{yyyy-MM-dd}.log").toString())
+                        .build())
+                .setEncoder(Encoders.BasicEncoder.getEncoder())
+                .build();
+    }
+
+    private Appender<ILoggingEvent> batchingFile(final Encoder<ILoggingEvent> encoder) {
+        return LoggingManager.getBatchingFileAppenderBuilder()
+                .setFileName(directory.resolve("batching.log").toString())
+                .setEncoder(encoder)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        config.removeAppender(appender);
+        config.disable();
+        appender.stop();
+        if (wrapped != null) wrapped.stop();
+        if (systemOut != null) System.setOut(systemOut);
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void log1Thread() {
+        logger.info("Processed order {} for {}", ORDER_ID, CUSTOMER);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void log4Threads() {
+        logger.info("Processed order {} for {}", ORDER_ID, CUSTOMER);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void logMaxThreads() {
+        logger.info("Processed order {} for {}", ORDER_ID, CUSTOMER);
+    }
+}
@@ -0,0 +1,135 @@
+package com.jwcomptech.commons.tests.benchmarks;
+
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.values.IntegerValue;
+import com.jwcomptech.commons.values.StringValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scans a delimited line with the {@link StringValue} searches, comparing the methods that
+ * return a new {@link IntegerValue} for every result with the ones that return an {@code int}.
+ * <p>
+ * Run with {@code -prof gc} to see the allocation of each form.
+ * <p>
+ * The case-insensitive search is also compared with the {@code regionMatches} at every position
+ * that {@link StringValue#indexOfIgnoreCase(CharSequence)} used before its Latin-1 fast path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringSearchBenchmark {
+    private final StringValue line = StringValue.of(
+            "id=42,name=Widget,Category=Tools,price=19.99,stock=120,Vendor=ACME,tags=red;blue;green");
+
+    @Benchmark
+    public int splitFieldsBoxed() {
+        int fields = 0;
+        int from = 0;
+        IntegerValue index;
+        while ((index = line.indexOf(',', from)).get() >= 0) {
+            fields++;
+            from = index.get() + 1;
+        }
+        return fields;
+    }
+
+    @Benchmark
+    public int splitFieldsInt() {
+        int fields = 0;
+        int from = 0;
+        int index;
+        while ((index = line.indexOfInt(',', from)) >= 0) {
+            fields++;
+            from = index + 1;
+        }
+        return fields;
+    }
+
+    @Benchmark
+    public int findKeyIgnoreCaseBoxed() {
+        return line.indexOfIgnoreCase("vendor=").get() + line.lastIndexOf('=').get();
+    }
+
+    @Benchmark
+    public int findKeyIgnoreCaseInt() {
+        return line.indexOfIgnoreCaseInt("vendor=") + line.lastIndexOfInt('=');
+    }
+
+    /** The text searched by the case-insensitive comparison. */
+    @State(Scope.Benchmark)
+    public static class IgnoreCaseText {
+        /** The length of the searched text. */
+        @Param({"SHORT", "LONG"})
+        public String size;
+
+        private String text;
+        private StringValue value;
+        private final String searchStr = "Vendor=Globex";
+
+        @Setup
+        public void setUp() {
+            final StringBuilder builder = new StringBuilder();
+            final int lines = "SHORT".equals(size) ? 1 : 64;
+            for (int i = 0; i < lines; i++) {
+                builder.append("id=").append(i).append(",name=Widget,Category=Tools,price=19.99,Vendor=ACME;");
+            }
+            text = builder.append("vendor=GLOBEX").toString();
+            value = StringValue.of(text);
+        }
+    }
+
+    @Benchmark
+    public int indexOfIgnoreCaseRegionMatches(final IgnoreCaseText text) {
+        final String value = text.text;
+        final String searchStr = text.searchStr;
+        final int endLimit = value.length() - searchStr.length() + 1;
+        for (int i = 0; i < endLimit; i++) {
+            if (value.regionMatches(true, i, searchStr, 0, searchStr.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int indexOfIgnoreCaseHorspool(final IgnoreCaseText text) {
+        return text.value.indexOfIgnoreCaseInt(text.searchStr);
+    }
+}
@@ -0,0 +1,129 @@
+package com.jwcomptech.commons.tests.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.TimeBasedRollingPolicy;
+import ch.qos.logback.core.util.FileSize;
+import com.jwcomptech.commons.logging.ArchivingRollingPolicy;
+import com.jwcomptech.commons.logging.LoggingManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ArchivingRollingPolicyTests {
+    private static final int ARCHIVE_SIZE = 100;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void start_shouldDeleteTheOldestArchivesAboveTheMaxCount() throws IOException {
+        createArchives(5);
+
+        final ArchivingRollingPolicy policy = startPolicy(LoggingManager.getTimeBasedRollingPolicyBuilder()
+                .setMaxFileHistory(2));
+
+        assertThat(policy.getArchiveCount()).isEqualTo(2);
+        assertThat(policy.getArchivesSize()).isEqualTo(2L * ARCHIVE_SIZE);
+        assertThat(archiveNames()).containsExactly("app-2025-01-04.log.gz", "app-2025-01-05.log.gz");
+    }
+
+    @Test
+    void start_shouldDeleteTheOldestArchivesAboveTheSizeCap() throws IOException {
+        createArchives(5);
+
+        final ArchivingRollingPolicy policy = startPolicy(LoggingManager.getTimeBasedRollingPolicyBuilder()
+                .setTotalSizeCap(new FileSize(3L * ARCHIVE_SIZE - 1)));
+
+        assertThat(policy.getArchiveCount()).isEqualTo(2);
+        assertThat(policy.getArchivesSize()).isEqualTo(2L * ARCHIVE_SIZE);
+        assertThat(archiveNames()).containsExactly("app-2025-01-04.log.gz", "app-2025-01-05.log.gz");
+    }
+
+    @Test
+    void start_shouldKeepTheArchivesWithinTheLimits() throws IOException {
+        createArchives(3);
+
+        final ArchivingRollingPolicy policy = startPolicy(LoggingManager.getTimeBasedRollingPolicyBuilder()
+                .setMaxFileHistory(3)
+                .setTotalSizeCap(new FileSize(3L * ARCHIVE_SIZE)));
+
+        assertThat(policy.getArchiveCount()).isEqualTo(3);
+        assertThat(archiveNames()).hasSize(3);
+    }
+
+    @Test
+    void build_shouldNotArchiveWithoutACompressor() {
+        final TimeBasedRollingPolicy<ILoggingEvent> policy = LoggingManager.getTimeBasedRollingPolicyBuilder()
+                .setFileNamePattern(directory.resolve("app-%d{yyyy-MM-dd}.log").toString())
+                .setTotalSizeCap("1MB")
+                .build();
+
+        assertThat(policy).isNotInstanceOf(ArchivingRollingPolicy.class);
+    }
+
+    /** Creates archives of previous runs, each one day and one minute newer than the last. */
+    private void createArchives(final int count) throws IOException {
+        for (int day = 1; day <= count; day++) {
+            final Path archive = directory.resolve("app-2025-01-0" + day + ".log.gz");
+            Files.write(archive, new byte[ARCHIVE_SIZE]);
+            Files.setLastModifiedTime(archive, FileTime.fromMillis(1_735_689_600_000L + day * 60_000L));
+        }
+    }
+
+    /** Starts and stops an appender with the policy, which waits for the archives to be loaded. */
+    private ArchivingRollingPolicy startPolicy(final LoggingManager.TimeBasedRollingPolicyBuilder builder) {
+        final ArchivingRollingPolicy policy = (ArchivingRollingPolicy) builder
+                .setFileNamePattern(directory.resolve("app-%d{yyyy-MM-dd}.log").toString())
+                .setCompression("gzip")
+                .build();
+        final RollingFileAppender<ILoggingEvent> appender = LoggingManager.getRollingFileAppenderBuilder()
+                .setName("ArchivingRollingPolicyTests")
+                .setFileName(directory.resolve("app.log").toString())
+                .setLogFilePolicy(policy)
+                .build();
+        appender.stop();
+        policy.stop();
+        return policy;
+    }
+
+    private List<String> archiveNames() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(".gz"))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.jwcomptech.commons.tests.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.jwcomptech.commons.logging.JsonEncoder;
+import com.jwcomptech.commons.logging.LoggingManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.KeyValuePair;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JsonEncoderTests {
+    private final ByteArrayOutputStream innerOutput = new ByteArrayOutputStream();
+    private final Logger inner = LoggingManager.getContext().getLogger("com.jwcomptech.commons.tests.logging.JsonInner");
+    private final Logger outer = LoggingManager.getContext().getLogger("com.jwcomptech.commons.tests.logging.JsonOuter");
+    private final OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+
+    /** An argument that logs through the inner logger when it is formatted. */
+    private final Object loggingArgument = new Object() {
+        @Override
+        public String toString() {
+            inner.info("Inner message");
+            return "argument";
+        }
+    };
+
+    @BeforeEach
+    void attachInnerAppender() {
+        inner.setAdditive(false);
+        inner.setLevel(Level.INFO);
+        appender.setContext(LoggingManager.getContext());
+        appender.setEncoder(LoggingManager.createNewJsonEncoder());
+        appender.setOutputStream(innerOutput);
+        appender.start();
+        inner.addAppender(appender);
+    }
+
+    @AfterEach
+    void detachInnerAppender() {
+        inner.detachAppender(appender);
+        appender.stop();
+    }
+
+    @Test
+    void encode_shouldNotCorruptTheEventWhenAnArgumentLogs() {
+        final ILoggingEvent event = new LoggingEvent(Logger.class.getName(), outer, Level.INFO,
+                "Outer {} message", null, new Object[] {loggingArgument});
+
+        final String json = new String(LoggingManager.createNewJsonEncoder().encode(event), StandardCharsets.UTF_8);
+        assertThat(json).startsWith("{\"timestamp\":\"")
+                .contains("\"logger\":\"com.jwcomptech.commons.tests.logging.JsonOuter\"",
+                        "\"message\":\"Outer argument message\"")
+                .doesNotContain("Inner message");
+        assertThat(innerOutput.toString(StandardCharsets.UTF_8)).contains("\"message\":\"Inner message\"");
+    }
+
+    @Test
+    void encode_shouldNotCorruptTheEventWhenAKeyValueLogs() {
+        final LoggingEvent event = new LoggingEvent(Logger.class.getName(), outer, Level.INFO,
+                "Outer message", null, null);
+        event.addKeyValuePair(new KeyValuePair("key", loggingArgument));
+
+        final String json = new String(LoggingManager.createNewJsonEncoder().encode(event), StandardCharsets.UTF_8);
+        assertThat(json).startsWith("{\"timestamp\":\"")
+                .contains("\"message\":\"Outer message\"", "\"kv\":{\"key\":\"argument\"}")
+                .doesNotContain("Inner message");
+        assertThat(innerOutput.toString(StandardCharsets.UTF_8)).contains("\"message\":\"Inner message\"");
+    }
+}
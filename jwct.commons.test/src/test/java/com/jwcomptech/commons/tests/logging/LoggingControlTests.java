@@ -0,0 +1,78 @@
+package com.jwcomptech.commons.tests.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.logging.Appenders;
+import com.jwcomptech.commons.logging.LoggingControl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LoggingControlTests {
+    private static final String LOGGER = LoggingControlTests.class.getName();
+
+    private final LoggingControl control = LoggingControl.getInstance();
+
+    @AfterEach
+    void detachAll() {
+        for (final Appenders appender : Appenders.values()) {
+            control.detachAppender(LOGGER, appender.name());
+        }
+    }
+
+    @Test
+    void getAppenderNames_shouldListEachStandardAppender() {
+        assertThat(control.getAppenderNames())
+                .contains("LimitedConsoleAppender", "BasicConsoleAppender", "ExtendedConsoleAppender");
+    }
+
+    @Test
+    void attachAppender_shouldReportTheAppenderByItsName() {
+        control.attachAppender(LOGGER, "BasicConsoleAppender");
+        assertThat(control.getAttachedAppenderNames(LOGGER)).containsExactly("BasicConsoleAppender");
+    }
+
+    @Test
+    void detachAppender_shouldDetachTheAttachedAppender() {
+        control.attachAppender(LOGGER, "BasicConsoleAppender");
+        assertThat(control.detachAppender(LOGGER, "BasicConsoleAppender")).isTrue();
+        assertThat(control.getAttachedAppenderNames(LOGGER)).isEmpty();
+        assertThat(control.detachAppender(LOGGER, "BasicConsoleAppender")).isFalse();
+    }
+
+    @Test
+    void detachAppender_shouldOnlyDetachTheNamedStandardAppender() {
+        control.attachAppender(LOGGER, "LimitedConsoleAppender");
+        control.attachAppender(LOGGER, "ExtendedConsoleAppender");
+        assertThat(control.detachAppender(LOGGER, "ExtendedConsoleAppender")).isTrue();
+        assertThat(control.getAttachedAppenderNames(LOGGER)).containsExactly("LimitedConsoleAppender");
+    }
+
+    @Test
+    void attachAppender_shouldThrowOnUnknownAppender() {
+        assertThatThrownBy(() -> control.attachAppender(LOGGER, "missing"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown appender");
+    }
+}
@@ -0,0 +1,100 @@
+package com.jwcomptech.commons.tests.logging;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.jwcomptech.commons.logging.Encoders;
+import com.jwcomptech.commons.logging.LoggingManager;
+import com.jwcomptech.commons.logging.PrecompiledEncoder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PrecompiledEncoderTests {
+
+    private static List<ILoggingEvent> events() {
+        final Logger logger = LoggingManager.getContext().getLogger("com.jwcomptech.commons.tests.logging.Sample");
+        final Logger root = LoggingManager.getContext().getLogger(Logger.ROOT_LOGGER_NAME);
+        return List.of(
+                new LoggingEvent(Logger.class.getName(), logger, Level.INFO, "Hello {}", null, new Object[] {"World"}),
+                new LoggingEvent(Logger.class.getName(), logger, Level.DEBUG, "Caf\u00E9 \u2603 \uD83D\uDE00", null, null),
+                new LoggingEvent(Logger.class.getName(), root, Level.WARN, "{} of {}", null, new Object[] {1, 2}),
+                new LoggingEvent(Logger.class.getName(), logger, Level.ERROR, "Failed",
+                        new IllegalStateException("Broken", new RuntimeException("Cause")), null));
+    }
+
+    @Test
+    void encode_shouldMatchThePatternEncoder() {
+        for (final Encoders encoders : Encoders.values()) {
+            final Encoder<ILoggingEvent> pattern = encoders.getEncoder();
+            final PrecompiledEncoder precompiled = encoders.getPrecompiledEncoder();
+            for (final ILoggingEvent event : events()) {
+                assertThat(precompiled.encode(event))
+                        .as("%s: %s", encoders, event.getMessage())
+                        .isEqualTo(pattern.encode(event));
+            }
+        }
+    }
+
+    @Test
+    void encode_shouldNotCorruptTheEventWhenAnArgumentLogs() {
+        final ByteArrayOutputStream innerOutput = new ByteArrayOutputStream();
+        final Logger inner = LoggingManager.getContext().getLogger("com.jwcomptech.commons.tests.logging.Inner");
+        inner.setAdditive(false);
+        inner.setLevel(Level.INFO);
+        final OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(LoggingManager.getContext());
+        appender.setEncoder(LoggingManager.createNewPrecompiledEncoder(PrecompiledEncoder.Format.BASIC));
+        appender.setOutputStream(innerOutput);
+        appender.start();
+        inner.addAppender(appender);
+        try {
+            final Object argument = new Object() {
+                @Override
+                public String toString() {
+                    inner.info("Inner message");
+                    return "argument";
+                }
+            };
+            final Logger outer = LoggingManager.getContext().getLogger("com.jwcomptech.commons.tests.logging.Outer");
+            final ILoggingEvent event = new LoggingEvent(Logger.class.getName(), outer, Level.INFO,
+                    "Outer {} message", null, new Object[] {argument});
+
+            final byte[] bytes = LoggingManager.createNewPrecompiledEncoder(PrecompiledEncoder.Format.LIMITED).encode(event);
+            assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("Outer argument message" + System.lineSeparator());
+            assertThat(innerOutput.toString(StandardCharsets.UTF_8)).endsWith("Inner - Inner message" + System.lineSeparator());
+        } finally {
+            inner.detachAppender(appender);
+            appender.stop();
+        }
+    }
+}
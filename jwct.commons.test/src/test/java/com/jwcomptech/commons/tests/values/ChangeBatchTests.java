@@ -0,0 +1,176 @@
+package com.jwcomptech.commons.tests.values;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.values.ChangeBatch;
+import com.jwcomptech.commons.values.IntChangeListener;
+import com.jwcomptech.commons.values.IntegerValue;
+import com.jwcomptech.commons.values.LongValue;
+import com.jwcomptech.commons.values.MutableStringValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ChangeBatchTests {
+
+    @Test
+    void set_shouldNotifyObservableValueListeners() {
+        final MutableStringValue value = MutableStringValue.of("a");
+        final List<String> changes = new ArrayList<>();
+        value.addListener((oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+        value.set("b");
+        value.set("b");
+        assertThat(changes).containsExactly("a->b");
+    }
+
+    @Test
+    void set_shouldNotifyNumberValueListeners() {
+        final LongValue value = LongValue.of(1L);
+        final List<String> changes = new ArrayList<>();
+        value.addListener((oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+        value.set(2L);
+        value.set(2L);
+        assertThat(changes).containsExactly("1->2");
+    }
+
+    @Test
+    void close_shouldMergeFirstOldValueWithLastNewValue() {
+        final IntegerValue value = IntegerValue.of(1);
+        final List<String> changes = new ArrayList<>();
+        final IntChangeListener listener = (oldValue, newValue) -> changes.add(oldValue + "->" + newValue);
+        value.addListener(listener);
+        try (ChangeBatch ignored = value.batch()) {
+            value.set(2);
+            value.increment();
+            value.set(4);
+            assertThat(changes).isEmpty();
+        }
+        assertThat(changes).containsExactly("1->4");
+    }
+
+    @Test
+    void close_shouldDeliverInTheOrderValuesWereFirstChanged() {
+        final MutableStringValue first = MutableStringValue.of("a");
+        final IntegerValue second = IntegerValue.of(0);
+        final List<String> changes = new ArrayList<>();
+        first.addListener((oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+        second.addListener((final int oldValue, final int newValue) -> changes.add(oldValue + "->" + newValue));
+        try (ChangeBatch ignored = ChangeBatch.begin()) {
+            first.set("b");
+            second.set(1);
+            first.set("c");
+        }
+        assertThat(changes).containsExactly("a->c", "0->1");
+    }
+
+    @Test
+    void close_shouldDropValuesThatEndUnchanged() {
+        final MutableStringValue text = MutableStringValue.of("a");
+        final IntegerValue number = IntegerValue.of(5);
+        final List<String> changes = new ArrayList<>();
+        text.addListener((oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+        number.addListener((final int oldValue, final int newValue) -> changes.add(oldValue + "->" + newValue));
+        try (ChangeBatch ignored = ChangeBatch.begin()) {
+            text.set("b");
+            text.set("a");
+            number.increment();
+            number.decrement();
+        }
+        assertThat(changes).isEmpty();
+    }
+
+    @Test
+    void close_shouldOnlyDeliverWhenTheOutermostBatchIsClosed() {
+        final IntegerValue value = IntegerValue.of(0);
+        final List<String> changes = new ArrayList<>();
+        value.addListener((final int oldValue, final int newValue) -> changes.add(oldValue + "->" + newValue));
+        try (ChangeBatch outer = ChangeBatch.begin()) {
+            try (ChangeBatch inner = value.batch()) {
+                assertThat(inner).isSameAs(outer);
+                value.set(1);
+            }
+            assertThat(changes).isEmpty();
+            assertThat(ChangeBatch.isOpenOnCurrentThread()).isTrue();
+            value.set(2);
+        }
+        assertThat(ChangeBatch.isOpenOnCurrentThread()).isFalse();
+        assertThat(changes).containsExactly("0->2");
+    }
+
+    @Test
+    void close_shouldDeliverEveryChangeAndCollectListenerExceptions() {
+        final MutableStringValue first = MutableStringValue.of("a");
+        final MutableStringValue second = MutableStringValue.of("a");
+        final MutableStringValue third = MutableStringValue.of("a");
+        final List<String> changes = new ArrayList<>();
+        first.addListener((oldValue, newValue) -> { throw new IllegalStateException("first"); });
+        second.addListener((oldValue, newValue) -> { throw new IllegalArgumentException("second"); });
+        third.addListener((oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+
+        final ChangeBatch batch = ChangeBatch.begin();
+        first.set("b");
+        second.set("b");
+        third.set("b");
+        assertThatThrownBy(batch::close)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("first")
+                .satisfies(e -> assertThat(e.getSuppressed())
+                        .singleElement()
+                        .isInstanceOf(IllegalArgumentException.class));
+        assertThat(changes).containsExactly("a->b");
+        assertThat(ChangeBatch.isOpenOnCurrentThread()).isFalse();
+    }
+
+    @Test
+    void close_shouldThrowOnAnotherThread() {
+        final IntegerValue value = IntegerValue.of(0);
+        final List<String> changes = new ArrayList<>();
+        value.addListener((final int oldValue, final int newValue) -> changes.add(oldValue + "->" + newValue));
+        final ChangeBatch batch = ChangeBatch.begin();
+        try {
+            value.set(1);
+            assertThatThrownBy(() -> CompletableFuture.runAsync(batch::close).join())
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(changes).isEmpty();
+        } finally {
+            batch.close();
+        }
+        assertThat(changes).containsExactly("0->1");
+    }
+
+    @Test
+    void changes_shouldNotifyImmediatelyOnOtherThreads() {
+        final IntegerValue value = IntegerValue.of(0);
+        final List<String> changes = new ArrayList<>();
+        value.addListener((final int oldValue, final int newValue) -> changes.add(oldValue + "->" + newValue));
+        try (ChangeBatch ignored = ChangeBatch.begin()) {
+            CompletableFuture.runAsync(() -> value.set(1)).join();
+            assertThat(changes).containsExactly("0->1");
+        }
+        assertThat(changes).containsExactly("0->1");
+    }
+}
@@ -0,0 +1,140 @@
+package com.jwcomptech.commons.tests.values;
+
+/*-
+ * #%L
+ * JWCT Commons
+ * %%
+ * Copyright (C) 2025 JWCompTech
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.jwcomptech.commons.values.StringValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StringValueTests {
+    /** Characters whose case folding is easy to get wrong, mixed with plain letters. */
+    private static final String ALPHABET = "abkKsSiI\u00DF\u1E9E\u212A\u017F\u0131\u0130"
+            + "\u00B5\u03BC\u039C\u00FF\u0178\u00E9\u00C9\u00E6\u00C6 .\u0100\u0101";
+
+    /** The regionMatches loop that indexOfIgnoreCase used before the Latin-1 search. */
+    private static int referenceIndexOfIgnoreCase(final String value, final CharSequence searchStr, final int startPos) {
+        final String search = searchStr.toString();
+        final int start = Math.max(startPos, 0);
+        final int endLimit = value.length() - search.length() + 1;
+        if (start > endLimit) return -1;
+        if (search.isEmpty()) return start;
+        for (int i = start; i < endLimit; i++) {
+            if (value.regionMatches(true, i, search, 0, search.length())) return i;
+        }
+        return -1;
+    }
+
+    private static void assertSameAsReference(final String value, final CharSequence searchStr, final int startPos) {
+        assertThat(StringValue.of(value).indexOfIgnoreCaseInt(searchStr, startPos))
+                .as("indexOfIgnoreCase(\"%s\", %d) [value = \"%s\"]", searchStr, startPos, value)
+                .isEqualTo(referenceIndexOfIgnoreCase(value, searchStr, startPos));
+    }
+
+    @Test
+    void indexOfIgnoreCase_shouldMatchDocumentedExamples() {
+        final StringValue value = StringValue.of("aabaabaa");
+        assertThat(value.indexOfIgnoreCaseInt(null)).isEqualTo(-1);
+        assertThat(value.indexOfIgnoreCaseInt("A", 0)).isZero();
+        assertThat(value.indexOfIgnoreCaseInt("B", 0)).isEqualTo(2);
+        assertThat(value.indexOfIgnoreCaseInt("AB", 0)).isEqualTo(1);
+        assertThat(value.indexOfIgnoreCaseInt("B", 3)).isEqualTo(5);
+        assertThat(value.indexOfIgnoreCaseInt("B", 9)).isEqualTo(-1);
+        assertThat(value.indexOfIgnoreCaseInt("B", -1)).isEqualTo(2);
+        assertThat(value.indexOfIgnoreCaseInt("", 2)).isEqualTo(2);
+        assertThat(StringValue.of("abc").indexOfIgnoreCaseInt("", 9)).isEqualTo(-1);
+        assertThat(value.indexOfIgnoreCase("AB").get()).isEqualTo(1);
+    }
+
+    @Test
+    void indexOfIgnoreCase_shouldMatchCharactersFoldingIntoLatin1() {
+        //Kelvin sign, long s, dotless i and capital dotted I
+        assertThat(StringValue.of("ok\u212Ay").indexOfIgnoreCaseInt("KK")).isEqualTo(1);
+        assertThat(StringValue.of("ba\u017F\u017Fo").indexOfIgnoreCaseInt("ss")).isEqualTo(2);
+        assertThat(StringValue.of("l\u0131ne").indexOfIgnoreCaseInt("LINE")).isZero();
+        assertThat(StringValue.of("\u0130d").indexOfIgnoreCaseInt("id")).isZero();
+        //Micro sign folds to the Greek small letter mu, y with diaeresis to its capital outside Latin-1
+        assertThat(StringValue.of("x\u03BCm").indexOfIgnoreCaseInt("\u00B5M")).isEqualTo(1);
+        assertThat(StringValue.of("x\u039Cm").indexOfIgnoreCaseInt("\u00B5m")).isEqualTo(1);
+        assertThat(StringValue.of("\u0178es").indexOfIgnoreCaseInt("\u00FFES")).isZero();
+        assertThat(StringValue.of("\u00FFes").indexOfIgnoreCaseInt("\u0178ES")).isZero();
+    }
+
+    @Test
+    void indexOfIgnoreCase_shouldMatchReferenceForEveryCharacterPair() {
+        final String[] needles = new String[256];
+        for (char c = 0; c < needles.length; c++) {
+            needles[c] = String.valueOf(c);
+        }
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            final String value = String.valueOf((char) c);
+            final StringValue stringValue = StringValue.of(value);
+            for (final String needle : needles) {
+                final int expected = referenceIndexOfIgnoreCase(value, needle, 0);
+                if (stringValue.indexOfIgnoreCaseInt(needle) != expected) {
+                    fail("indexOfIgnoreCase(U+%04X) [value = U+%04X] was not %d", (int) needle.charAt(0), c, expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    void indexOfIgnoreCase_shouldMatchReferenceForLongNeedles() {
+        final String needle = "ab".repeat(150) + "\u00B5X";
+        final String value = "AB".repeat(200) + "\u039Cx" + "ab".repeat(10);
+        assertThat(needle.length()).isGreaterThan(255);
+        assertSameAsReference(value, needle, 0);
+        assertSameAsReference(value, needle, 101);
+        assertSameAsReference(value, needle.substring(1), 0);
+        assertThat(StringValue.of(value).indexOfIgnoreCaseInt(needle)).isEqualTo(100);
+    }
+
+    @Test
+    void indexOfIgnoreCase_shouldMatchReferenceForCharSequenceNeedles() {
+        final String value = "The \u212Aelvin \u017Fcale";
+        assertSameAsReference(value, new StringBuilder("kelvin"), 0);
+        assertSameAsReference(value, new StringBuilder("SCALE"), 3);
+        assertThat(StringValue.of(value).indexOfIgnoreCaseInt(new StringBuilder("KELVIN SCALE"))).isEqualTo(4);
+    }
+
+    @Test
+    void indexOfIgnoreCase_shouldMatchReferenceForRandomInput() {
+        final Random random = new Random(42);
+        for (int n = 0; n < 100_000; n++) {
+            final String value = randomString(random, random.nextInt(40));
+            final String needle = randomString(random, random.nextInt(6));
+            final CharSequence searchStr = random.nextBoolean() ? needle : new StringBuilder(needle);
+            assertSameAsReference(value, searchStr, random.nextInt(value.length() + 3) - 1);
+        }
+    }
+
+    private static String randomString(final Random random, final int length) {
+        final StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+}
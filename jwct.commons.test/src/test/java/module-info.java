@@ -20,10 +20,16 @@
  * #L%
  */
 module jwct.commons.test {
+    requires ch.qos.logback.classic;
+    requires ch.qos.logback.core;
+    requires jmh.core;
     requires jwct.commons.core;
     requires org.assertj.core;
     requires org.junit.jupiter.api;
     requires org.junit.jupiter.engine;
+    requires org.slf4j;
 
+    opens com.jwcomptech.commons.tests.logging to org.junit.platform.commons;
     opens com.jwcomptech.commons.tests.validators to org.junit.platform.commons;
+    opens com.jwcomptech.commons.tests.values to org.junit.platform.commons;
 }